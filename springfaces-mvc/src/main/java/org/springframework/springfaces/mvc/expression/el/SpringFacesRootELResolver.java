@@ -0,0 +1,224 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.mvc.expression.el;
+
+import java.beans.FeatureDescriptor;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.el.ELContext;
+import javax.el.ELResolver;
+import javax.faces.component.UIViewRoot;
+import javax.faces.context.FacesContext;
+
+import org.springframework.springfaces.mvc.model.SpringFacesModel;
+import org.springframework.springfaces.mvc.model.SpringFacesModelHolder;
+import org.springframework.util.Assert;
+
+/**
+ * Unified EL {@link ELResolver} that resolves top-level identifiers from Spring Faces MVC. Spring beans, model values and
+ * implicit objects are supported by delegating to {@link SpringFacesBeanELResolver}, {@link SpringFacesModelELResolver}
+ * and {@link ImplicitSpringFacesELResolver} respectively.
+ * <p>
+ * The resolver that handles an identifier is recorded in a per-request index so that subsequent lookups require a
+ * single hash lookup. Identifiers that are not handled by any resolver are also recorded, stamped with the
+ * {@link SpringFacesModel#getVersion() version} of the model, so that they can fall through immediately until a value
+ * is added to the model later in the request. The index is discarded if the {@link UIViewRoot} changes.
+ * 
+ * @author Phillip Webb
+ */
+public class SpringFacesRootELResolver extends ELResolver {
+
+	private static final String INDEX_ATTRIBUTE = SpringFacesRootELResolver.class.getName() + ".INDEX";
+
+	private final List<ELResolver> resolvers;
+
+	/**
+	 * Create a new {@link SpringFacesRootELResolver} instance.
+	 */
+	public SpringFacesRootELResolver() {
+		this(new SpringFacesBeanELResolver(), new SpringFacesModelELResolver(), new ImplicitSpringFacesELResolver());
+	}
+
+	/**
+	 * Create a new {@link SpringFacesRootELResolver} instance with the specified resolvers. Resolvers must only handle
+	 * properties with a <tt>null</tt> base.
+	 * @param resolvers the resolvers, in the order that they should be consulted
+	 */
+	SpringFacesRootELResolver(ELResolver... resolvers) {
+		Assert.notNull(resolvers, "Resolvers must not be null");
+		this.resolvers = Arrays.asList(resolvers);
+	}
+
+	@Override
+	public Object getValue(ELContext context, Object base, Object property) {
+		if (base != null || !(property instanceof String)) {
+			return null;
+		}
+		Index index = getIndex(context);
+		if (index == null) {
+			return resolveValue(context, property, null);
+		}
+		ELResolver source = index.get(property);
+		if (source != null) {
+			Object value = source.getValue(context, null, property);
+			if (context.isPropertyResolved()) {
+				return value;
+			}
+		} else if (index.isUnresolved((String) property)) {
+			return null;
+		}
+		return resolveValue(context, property, index);
+	}
+
+	private Object resolveValue(ELContext context, Object property, Index index) {
+		for (ELResolver resolver : this.resolvers) {
+			Object value = resolver.getValue(context, null, property);
+			if (context.isPropertyResolved()) {
+				if (index != null) {
+					index.put((String) property, resolver);
+				}
+				return value;
+			}
+		}
+		if (index != null) {
+			index.addUnresolved((String) property);
+		}
+		return null;
+	}
+
+	private Index getIndex(ELContext context) {
+		FacesContext facesContext = (FacesContext) context.getContext(FacesContext.class);
+		if (facesContext == null) {
+			facesContext = FacesContext.getCurrentInstance();
+		}
+		if (facesContext == null) {
+			return null;
+		}
+		Map<Object, Object> attributes = facesContext.getAttributes();
+		Index index = (Index) attributes.get(INDEX_ATTRIBUTE);
+		UIViewRoot viewRoot = facesContext.getViewRoot();
+		if (index == null || index.getViewRoot() != viewRoot) {
+			index = new Index(viewRoot);
+			attributes.put(INDEX_ATTRIBUTE, index);
+		}
+		return index;
+	}
+
+	@Override
+	public Class<?> getType(ELContext context, Object base, Object property) {
+		if (base == null) {
+			for (ELResolver resolver : this.resolvers) {
+				Class<?> type = resolver.getType(context, base, property);
+				if (context.isPropertyResolved()) {
+					return type;
+				}
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void setValue(ELContext context, Object base, Object property, Object value) {
+		if (base == null) {
+			for (ELResolver resolver : this.resolvers) {
+				resolver.setValue(context, base, property, value);
+				if (context.isPropertyResolved()) {
+					return;
+				}
+			}
+		}
+	}
+
+	@Override
+	public boolean isReadOnly(ELContext context, Object base, Object property) {
+		if (base == null) {
+			for (ELResolver resolver : this.resolvers) {
+				boolean readOnly = resolver.isReadOnly(context, base, property);
+				if (context.isPropertyResolved()) {
+					return readOnly;
+				}
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public Iterator<FeatureDescriptor> getFeatureDescriptors(ELContext context, Object base) {
+		return null;
+	}
+
+	@Override
+	public Class<?> getCommonPropertyType(ELContext context, Object base) {
+		if (base == null) {
+			return Object.class;
+		}
+		return null;
+	}
+
+	/**
+	 * Per-request index of identifier to the resolver that handles it. Identifiers that are not handled by any resolver
+	 * are held separately and discarded whenever the model changes.
+	 */
+	private static class Index extends HashMap<String, ELResolver> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient UIViewRoot viewRoot;
+
+		private final Set<String> unresolved = new HashSet<String>();
+
+		private transient SpringFacesModel model;
+
+		private int modelVersion;
+
+		public Index(UIViewRoot viewRoot) {
+			this.viewRoot = viewRoot;
+		}
+
+		public UIViewRoot getViewRoot() {
+			return this.viewRoot;
+		}
+
+		public boolean isUnresolved(String property) {
+			if (this.unresolved.isEmpty()) {
+				return false;
+			}
+			discardUnresolvedIfModelChanged();
+			return this.unresolved.contains(property);
+		}
+
+		public void addUnresolved(String property) {
+			discardUnresolvedIfModelChanged();
+			this.unresolved.add(property);
+		}
+
+		private void discardUnresolvedIfModelChanged() {
+			SpringFacesModel model = SpringFacesModelHolder.getModel(this.viewRoot);
+			int modelVersion = (model == null ? 0 : model.getVersion());
+			if (model != this.model || modelVersion != this.modelVersion) {
+				this.unresolved.clear();
+				this.model = model;
+				this.modelVersion = modelVersion;
+			}
+		}
+	}
+}
@@ -31,6 +31,8 @@ public class SpringFacesModel extends ExtendedModelMap {
 
 	private static final long serialVersionUID = 1L;
 
+	private transient volatile int version;
+
 	/**
 	 * Create a new empty Spring Faces Model.
 	 */
@@ -45,4 +47,38 @@ public class SpringFacesModel extends ExtendedModelMap {
 		Assert.notNull(source, "Source must not be null");
 		putAll(source);
 	}
+
+	@Override
+	public Object put(String key, Object value) {
+		this.version++;
+		return super.put(key, value);
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends Object> map) {
+		this.version++;
+		super.putAll(map);
+	}
+
+	@Override
+	public Object remove(Object key) {
+		this.version++;
+		return super.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		this.version++;
+		super.clear();
+	}
+
+	/**
+	 * Returns a version number that changes whenever the model is changed using {@link #put}, {@link #putAll},
+	 * {@link #remove} or {@link #clear}. The version can be used to determine if a previous lookup against the model is
+	 * still valid. Versions are not serialized and are only meaningful for the same model instance.
+	 * @return the version of the model
+	 */
+	public int getVersion() {
+		return this.version;
+	}
 }
@@ -17,6 +17,7 @@ package org.springframework.springfaces.mvc.model;
 
 import java.util.Map;
 
+import javax.faces.component.TransientStateHelper;
 import javax.faces.component.UIComponent;
 import javax.faces.component.UIComponentBase;
 import javax.faces.component.UIViewRoot;
@@ -39,6 +40,12 @@ public class SpringFacesModelHolder extends UIComponentBase {
 	 */
 	public static final String COMPONENT_ID = "SpringFacesModelHolder";
 
+	/**
+	 * Key used to cache the holder in the {@link UIViewRoot#getTransientStateHelper() transient state} of the view
+	 * root.
+	 */
+	private static final String HOLDER_KEY = SpringFacesModelHolder.class.getName() + ".HOLDER";
+
 	private boolean transientValue;
 
 	private SpringFacesModel model;
@@ -121,18 +128,40 @@ public class SpringFacesModelHolder extends UIComponentBase {
 		Assert.notNull(viewRoot, "ViewRoot must not be null");
 		SpringFacesModelHolder holder = new SpringFacesModelHolder(model);
 		viewRoot.getChildren().add(holder);
+		TransientStateHelper transientState = viewRoot.getTransientStateHelper();
+		if (transientState != null) {
+			transientState.putTransient(HOLDER_KEY, holder);
+		}
 		return holder.getModel();
 	}
 
 	/**
 	 * Utility method that can be used to obtain the {@link SpringFacesModel} from the holder component contained in the
-	 * specified viewRoot.
+	 * specified viewRoot. The holder component is cached in the transient state of the view root so that only the first
+	 * call needs to search the component tree.
 	 * @param viewRoot the viewRoot (can be null)
 	 * @return The model or <tt>null</tt> if there is no {@link SpringFacesModelHolder} or the holder does not contain a
 	 * model.
 	 */
 	public static SpringFacesModel getModel(UIViewRoot viewRoot) {
-		UIComponent component = (viewRoot == null ? null : viewRoot.findComponent(COMPONENT_ID));
-		return (component == null ? null : ((SpringFacesModelHolder) component).getModel());
+		SpringFacesModelHolder holder = (viewRoot == null ? null : getHolder(viewRoot));
+		return (holder == null ? null : holder.getModel());
+	}
+
+	private static SpringFacesModelHolder getHolder(UIViewRoot viewRoot) {
+		TransientStateHelper transientState = viewRoot.getTransientStateHelper();
+		Object holder = (transientState == null ? null : transientState.getTransient(HOLDER_KEY));
+		if (holder != null && ((UIComponent) holder).getParent() != viewRoot) {
+			// The cached holder has been removed from the view
+			holder = null;
+		}
+		if (holder == null) {
+			// Missing holders are not cached as they may be added when dynamic components are restored
+			holder = viewRoot.findComponent(COMPONENT_ID);
+			if (holder != null && transientState != null) {
+				transientState.putTransient(HOLDER_KEY, holder);
+			}
+		}
+		return (SpringFacesModelHolder) holder;
 	}
 }
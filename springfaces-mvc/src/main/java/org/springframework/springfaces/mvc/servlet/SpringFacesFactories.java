@@ -25,9 +25,7 @@ import javax.faces.render.ResponseStateManager;
 import org.springframework.context.ApplicationListener;
 import org.springframework.springfaces.FacesWrapperFactory;
 import org.springframework.springfaces.event.PostConstructApplicationSpringFacesEvent;
-import org.springframework.springfaces.mvc.expression.el.ImplicitSpringFacesELResolver;
-import org.springframework.springfaces.mvc.expression.el.SpringFacesBeanELResolver;
-import org.springframework.springfaces.mvc.expression.el.SpringFacesModelELResolver;
+import org.springframework.springfaces.mvc.expression.el.SpringFacesRootELResolver;
 import org.springframework.springfaces.mvc.internal.MvcNavigationActionListener;
 import org.springframework.springfaces.mvc.internal.MvcNavigationHandler;
 import org.springframework.springfaces.mvc.internal.MvcNavigationSystemEventListener;
@@ -75,9 +73,7 @@ public class SpringFacesFactories implements FacesWrapperFactory<Object>,
 		}
 		if (CompositeELResolver.class.equals(typeClass)) {
 			CompositeELResolver compositeELResolver = (CompositeELResolver) delegate;
-			compositeELResolver.add(new SpringFacesBeanELResolver());
-			compositeELResolver.add(new SpringFacesModelELResolver());
-			compositeELResolver.add(new ImplicitSpringFacesELResolver());
+			compositeELResolver.add(new SpringFacesRootELResolver());
 		}
 		return null;
 	}
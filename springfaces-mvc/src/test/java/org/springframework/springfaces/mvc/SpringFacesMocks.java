@@ -42,8 +42,23 @@ public class SpringFacesMocks {
 	 * @return a {@link UIViewRoot} mock
 	 */
 	public static UIViewRoot mockUIViewRootWithModelSupport() {
-		UIViewRoot uiViewRoot = mock(UIViewRoot.class);
-		final List<UIComponent> children = new ArrayList<UIComponent>();
+		final UIViewRoot uiViewRoot = mock(UIViewRoot.class);
+		final List<UIComponent> children = new ArrayList<UIComponent>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public boolean add(UIComponent component) {
+				component.setParent(uiViewRoot);
+				return super.add(component);
+			}
+
+			@Override
+			public UIComponent remove(int index) {
+				UIComponent component = super.remove(index);
+				component.setParent(null);
+				return component;
+			}
+		};
 		given(uiViewRoot.getChildren()).willAnswer(new Answer<List<UIComponent>>() {
 			public List<UIComponent> answer(InvocationOnMock invocation) throws Throwable {
 				return children;
@@ -25,6 +25,8 @@ import org.springframework.springfaces.convert.SpringFacesConverterSupport;
 import org.springframework.springfaces.exceptionhandler.ObjectMessageExceptionHandler;
 import org.springframework.springfaces.exceptionhandler.SpringFacesExceptionHandlerSupport;
 import org.springframework.springfaces.expression.el.FacesStandardEvaluationContextPostProcessor;
+import org.springframework.springfaces.page.ui.PagedDataCache;
+import org.springframework.springfaces.selectitems.SelectItemsCache;
 import org.springframework.springfaces.validator.SpringFacesValidatorSupport;
 import org.springframework.web.context.support.StaticWebApplicationContext;
 
@@ -39,12 +41,14 @@ public class SpringFacesMvcNamespaceHandlerTest extends AbstractNamespaceTest {
 	public void shouldSetupIntegration() throws Exception {
 		StaticWebApplicationContext applicationContext = loadApplicationContext(new ClassPathResource(
 				"testSpringFacesMvcNamespace.xml", getClass()));
-		assertThat(applicationContext.getBeanFactory().getBeanDefinitionCount(), is(30));
+		assertThat(applicationContext.getBeanFactory().getBeanDefinitionCount(), is(32));
 		assertHasBean(applicationContext, SpringFacesIntegration.class);
 		assertHasBean(applicationContext, SpringFacesValidatorSupport.class);
 		assertHasBean(applicationContext, SpringFacesConverterSupport.class);
 		assertHasBean(applicationContext, SpringFacesExceptionHandlerSupport.class);
 		assertHasBean(applicationContext, ObjectMessageExceptionHandler.class);
 		assertHasBean(applicationContext, FacesStandardEvaluationContextPostProcessor.class);
+		assertHasBean(applicationContext, SelectItemsCache.class);
+		assertHasBean(applicationContext, PagedDataCache.class);
 	}
 }
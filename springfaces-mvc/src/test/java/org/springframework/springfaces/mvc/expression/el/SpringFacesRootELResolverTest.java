@@ -0,0 +1,184 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.mvc.expression.el;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.el.ELContext;
+import javax.el.ELResolver;
+import javax.faces.component.UIViewRoot;
+import javax.faces.context.FacesContext;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.springfaces.mvc.FacesContextSetter;
+import org.springframework.springfaces.mvc.MockELContext;
+import org.springframework.springfaces.mvc.model.SpringFacesModelHolder;
+
+/**
+ * Tests for {@link SpringFacesRootELResolver}.
+ * 
+ * @author Phillip Webb
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SpringFacesRootELResolverTest {
+
+	@Mock
+	private ELResolver resolver1;
+
+	@Mock
+	private ELResolver resolver2;
+
+	@Mock
+	private FacesContext facesContext;
+
+	@Mock
+	private UIViewRoot viewRoot;
+
+	private ELContext context = new MockELContext();
+
+	private SpringFacesRootELResolver resolver;
+
+	@Before
+	public void setup() {
+		this.resolver = new SpringFacesRootELResolver(this.resolver1, this.resolver2);
+		Map<Object, Object> attributes = new HashMap<Object, Object>();
+		given(this.facesContext.getAttributes()).willReturn(attributes);
+		given(this.facesContext.getViewRoot()).willReturn(this.viewRoot);
+		given(this.resolver2.getValue(any(ELContext.class), isNull(), eq("b"))).willAnswer(resolve("vb"));
+		FacesContextSetter.setCurrentInstance(this.facesContext);
+	}
+
+	@After
+	public void cleanup() {
+		FacesContextSetter.setCurrentInstance(null);
+	}
+
+	private Answer<Object> resolve(final Object value) {
+		return new Answer<Object>() {
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				((ELContext) invocation.getArguments()[0]).setPropertyResolved(true);
+				return value;
+			}
+		};
+	}
+
+	@Test
+	public void shouldResolveFromResolvers() throws Exception {
+		Object value = this.resolver.getValue(this.context, null, "b");
+		assertThat(this.context.isPropertyResolved(), is(true));
+		assertThat(value, is(equalTo((Object) "vb")));
+		verify(this.resolver1).getValue(this.context, null, "b");
+	}
+
+	@Test
+	public void shouldIndexResolvedIdentifiers() throws Exception {
+		this.resolver.getValue(this.context, null, "b");
+		this.context.setPropertyResolved(false);
+		Object value = this.resolver.getValue(this.context, null, "b");
+		assertThat(value, is(equalTo((Object) "vb")));
+		verify(this.resolver1, times(1)).getValue(this.context, null, "b");
+		verify(this.resolver2, times(2)).getValue(this.context, null, "b");
+	}
+
+	@Test
+	public void shouldIndexUnresolvedIdentifiers() throws Exception {
+		this.resolver.getValue(this.context, null, "missing");
+		Object value = this.resolver.getValue(this.context, null, "missing");
+		assertThat(this.context.isPropertyResolved(), is(false));
+		assertThat(value, is(nullValue()));
+		verify(this.resolver1, times(1)).getValue(this.context, null, "missing");
+		verify(this.resolver2, times(1)).getValue(this.context, null, "missing");
+	}
+
+	@Test
+	public void shouldRecheckUnresolvedIdentifiersWhenModelChanges() throws Exception {
+		SpringFacesModelHolder holder = new SpringFacesModelHolder(new HashMap<String, Object>());
+		given(this.viewRoot.findComponent(SpringFacesModelHolder.COMPONENT_ID)).willReturn(holder);
+		Object value = this.resolver.getValue(this.context, null, "late");
+		assertThat(value, is(nullValue()));
+		holder.getModel().addAttribute("late", "vl");
+		given(this.resolver2.getValue(any(ELContext.class), isNull(), eq("late"))).willAnswer(resolve("vl"));
+		value = this.resolver.getValue(this.context, null, "late");
+		assertThat(this.context.isPropertyResolved(), is(true));
+		assertThat(value, is(equalTo((Object) "vl")));
+		verify(this.resolver1, times(2)).getValue(this.context, null, "late");
+	}
+
+	@Test
+	public void shouldDiscardIndexWhenViewRootChanges() throws Exception {
+		this.resolver.getValue(this.context, null, "b");
+		given(this.facesContext.getViewRoot()).willReturn(mock(UIViewRoot.class));
+		this.context.setPropertyResolved(false);
+		this.resolver.getValue(this.context, null, "b");
+		verify(this.resolver1, times(2)).getValue(this.context, null, "b");
+	}
+
+	@Test
+	public void shouldResolveWithoutFacesContext() throws Exception {
+		FacesContextSetter.setCurrentInstance(null);
+		Object value = this.resolver.getValue(this.context, null, "b");
+		assertThat(value, is(equalTo((Object) "vb")));
+		this.resolver.getValue(this.context, null, "missing");
+		this.resolver.getValue(this.context, null, "missing");
+		verify(this.resolver1, times(2)).getValue(this.context, null, "missing");
+	}
+
+	@Test
+	public void shouldIgnoreNonNullBase() throws Exception {
+		Object value = this.resolver.getValue(this.context, new Object(), "b");
+		assertThat(this.context.isPropertyResolved(), is(false));
+		assertThat(value, is(nullValue()));
+		verifyZeroInteractions(this.resolver1, this.resolver2);
+	}
+
+	@Test
+	public void shouldDelegateGetType() throws Exception {
+		given(this.resolver2.getType(any(ELContext.class), isNull(), eq("b"))).willAnswer(resolve(String.class));
+		Class<?> type = this.resolver.getType(this.context, null, "b");
+		assertThat(type, is(equalTo((Object) String.class)));
+		verify(this.resolver1).getType(this.context, null, "b");
+	}
+
+	@Test
+	public void shouldDelegateSetValue() throws Exception {
+		this.resolver.setValue(this.context, null, "b", "value");
+		verify(this.resolver1).setValue(this.context, null, "b", "value");
+		verify(this.resolver2).setValue(this.context, null, "b", "value");
+		this.resolver.setValue(this.context, new Object(), "b", "value");
+		verify(this.resolver1, times(1)).setValue(any(ELContext.class), any(), eq("b"), eq("value"));
+	}
+}
@@ -20,14 +20,21 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.springfaces.mvc.SpringFacesMocks.mockUIViewRootWithModelSupport;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.faces.component.TransientStateHelper;
 import javax.faces.component.UIComponent;
 import javax.faces.component.UIViewRoot;
 import javax.faces.context.FacesContext;
@@ -35,7 +42,9 @@ import javax.faces.context.FacesContext;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 
 /**
  * Tests for {@link SpringFacesModelHolder}.
@@ -129,4 +138,55 @@ public class SpringFacesModelHolderTest {
 		SpringFacesModelHolder.attach(this.context, viewRoot, m);
 		assertThat(SpringFacesModelHolder.getModel(viewRoot).get("k"), is(equalTo((Object) "v")));
 	}
+
+	@Test
+	public void shouldCacheHolderWhenAttached() throws Exception {
+		UIViewRoot viewRoot = mockUIViewRootWithModelSupport();
+		TransientStateHelper transientStateHelper = mockTransientStateHelper();
+		given(viewRoot.getTransientStateHelper()).willReturn(transientStateHelper);
+		Map<String, String> m = Collections.singletonMap("k", "v");
+		SpringFacesModelHolder.attach(this.context, viewRoot, m);
+		assertThat(SpringFacesModelHolder.getModel(viewRoot).get("k"), is(equalTo((Object) "v")));
+		verify(viewRoot, never()).findComponent(anyString());
+	}
+
+	@Test
+	public void shouldCacheFoundHolder() throws Exception {
+		UIViewRoot viewRoot = mockUIViewRootWithModelSupport();
+		TransientStateHelper transientStateHelper = mockTransientStateHelper();
+		given(viewRoot.getTransientStateHelper()).willReturn(transientStateHelper);
+		Map<String, String> m = Collections.singletonMap("k", "v");
+		viewRoot.getChildren().add(new SpringFacesModelHolder(m));
+		assertThat(SpringFacesModelHolder.getModel(viewRoot).get("k"), is(equalTo((Object) "v")));
+		assertThat(SpringFacesModelHolder.getModel(viewRoot).get("k"), is(equalTo((Object) "v")));
+		verify(viewRoot, times(1)).findComponent(anyString());
+	}
+
+	@Test
+	public void shouldFindHolderAgainWhenCachedHolderIsRemoved() throws Exception {
+		UIViewRoot viewRoot = mockUIViewRootWithModelSupport();
+		TransientStateHelper transientStateHelper = mockTransientStateHelper();
+		given(viewRoot.getTransientStateHelper()).willReturn(transientStateHelper);
+		SpringFacesModelHolder.attach(this.context, viewRoot, Collections.singletonMap("k", "v1"));
+		viewRoot.getChildren().remove(0);
+		viewRoot.getChildren().add(new SpringFacesModelHolder(Collections.singletonMap("k", "v2")));
+		assertThat(SpringFacesModelHolder.getModel(viewRoot).get("k"), is(equalTo((Object) "v2")));
+		verify(viewRoot, times(1)).findComponent(anyString());
+	}
+
+	private TransientStateHelper mockTransientStateHelper() {
+		TransientStateHelper transientStateHelper = mock(TransientStateHelper.class);
+		final Map<Object, Object> state = new HashMap<Object, Object>();
+		given(transientStateHelper.getTransient(any())).willAnswer(new Answer<Object>() {
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				return state.get(invocation.getArguments()[0]);
+			}
+		});
+		given(transientStateHelper.putTransient(any(), any())).willAnswer(new Answer<Object>() {
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				return state.put(invocation.getArguments()[0], invocation.getArguments()[1]);
+			}
+		});
+		return transientStateHelper;
+	}
 }
@@ -18,6 +18,7 @@ package org.springframework.springfaces.mvc.model;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertThat;
 
 import java.util.HashMap;
@@ -63,4 +64,18 @@ public class SpringFacesModelTest {
 		assertThat(model, is(instanceOf(Model.class)));
 		assertThat(model, is(instanceOf(Map.class)));
 	}
+
+	@Test
+	public void shouldChangeVersionWhenModified() throws Exception {
+		SpringFacesModel model = new SpringFacesModel();
+		int version = model.getVersion();
+		model.addAttribute("k", "v");
+		assertThat(model.getVersion(), is(not(version)));
+		version = model.getVersion();
+		model.remove("k");
+		assertThat(model.getVersion(), is(not(version)));
+		version = model.getVersion();
+		model.get("k");
+		assertThat(model.getVersion(), is(version));
+	}
 }
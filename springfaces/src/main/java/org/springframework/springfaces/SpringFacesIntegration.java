@@ -16,6 +16,9 @@
 package org.springframework.springfaces;
 
 import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.faces.application.Application;
 import javax.faces.context.ExternalContext;
@@ -35,6 +38,7 @@ import org.springframework.web.context.support.WebApplicationObjectSupport;
  * 
  * @author Phillip Webb
  * @see FacesWrapperFactory
+ * @see SpringFacesRefreshListener
  */
 public class SpringFacesIntegration extends WebApplicationObjectSupport implements
 		ApplicationListener<ContextRefreshedEvent> {
@@ -55,24 +59,84 @@ public class SpringFacesIntegration extends WebApplicationObjectSupport implemen
 	 */
 	private static final String APPLICATION_ATTRIBUTE = SpringFacesIntegration.class.getName() + ".APPLICATION";
 
+	/**
+	 * Source of refresh generations. Generations are unique across all {@link SpringFacesIntegration} instances.
+	 */
+	private static final AtomicLong GENERATIONS = new AtomicLong();
+
+	/**
+	 * The refresh generation, updated whenever the {@link WebApplicationContext} is refreshed or when this instance is
+	 * replaced by another {@link SpringFacesIntegration}.
+	 */
+	private volatile long refreshGeneration = GENERATIONS.incrementAndGet();
+
+	private final Set<SpringFacesRefreshListener> refreshListeners = new CopyOnWriteArraySet<SpringFacesRefreshListener>();
+
 	@Override
 	protected void initApplicationContext() throws BeansException {
+		Object previous = getServletContext().getAttribute(ATTRIBUTE);
 		getServletContext().setAttribute(ATTRIBUTE, this);
 		getServletContext().setAttribute(LAST_REFRESHED_DATE_ATTRIBUTE, new Date());
+		if (previous instanceof SpringFacesIntegration && previous != this) {
+			((SpringFacesIntegration) previous).refresh();
+		}
 	}
 
 	public void onApplicationEvent(ContextRefreshedEvent event) {
 		getServletContext().setAttribute(LAST_REFRESHED_DATE_ATTRIBUTE, new Date());
+		refresh();
 		Application application = (Application) getServletContext().getAttribute(APPLICATION_ATTRIBUTE);
 		if (application != null) {
 			publishPostConstructApplicationEvent(application);
 		}
 	}
 
+	/**
+	 * Move to a new refresh generation and notify all registered listeners.
+	 */
+	private void refresh() {
+		this.refreshGeneration = GENERATIONS.incrementAndGet();
+		for (SpringFacesRefreshListener listener : this.refreshListeners) {
+			listener.onRefresh(this);
+		}
+	}
+
 	protected final void publishPostConstructApplicationEvent(Application application) {
 		getApplicationContext().publishEvent(new PostConstructApplicationSpringFacesEvent(application));
 	}
 
+	/**
+	 * Returns the refresh generation of this instance. A new, higher, generation is assigned each time the
+	 * {@link WebApplicationContext} is refreshed and when this instance is replaced by a newer
+	 * {@link SpringFacesIntegration}. Generations are never reused, even across instances. Values derived from the
+	 * {@link WebApplicationContext} can be cached along with the generation and considered stale when the generation
+	 * changes. This method is cheap enough to be called on every request.
+	 * @return the refresh generation
+	 * @see #addRefreshListener(SpringFacesRefreshListener)
+	 */
+	public long getRefreshGeneration() {
+		return this.refreshGeneration;
+	}
+
+	/**
+	 * Register a listener that will be notified whenever the refresh generation changes. Registering the same listener
+	 * more than once has no effect.
+	 * @param listener the listener to add
+	 * @see #removeRefreshListener(SpringFacesRefreshListener)
+	 */
+	public void addRefreshListener(SpringFacesRefreshListener listener) {
+		Assert.notNull(listener, "Listener must not be null");
+		this.refreshListeners.add(listener);
+	}
+
+	/**
+	 * Remove a previously {@link #addRefreshListener(SpringFacesRefreshListener) registered} listener.
+	 * @param listener the listener to remove
+	 */
+	public void removeRefreshListener(SpringFacesRefreshListener listener) {
+		this.refreshListeners.remove(listener);
+	}
+
 	/**
 	 * Determine if {@link SpringFacesIntegration} has been installed. This method will return <tt>true</tt> when a
 	 * {@link WebApplicationContext} containing a {@link SpringFacesIntegration} bean has been fully loaded.
@@ -110,7 +174,9 @@ public class SpringFacesIntegration extends WebApplicationObjectSupport implemen
 	 * installed}
 	 * @see #isInstalled(ServletContext)
 	 * @see #getLastRefreshedDate(ExternalContext)
+	 * @deprecated in favor of {@link #getRefreshGeneration(ServletContext)}
 	 */
+	@Deprecated
 	public static Date getLastRefreshedDate(ServletContext servletContext) {
 		Assert.notNull(servletContext, "ServletContext must not be null");
 		return getLastRefreshedDate(servletContext.getAttribute(LAST_REFRESHED_DATE_ATTRIBUTE));
@@ -125,7 +191,9 @@ public class SpringFacesIntegration extends WebApplicationObjectSupport implemen
 	 * installed}
 	 * @see #isInstalled(ExternalContext)
 	 * @see #getLastRefreshedDate(ServletContext)
+	 * @deprecated in favor of {@link #getRefreshGeneration(ExternalContext)}
 	 */
+	@Deprecated
 	public static Date getLastRefreshedDate(ExternalContext externalContext) {
 		Assert.notNull(externalContext, "ExternalContext must not be null");
 		return getLastRefreshedDate(externalContext.getApplicationMap().get(LAST_REFRESHED_DATE_ATTRIBUTE));
@@ -138,6 +206,32 @@ public class SpringFacesIntegration extends WebApplicationObjectSupport implemen
 		return (Date) lastRefreshDate;
 	}
 
+	/**
+	 * Determine the {@link #getRefreshGeneration() refresh generation} of the current {@link SpringFacesIntegration}.
+	 * @param servletContext the servlet context
+	 * @return the refresh generation
+	 * @throws IllegalStateException if {@link SpringFacesIntegration} is not {@link #isInstalled(ServletContext)
+	 * installed}
+	 * @see #isInstalled(ServletContext)
+	 * @see #getRefreshGeneration(ExternalContext)
+	 */
+	public static long getRefreshGeneration(ServletContext servletContext) {
+		return getCurrentInstance(servletContext).getRefreshGeneration();
+	}
+
+	/**
+	 * Determine the {@link #getRefreshGeneration() refresh generation} of the current {@link SpringFacesIntegration}.
+	 * @param externalContext the JSF external context
+	 * @return the refresh generation
+	 * @throws IllegalStateException if {@link SpringFacesIntegration} is not {@link #isInstalled(ExternalContext)
+	 * installed}
+	 * @see #isInstalled(ExternalContext)
+	 * @see #getRefreshGeneration(ServletContext)
+	 */
+	public static long getRefreshGeneration(ExternalContext externalContext) {
+		return getCurrentInstance(externalContext).getRefreshGeneration();
+	}
+
 	/**
 	 * Return the current {@link SpringFacesIntegration} instance registered for the give <tt>servletContext</tt>
 	 * @param servletContext the servlet context
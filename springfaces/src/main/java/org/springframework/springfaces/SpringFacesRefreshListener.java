@@ -0,0 +1,37 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces;
+
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Listener that can be {@link SpringFacesIntegration#addRefreshListener registered} with a
+ * {@link SpringFacesIntegration} in order to be notified when the {@link WebApplicationContext} is refreshed. Listeners
+ * are also notified when the {@link SpringFacesIntegration} is replaced by a newer instance. Listeners are typically
+ * used to eagerly discard cached data that has been derived from the application context.
+ * 
+ * @author Phillip Webb
+ * @see SpringFacesIntegration#getRefreshGeneration()
+ */
+public interface SpringFacesRefreshListener {
+
+	/**
+	 * Callback invoked after the {@link SpringFacesIntegration#getRefreshGeneration() refresh generation} has been
+	 * incremented.
+	 * @param springFacesIntegration the {@link SpringFacesIntegration} that has been refreshed or replaced
+	 */
+	void onRefresh(SpringFacesIntegration springFacesIntegration);
+}
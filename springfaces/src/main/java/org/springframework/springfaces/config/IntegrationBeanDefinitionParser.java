@@ -25,6 +25,8 @@ import org.springframework.springfaces.exceptionhandler.ObjectMessageExceptionHa
 import org.springframework.springfaces.exceptionhandler.SpringFacesExceptionHandlerSupport;
 import org.springframework.springfaces.expression.el.FacesStandardEvaluationContextPostProcessor;
 import org.springframework.springfaces.expression.spel.support.StandardEvaluationContextPostProcessorSupport;
+import org.springframework.springfaces.page.ui.PagedDataCache;
+import org.springframework.springfaces.selectitems.SelectItemsCache;
 import org.springframework.springfaces.validator.SpringFacesValidatorSupport;
 import org.w3c.dom.Element;
 
@@ -45,6 +47,8 @@ class IntegrationBeanDefinitionParser implements BeanDefinitionParser {
 				ObjectMessageExceptionHandler.class);
 		registerIfAttributeIsTrue(helper, "spring-expressions", StandardEvaluationContextPostProcessorSupport.class,
 				FacesStandardEvaluationContextPostProcessor.class);
+		registerIfAttributeIsTrue(helper, "select-items-cache", SelectItemsCache.class);
+		registerIfAttributeIsTrue(helper, "paged-data-cache", PagedDataCache.class);
 		parserContext.popAndRegisterContainingComponent();
 		return null;
 	}
@@ -30,6 +30,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.springfaces.FacesWrapperFactory;
 import org.springframework.springfaces.bean.ConditionalForClass;
 import org.springframework.springfaces.bean.ForClass;
@@ -54,7 +55,12 @@ public class SpringFacesConverterSupport implements FacesWrapperFactory<Applicat
 
 	private ApplicationContext applicationContext;
 
-	private HashMap<String, Object> converters;
+	private volatile HashMap<String, Object> converters;
+
+	/**
+	 * Index of the converter beans that apply to a given target class.
+	 */
+	private volatile ForClassFilter.Index<String, Object> convertersForClass;
 
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		this.applicationContext = applicationContext;
@@ -71,9 +77,20 @@ public class SpringFacesConverterSupport implements FacesWrapperFactory<Applicat
 	 * Collects all relevant spring beans to the converters map.
 	 */
 	private void collectConverterBeans() {
-		this.converters = new HashMap<String, Object>();
-		this.converters.putAll(beansOfType(this.applicationContext, FACES_CONVERTER_TYPE));
-		this.converters.putAll(beansOfType(this.applicationContext, CONVERTER_TYPE));
+		HashMap<String, Object> converters = new HashMap<String, Object>();
+		converters.putAll(beansOfType(this.applicationContext, FACES_CONVERTER_TYPE));
+		converters.putAll(beansOfType(this.applicationContext, CONVERTER_TYPE));
+		ForClassFilter.Index<String, Object> convertersForClass = FOR_CLASS_FILTER.index(converters);
+		for (Object converter : converters.values()) {
+			ForClass forClass = AnnotationUtils.findAnnotation(converter.getClass(), ForClass.class);
+			if (forClass != null) {
+				for (Class<?> targetClass : forClass.value()) {
+					convertersForClass.apply(targetClass);
+				}
+			}
+		}
+		this.converters = converters;
+		this.convertersForClass = convertersForClass;
 	}
 
 	/**
@@ -97,7 +114,7 @@ public class SpringFacesConverterSupport implements FacesWrapperFactory<Applicat
 	 * @return a converter or <tt>null</tt>
 	 */
 	private Converter createConverterBean(Class<?> targetClass) {
-		Set<String> beanIds = FOR_CLASS_FILTER.apply(this.converters, targetClass).keySet();
+		Set<String> beanIds = this.convertersForClass.apply(targetClass).keySet();
 		if (beanIds.isEmpty()) {
 			return null;
 		}
@@ -48,6 +48,9 @@ public class ObjectMessageExceptionHandler implements ExceptionHandler<Throwable
 		FacesContext facesContext = eventContext.getContext();
 		try {
 			String message = getMessage(exception, FacesUtils.getLocale(facesContext));
+			if (message == null) {
+				return false;
+			}
 			facesContext.addMessage(null, new FacesMessage(message));
 			return true;
 		} catch (NoSuchObjectMessageException e) {
@@ -55,8 +58,15 @@ public class ObjectMessageExceptionHandler implements ExceptionHandler<Throwable
 		}
 	}
 
+	/**
+	 * Returns the message for the given exception.
+	 * @param exception the exception
+	 * @param locale the locale
+	 * @return the message or <tt>null</tt> if the exception has no message
+	 * @throws NoSuchObjectMessageException if the exception has no message
+	 */
 	protected String getMessage(Throwable exception, Locale locale) {
-		return this.messageSource.getMessage(exception, null, locale);
+		return ObjectMessageSourceUtils.findMessage(this.messageSource, exception, null, locale);
 	}
 
 	public void setMessageSource(MessageSource messageSource) {
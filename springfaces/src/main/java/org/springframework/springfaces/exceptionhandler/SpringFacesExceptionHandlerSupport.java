@@ -19,8 +19,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.el.ELException;
 import javax.faces.FacesException;
@@ -37,6 +40,8 @@ import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.springfaces.FacesWrapperFactory;
+import org.springframework.springfaces.util.ConcurrentCache;
+import org.springframework.springfaces.util.OrderedMapEntryComparator;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
@@ -44,7 +49,8 @@ import org.springframework.util.ReflectionUtils;
  * {@link FacesWrapperFactory} for a JSF {@link javax.faces.context.ExceptionHandler} that offers extended Spring
  * support. All Spring Beans that implement {@link ExceptionHandler} with a matching generic type are considered. Beans
  * are ordered using {@link AnnotationAwareOrderComparator}, once the exception has been {@link ExceptionHandler#handle
- * handled} subsequent beans will not be called.
+ * handled} subsequent beans will not be called. The handlers that apply to each exception type are cached and the number
+ * of times that each handler is called can be obtained using {@link #getHandlerStatistics()}.
  * 
  * @author Phillip Webb
  */
@@ -61,9 +67,14 @@ public class SpringFacesExceptionHandlerSupport implements FacesWrapperFactory<j
 		EXCEPTIONS_TO_UNWRAP = Collections.unmodifiableSet(unwrappedExceptions);
 	}
 
+	/**
+	 * The maximum number of exception types that will have cached candidate handlers.
+	 */
+	private static final int CANDIDATES_CACHE_SIZE = 256;
+
 	private ApplicationContext applicationContext;
 
-	private List<ExceptionHandler> exceptionHandlers;
+	private volatile DispatchTable dispatchTable;
 
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		this.applicationContext = applicationContext;
@@ -77,9 +88,30 @@ public class SpringFacesExceptionHandlerSupport implements FacesWrapperFactory<j
 	}
 
 	private void collectExceptionHandlerBeans() {
-		this.exceptionHandlers = new ArrayList<ExceptionHandler>(BeanFactoryUtils.beansOfTypeIncludingAncestors(
-				this.applicationContext, ExceptionHandler.class, true, true).values());
-		Collections.sort(this.exceptionHandlers, new AnnotationAwareOrderComparator());
+		List<Map.Entry<String, ExceptionHandler>> beans = new ArrayList<Map.Entry<String, ExceptionHandler>>(
+				BeanFactoryUtils.beansOfTypeIncludingAncestors(this.applicationContext, ExceptionHandler.class, true,
+						true).entrySet());
+		Collections.sort(beans, new OrderedMapEntryComparator());
+		List<Handler> handlers = new ArrayList<Handler>(beans.size());
+		for (Map.Entry<String, ExceptionHandler> bean : beans) {
+			handlers.add(new Handler(bean.getKey(), bean.getValue()));
+		}
+		this.dispatchTable = new DispatchTable(handlers);
+	}
+
+	/**
+	 * Returns statistics for each {@link ExceptionHandler} bean, in the order that handlers are called. Statistics are
+	 * reset when the application context is refreshed.
+	 * @return a map of bean name to handler statistics
+	 */
+	public Map<String, HandlerStatistics> getHandlerStatistics() {
+		Map<String, HandlerStatistics> statistics = new LinkedHashMap<String, HandlerStatistics>();
+		if (this.dispatchTable != null) {
+			for (Handler handler : this.dispatchTable.getHandlers()) {
+				statistics.put(handler.getBeanName(), handler.getStatistics());
+			}
+		}
+		return Collections.unmodifiableMap(statistics);
 	}
 
 	public javax.faces.context.ExceptionHandler newWrapper(Class<?> typeClass,
@@ -116,21 +148,12 @@ public class SpringFacesExceptionHandlerSupport implements FacesWrapperFactory<j
 			super.handle();
 		}
 
-		@SuppressWarnings("unchecked")
 		private boolean handle(ExceptionQueuedEvent event) {
 			Throwable exception = getRootCause(event.getContext().getException());
-			Class<? extends Throwable> exceptionType = exception.getClass();
-			for (ExceptionHandler handler : SpringFacesExceptionHandlerSupport.this.exceptionHandlers) {
-				Class<?> handlerGeneric = GenericTypeResolver.resolveTypeArgument(handler.getClass(),
-						ExceptionHandler.class);
-				if (handlerGeneric == null || handlerGeneric.isAssignableFrom(exceptionType)) {
-					try {
-						if (handler.handle(exception, event)) {
-							return true;
-						}
-					} catch (Exception e) {
-						ReflectionUtils.rethrowRuntimeException(e);
-					}
+			DispatchTable dispatchTable = SpringFacesExceptionHandlerSupport.this.dispatchTable;
+			for (Handler handler : dispatchTable.getCandidates(exception.getClass())) {
+				if (handler.handle(exception, event)) {
+					return true;
 				}
 			}
 			return false;
@@ -146,4 +169,122 @@ public class SpringFacesExceptionHandlerSupport implements FacesWrapperFactory<j
 			return super.getRootCause(throwable);
 		}
 	}
+
+	/**
+	 * Ordered {@link Handler}s along with a cache of the candidates for each exception type.
+	 */
+	private static class DispatchTable {
+
+		private final List<Handler> handlers;
+
+		private final ConcurrentCache<Class<?>, List<Handler>> candidates = new ConcurrentCache<Class<?>, List<Handler>>(
+				CANDIDATES_CACHE_SIZE);
+
+		public DispatchTable(List<Handler> handlers) {
+			this.handlers = Collections.unmodifiableList(handlers);
+		}
+
+		public List<Handler> getHandlers() {
+			return this.handlers;
+		}
+
+		public List<Handler> getCandidates(Class<? extends Throwable> exceptionType) {
+			List<Handler> candidates = this.candidates.get(exceptionType);
+			if (candidates == null) {
+				candidates = new ArrayList<Handler>();
+				for (Handler handler : this.handlers) {
+					if (handler.isSupported(exceptionType)) {
+						candidates.add(handler);
+					}
+				}
+				candidates = this.candidates.put(exceptionType, Collections.unmodifiableList(candidates));
+			}
+			return candidates;
+		}
+	}
+
+	/**
+	 * A single {@link ExceptionHandler} bean along with its resolved generic type and call counters.
+	 */
+	private static class Handler {
+
+		private final String beanName;
+
+		private final ExceptionHandler exceptionHandler;
+
+		private final Class<?> exceptionType;
+
+		private final AtomicLong callCount = new AtomicLong();
+
+		private final AtomicLong handledCount = new AtomicLong();
+
+		public Handler(String beanName, ExceptionHandler exceptionHandler) {
+			this.beanName = beanName;
+			this.exceptionHandler = exceptionHandler;
+			this.exceptionType = GenericTypeResolver.resolveTypeArgument(exceptionHandler.getClass(),
+					ExceptionHandler.class);
+		}
+
+		public String getBeanName() {
+			return this.beanName;
+		}
+
+		public boolean isSupported(Class<? extends Throwable> exceptionType) {
+			return (this.exceptionType == null || this.exceptionType.isAssignableFrom(exceptionType));
+		}
+
+		@SuppressWarnings("unchecked")
+		public boolean handle(Throwable exception, ExceptionQueuedEvent event) {
+			this.callCount.incrementAndGet();
+			try {
+				if (this.exceptionHandler.handle(exception, event)) {
+					this.handledCount.incrementAndGet();
+					return true;
+				}
+			} catch (Exception e) {
+				ReflectionUtils.rethrowRuntimeException(e);
+			}
+			return false;
+		}
+
+		public HandlerStatistics getStatistics() {
+			return new HandlerStatistics(this.callCount.get(), this.handledCount.get());
+		}
+	}
+
+	/**
+	 * A snapshot of the number of times that a single {@link ExceptionHandler} has been called.
+	 */
+	public static final class HandlerStatistics {
+
+		private final long callCount;
+
+		private final long handledCount;
+
+		HandlerStatistics(long callCount, long handledCount) {
+			this.callCount = callCount;
+			this.handledCount = handledCount;
+		}
+
+		/**
+		 * Returns the number of times that the handler has been called.
+		 * @return the call count
+		 */
+		public long getCallCount() {
+			return this.callCount;
+		}
+
+		/**
+		 * Returns the number of times that the handler has handled an exception.
+		 * @return the handled count
+		 */
+		public long getHandledCount() {
+			return this.handledCount;
+		}
+
+		@Override
+		public String toString() {
+			return "[calls=" + this.callCount + ", handled=" + this.handledCount + "]";
+		}
+	}
 }
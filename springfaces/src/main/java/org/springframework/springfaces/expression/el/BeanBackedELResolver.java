@@ -15,19 +15,23 @@
  */
 package org.springframework.springfaces.expression.el;
 
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
 
-import javax.el.BeanELResolver;
-import javax.el.ELContext;
-import javax.el.ELResolver;
-import javax.el.FunctionMapper;
-import javax.el.VariableMapper;
+import javax.el.ELException;
+import javax.el.PropertyNotFoundException;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Base class for any read-only EL resolver that is backed against java bean properties. This EL resolver can be used to
  * map EL properties to java bean getters. Subclasses should call the {@link #map(String, String)} method on
- * construction to setup mappings between EL and bean properties.
+ * construction to setup mappings between EL and bean properties. Getter methods are resolved on first use and cached
+ * for as long as the bean class remains the same.
  * 
  * @author Phillip Webb
  * @see #map(String, String)
@@ -35,12 +39,10 @@ import javax.el.VariableMapper;
  */
 public abstract class BeanBackedELResolver extends AbstractELResolver {
 
-	private static final BeanELResolver elPropertyResolver = new BeanELResolver(true);
-
 	/**
-	 * Mapping or EL properties to java bean properties.
+	 * Mapping or EL properties to java bean property accessors.
 	 */
-	private Map<String, String> properties = new HashMap<String, String>();
+	private Map<String, Accessor> properties = new HashMap<String, Accessor>();
 
 	/**
 	 * Returns the underlying bean that will be used to resolve properties. If this method returns <tt>null</tt> the
@@ -64,7 +66,7 @@ public abstract class BeanBackedELResolver extends AbstractELResolver {
 	 * @see #map(String)
 	 */
 	protected void map(String elProperty, String beanProperty) {
-		this.properties.put(elProperty, beanProperty);
+		this.properties.put(elProperty, new Accessor(beanProperty));
 	}
 
 	/**
@@ -89,26 +91,71 @@ public abstract class BeanBackedELResolver extends AbstractELResolver {
 
 	@Override
 	protected Object get(String property) {
-		String beanProperty = this.properties.get(property);
-		if (beanProperty != null) {
-			ELContext elContext = new ELContext() {
-				@Override
-				public VariableMapper getVariableMapper() {
-					return null;
-				}
-
-				@Override
-				public FunctionMapper getFunctionMapper() {
-					return null;
-				}
-
-				@Override
-				public ELResolver getELResolver() {
-					return elPropertyResolver;
-				}
-			};
-			return elContext.getELResolver().getValue(elContext, getBean(), beanProperty);
+		Accessor accessor = this.properties.get(property);
+		if (accessor != null) {
+			return accessor.get(getBean());
 		}
 		return null;
 	}
+
+	/**
+	 * Accessor used to read a single bean property. The getter method is cached against the class of the bean.
+	 */
+	private static class Accessor {
+
+		private final String beanProperty;
+
+		private volatile ReadMethod readMethod;
+
+		public Accessor(String beanProperty) {
+			this.beanProperty = beanProperty;
+		}
+
+		public Object get(Object bean) {
+			if (bean == null) {
+				return null;
+			}
+			ReadMethod readMethod = this.readMethod;
+			if (readMethod == null || readMethod.getBeanClass() != bean.getClass()) {
+				readMethod = new ReadMethod(bean.getClass(), this.beanProperty);
+				this.readMethod = readMethod;
+			}
+			return readMethod.invoke(bean);
+		}
+	}
+
+	/**
+	 * The resolved getter {@link Method} for a specific bean class.
+	 */
+	private static class ReadMethod {
+
+		private final Class<?> beanClass;
+
+		private final Method method;
+
+		public ReadMethod(Class<?> beanClass, String beanProperty) {
+			PropertyDescriptor propertyDescriptor = BeanUtils.getPropertyDescriptor(beanClass, beanProperty);
+			if (propertyDescriptor == null || propertyDescriptor.getReadMethod() == null) {
+				throw new PropertyNotFoundException("Unable to find readable property '" + beanProperty + "' on "
+						+ beanClass.getName());
+			}
+			this.beanClass = beanClass;
+			this.method = propertyDescriptor.getReadMethod();
+			ReflectionUtils.makeAccessible(this.method);
+		}
+
+		public Class<?> getBeanClass() {
+			return this.beanClass;
+		}
+
+		public Object invoke(Object bean) {
+			try {
+				return this.method.invoke(bean);
+			} catch (InvocationTargetException e) {
+				throw new ELException(e.getCause());
+			} catch (Exception e) {
+				throw new ELException(e);
+			}
+		}
+	}
 }
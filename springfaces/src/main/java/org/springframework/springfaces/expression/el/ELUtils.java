@@ -16,6 +16,12 @@
 package org.springframework.springfaces.expression.el;
 
 import java.beans.PropertyDescriptor;
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import javax.el.ELContext;
 import javax.el.ELResolver;
@@ -24,7 +30,10 @@ import javax.el.ValueExpression;
 import org.springframework.beans.BeanUtils;
 import org.springframework.core.convert.Property;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.springfaces.util.ConcurrentCache;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
 
 /**
  * Miscellaneous <tt>Unified EL</tt> utility methods.
@@ -33,6 +42,22 @@ import org.springframework.util.Assert;
  */
 public abstract class ELUtils {
 
+	/**
+	 * Cache of resolved properties, keyed by the base class and property name that the expression resolved to. The
+	 * expression itself must still be evaluated on each call as the base of an expression can change. Only classes
+	 * loaded by the same (or a parent) <tt>ClassLoader</tt> as this class are held in this cache.
+	 */
+	private static final ConcurrentCache<PropertyKey, ResolvedProperty> PROPERTY_CACHE = new ConcurrentCache<PropertyKey, ResolvedProperty>(
+			1024);
+
+	/**
+	 * Cache of resolved properties for classes that are not {@link ClassUtils#isCacheSafe cache safe}. Classes are
+	 * weakly referenced and resolved properties are softly referenced so that entries survive normal garbage collection
+	 * but the <tt>ClassLoader</tt> can still be collected once it is no longer used.
+	 */
+	private static final Map<Class<?>, Map<String, Reference<ResolvedProperty>>> WEAK_PROPERTY_CACHE = Collections
+			.synchronizedMap(new WeakHashMap<Class<?>, Map<String, Reference<ResolvedProperty>>>());
+
 	/**
 	 * Returns a {@link TypeDescriptor} for the given <tt>valueExpression</tt>. This method is similar to
 	 * {@link ValueExpression#getType(ELContext)} except that generic type information will be deduced when possible.
@@ -53,9 +78,9 @@ public abstract class ELUtils {
 			// We may be able to obtain the generic type info by resolving the property directly
 			if (trackedContext.hasValues()) {
 				try {
-					Property property = getProperty(trackedContext);
+					ResolvedProperty property = getResolvedProperty(trackedContext);
 					if (property != null) {
-						typeDescriptor = new TypeDescriptor(property);
+						typeDescriptor = property.getTypeDescriptor();
 					}
 				} catch (Exception e) {
 				}
@@ -78,19 +103,100 @@ public abstract class ELUtils {
 		}
 		TrackedELContext trackedContext = new TrackedELContext(elContext);
 		valueExpression.getType(trackedContext);
-		return getProperty(trackedContext);
+		ResolvedProperty property = getResolvedProperty(trackedContext);
+		return (property == null ? null : property.getProperty());
 	}
 
-	private static Property getProperty(TrackedELContext trackedContext) {
+	private static ResolvedProperty getResolvedProperty(TrackedELContext trackedContext) {
 		if (!trackedContext.hasValues()) {
 			return null;
 		}
-		Class<? extends Object> baseClass = trackedContext.getBase().getClass();
-		PropertyDescriptor propertyDescriptor = BeanUtils.getPropertyDescriptor(baseClass, trackedContext.getProperty()
-				.toString());
-		Property property = new Property(baseClass, propertyDescriptor.getReadMethod(),
-				propertyDescriptor.getWriteMethod());
-		return property;
+		Class<?> baseClass = trackedContext.getBase().getClass();
+		String propertyName = trackedContext.getProperty().toString();
+		if (ClassUtils.isCacheSafe(baseClass, ELUtils.class.getClassLoader())) {
+			PropertyKey key = new PropertyKey(baseClass, propertyName);
+			ResolvedProperty property = PROPERTY_CACHE.get(key);
+			if (property == null) {
+				property = PROPERTY_CACHE.put(key, resolveProperty(baseClass, propertyName));
+			}
+			return property;
+		}
+		synchronized (WEAK_PROPERTY_CACHE) {
+			Map<String, Reference<ResolvedProperty>> properties = WEAK_PROPERTY_CACHE.get(baseClass);
+			if (properties == null) {
+				properties = new HashMap<String, Reference<ResolvedProperty>>();
+				WEAK_PROPERTY_CACHE.put(baseClass, properties);
+			}
+			Reference<ResolvedProperty> reference = properties.get(propertyName);
+			ResolvedProperty property = (reference == null ? null : reference.get());
+			if (property == null) {
+				property = resolveProperty(baseClass, propertyName);
+				properties.put(propertyName, new SoftReference<ResolvedProperty>(property));
+			}
+			return property;
+		}
+	}
+
+	private static ResolvedProperty resolveProperty(Class<?> baseClass, String propertyName) {
+		PropertyDescriptor propertyDescriptor = BeanUtils.getPropertyDescriptor(baseClass, propertyName);
+		return new ResolvedProperty(new Property(baseClass, propertyDescriptor.getReadMethod(),
+				propertyDescriptor.getWriteMethod()));
+	}
+
+	/**
+	 * Key used to cache {@link ResolvedProperty resolved properties}.
+	 */
+	private static class PropertyKey {
+
+		private final Class<?> baseClass;
+
+		private final String propertyName;
+
+		public PropertyKey(Class<?> baseClass, String propertyName) {
+			this.baseClass = baseClass;
+			this.propertyName = propertyName;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.baseClass.hashCode() * 31 + this.propertyName.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (obj instanceof PropertyKey) {
+				PropertyKey other = (PropertyKey) obj;
+				return this.baseClass == other.baseClass
+						&& ObjectUtils.nullSafeEquals(this.propertyName, other.propertyName);
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * A resolved {@link Property} along with its {@link TypeDescriptor}.
+	 */
+	private static class ResolvedProperty {
+
+		private final Property property;
+
+		private final TypeDescriptor typeDescriptor;
+
+		public ResolvedProperty(Property property) {
+			this.property = property;
+			this.typeDescriptor = new TypeDescriptor(property);
+		}
+
+		public Property getProperty() {
+			return this.property;
+		}
+
+		public TypeDescriptor getTypeDescriptor() {
+			return this.typeDescriptor;
+		}
 	}
 
 	/**
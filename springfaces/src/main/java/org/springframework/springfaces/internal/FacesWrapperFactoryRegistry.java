@@ -0,0 +1,183 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.springfaces.FacesWrapperFactory;
+import org.springframework.springfaces.SpringFacesIntegration;
+import org.springframework.springfaces.SpringFacesRefreshListener;
+import org.springframework.springfaces.util.OrderedMapEntryComparator;
+import org.springframework.util.Assert;
+
+/**
+ * Registry of the {@link FacesWrapperFactory} beans that apply to each JSF type. Beans are collected and ordered once
+ * when the registry is created, generic type arguments are resolved once per factory and the resulting chain is cached
+ * for each JSF type. A single registry is shared by all {@link WrapperHandler}s for a given
+ * {@link SpringFacesIntegration} {@link SpringFacesIntegration#getRefreshGeneration() generation}.
+ * 
+ * @author Phillip Webb
+ * @see #get(SpringFacesIntegration)
+ */
+@SuppressWarnings("rawtypes")
+class FacesWrapperFactoryRegistry {
+
+	/**
+	 * The most recently used registry. Usually only a single {@link SpringFacesIntegration} is active.
+	 */
+	private static volatile FacesWrapperFactoryRegistry current;
+
+	/**
+	 * Listener used to eagerly discard the current registry (and the factory beans that it references) when the
+	 * application context is refreshed or replaced.
+	 */
+	private static final SpringFacesRefreshListener DISCARD_ON_REFRESH = new SpringFacesRefreshListener() {
+		public void onRefresh(SpringFacesIntegration springFacesIntegration) {
+			FacesWrapperFactoryRegistry registry = current;
+			if (registry != null && registry.springFacesIntegration == springFacesIntegration) {
+				current = null;
+			}
+		}
+	};
+
+	private final SpringFacesIntegration springFacesIntegration;
+
+	private final long generation;
+
+	/**
+	 * All factories, in invocation order.
+	 */
+	private final List<Factory> factories;
+
+	/**
+	 * Cache of factory chains, keyed by the JSF type.
+	 */
+	private final Map<Class<?>, List<FacesWrapperFactory>> chains = new ConcurrentHashMap<Class<?>, List<FacesWrapperFactory>>();
+
+	/**
+	 * Create a new {@link FacesWrapperFactoryRegistry}.
+	 * @param springFacesIntegration the spring faces integration
+	 */
+	FacesWrapperFactoryRegistry(SpringFacesIntegration springFacesIntegration) {
+		Assert.notNull(springFacesIntegration, "SpringFacesIntegration must not be null");
+		this.springFacesIntegration = springFacesIntegration;
+		this.generation = springFacesIntegration.getRefreshGeneration();
+		this.factories = collectFactories(springFacesIntegration.getApplicationContext());
+	}
+
+	private List<Factory> collectFactories(ApplicationContext applicationContext) {
+		List<Map.Entry<String, FacesWrapperFactory>> orderdBeans = new ArrayList<Map.Entry<String, FacesWrapperFactory>>();
+		orderdBeans.addAll(BeanFactoryUtils
+				.beansOfTypeIncludingAncestors(applicationContext, FacesWrapperFactory.class).entrySet());
+		Collections.sort(orderdBeans, new OrderedMapEntryComparator());
+		List<Factory> factories = new ArrayList<Factory>(orderdBeans.size());
+		for (Map.Entry<String, FacesWrapperFactory> entry : orderdBeans) {
+			factories.add(new Factory(entry.getValue()));
+		}
+		return Collections.unmodifiableList(factories);
+	}
+
+	/**
+	 * Returns <tt>true</tt> if the registry is still valid for the {@link SpringFacesIntegration} that created it.
+	 * @return if the registry is current
+	 */
+	boolean isCurrent() {
+		return this.springFacesIntegration.getRefreshGeneration() == this.generation;
+	}
+
+	/**
+	 * Returns the ordered {@link FacesWrapperFactory factories} that should be used to wrap the given JSF type.
+	 * @param typeClass the JSF type
+	 * @return an ordered list of factories (never <tt>null</tt>)
+	 */
+	List<FacesWrapperFactory> getFactories(Class<?> typeClass) {
+		List<FacesWrapperFactory> chain = this.chains.get(typeClass);
+		if (chain == null) {
+			List<FacesWrapperFactory> supported = new ArrayList<FacesWrapperFactory>();
+			for (Factory factory : this.factories) {
+				if (factory.isSupported(typeClass)) {
+					supported.add(factory.getFactory());
+				}
+			}
+			chain = Collections.unmodifiableList(supported);
+			this.chains.put(typeClass, chain);
+		}
+		return chain;
+	}
+
+	/**
+	 * Return a {@link FacesWrapperFactoryRegistry} for the given {@link SpringFacesIntegration}, reusing the previous
+	 * registry if it is still current.
+	 * @param springFacesIntegration the spring faces integration
+	 * @return the registry
+	 */
+	static FacesWrapperFactoryRegistry get(SpringFacesIntegration springFacesIntegration) {
+		FacesWrapperFactoryRegistry registry = current;
+		if (registry == null || registry.springFacesIntegration != springFacesIntegration || !registry.isCurrent()) {
+			springFacesIntegration.addRefreshListener(DISCARD_ON_REFRESH);
+			registry = new FacesWrapperFactoryRegistry(springFacesIntegration);
+			current = registry;
+		}
+		return registry;
+	}
+
+	/**
+	 * A single {@link FacesWrapperFactory} along with its resolved generic type.
+	 */
+	private static class Factory {
+
+		private final FacesWrapperFactory factory;
+
+		private final Class<?> typeArg;
+
+		public Factory(FacesWrapperFactory factory) {
+			this.factory = factory;
+			this.typeArg = resolveTypeArgument(factory);
+		}
+
+		private Class<?> resolveTypeArgument(FacesWrapperFactory factory) {
+			Class<?> typeArg = GenericTypeResolver.resolveTypeArgument(factory.getClass(), FacesWrapperFactory.class);
+			if (typeArg == null) {
+				Class<?> targetClass = AopUtils.getTargetClass(factory);
+				if (targetClass != factory.getClass()) {
+					typeArg = GenericTypeResolver.resolveTypeArgument(targetClass, FacesWrapperFactory.class);
+				}
+			}
+			return typeArg;
+		}
+
+		public FacesWrapperFactory getFactory() {
+			return this.factory;
+		}
+
+		/**
+		 * Determine if the factory is suitable for the given type.
+		 * @param typeClass the JSF type
+		 * @return <tt>true</tt> if the factory is supported, otherwise <tt>false</tt>
+		 */
+		public boolean isSupported(Class<?> typeClass) {
+			return (this.typeArg == null || this.typeArg.isAssignableFrom(typeClass));
+		}
+	}
+}
@@ -15,24 +15,11 @@
  */
 package org.springframework.springfaces.internal;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.Date;
-import java.util.List;
-import java.util.Map;
-
 import javax.faces.context.ExternalContext;
 import javax.faces.context.FacesContext;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.springframework.aop.support.AopUtils;
-import org.springframework.beans.factory.BeanFactoryUtils;
-import org.springframework.context.ApplicationContext;
-import org.springframework.core.GenericTypeResolver;
-import org.springframework.core.annotation.AnnotationAwareOrderComparator;
-import org.springframework.core.annotation.Order;
 import org.springframework.springfaces.FacesWrapperFactory;
 import org.springframework.springfaces.SpringFacesIntegration;
 import org.springframework.util.Assert;
@@ -65,15 +52,11 @@ class WrapperHandler<T> {
 	private WrappedAccessor<T> wrappedAccessor;
 
 	/**
-	 * The fully wrapped implementation. This is late binding.
+	 * The fully wrapped implementation. This is late binding and safely published so that the common case of an
+	 * unchanged application context only requires a volatile read.
 	 * @see #getWrapped()
 	 */
-	private T wrapped;
-
-	/**
-	 * The date that the application context used to create the wrapped object was last refreshed.
-	 */
-	private Date lastRefreshedDate;
+	private volatile Wrapped<T> wrapped;
 
 	private boolean warnOnMissingSpringFaces;
 
@@ -116,6 +99,10 @@ class WrapperHandler<T> {
 	 * @return a wrapped implementation
 	 */
 	public T getWrapped() {
+		Wrapped<T> wrapped = this.wrapped;
+		if (wrapped != null && wrapped.isCurrent()) {
+			return wrapped.getInstance();
+		}
 		FacesContext facesContext = FacesContext.getCurrentInstance();
 		if (facesContext == null) {
 			// Calls to wrapped instances can occur when there is no faces context if JSF has not yet completely
@@ -124,30 +111,28 @@ class WrapperHandler<T> {
 			return this.wrappedAccessor.getWrapped(WrappedAccessType.WRAP);
 		}
 		ExternalContext externalContext = facesContext.getExternalContext();
-		if ((this.wrapped == null)
-				|| (SpringFacesIntegration.isInstalled(externalContext) && (!SpringFacesIntegration
-						.getLastRefreshedDate(externalContext).equals(this.lastRefreshedDate)))) {
-			WrappedAccessType accessType = (this.wrapped == null ? WrappedAccessType.WRAP : WrappedAccessType.REWRAP);
-			if (this.logger.isDebugEnabled()) {
-				this.logger.debug((accessType == WrappedAccessType.WRAP ? "Wrapping " : "Rewrapping ")
-						+ this.wrappedAccessor.getDescription());
-			}
-			this.wrapped = wrap(externalContext, this.wrappedAccessor.getWrapped(accessType));
-			if (SpringFacesIntegration.isInstalled(externalContext)) {
-				this.lastRefreshedDate = SpringFacesIntegration.getLastRefreshedDate(externalContext);
-			}
+		if (wrapped != null && !wrapped.isIntegrated() && !SpringFacesIntegration.isInstalled(externalContext)) {
+			return wrapped.getInstance();
 		}
-		return this.wrapped;
+		return rewrap(externalContext);
 	}
 
 	/**
-	 * Wrap the specified delegate by consulting all {@link FacesWrapperFactory factories} registered with Spring.
+	 * Create (or recreate) the wrapped instance.
 	 * @param externalContext the external context
-	 * @param delegate the root delegate
-	 * @return a wrapped implementation
+	 * @return the wrapped instance
 	 */
-	@SuppressWarnings({ "rawtypes", "unchecked" })
-	private T wrap(ExternalContext externalContext, T delegate) {
+	private synchronized T rewrap(ExternalContext externalContext) {
+		Wrapped<T> wrapped = this.wrapped;
+		if (wrapped != null && wrapped.isCurrent()) {
+			return wrapped.getInstance();
+		}
+		WrappedAccessType accessType = (wrapped == null ? WrappedAccessType.WRAP : WrappedAccessType.REWRAP);
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug((accessType == WrappedAccessType.WRAP ? "Wrapping " : "Rewrapping ")
+					+ this.wrappedAccessor.getDescription());
+		}
+		T delegate = this.wrappedAccessor.getWrapped(accessType);
 		if (!SpringFacesIntegration.isInstalled(externalContext)) {
 			if (this.logger.isDebugEnabled()) {
 				this.logger.debug("SpringFacesSupport is not yet installed, wrapping will be deferred");
@@ -156,51 +141,40 @@ class WrapperHandler<T> {
 				this.logger
 						.warn("SpringFacesSupport is not installed, full Spring/JSF integration may not be availble");
 			}
-			return delegate;
+			wrapped = new Wrapped<T>(delegate, null, 0);
+		} else {
+			SpringFacesIntegration springFacesIntegration = SpringFacesIntegration.getCurrentInstance(externalContext);
+			long generation = springFacesIntegration.getRefreshGeneration();
+			FacesWrapperFactoryRegistry registry = FacesWrapperFactoryRegistry.get(springFacesIntegration);
+			wrapped = new Wrapped<T>(wrap(registry, delegate), springFacesIntegration, generation);
 		}
-
-		ApplicationContext applicationContext = SpringFacesIntegration.getCurrentInstance(externalContext)
-				.getApplicationContext();
-
-		List<Map.Entry<String, FacesWrapperFactory>> orderdBeans = new ArrayList<Map.Entry<String, FacesWrapperFactory>>();
-		orderdBeans.addAll(BeanFactoryUtils
-				.beansOfTypeIncludingAncestors(applicationContext, FacesWrapperFactory.class).entrySet());
-		Collections.sort(orderdBeans, new OrderedMapEntryComparator());
-		T rtn = delegate;
-		for (Map.Entry<String, FacesWrapperFactory> entry : orderdBeans) {
-			FacesWrapperFactory factory = entry.getValue();
-			if (isFactorySupported(factory)) {
-				T wrapper = (T) factory.newWrapper(this.typeClass, rtn);
-				if (wrapper != null) {
-					Assert.isInstanceOf(this.typeClass, wrapper, "FacesWrapperFactory " + entry.getValue()
-							+ " returned incorrect type ");
-					if (this.logger.isDebugEnabled()) {
-						this.logger.debug("Wrapping " + this.typeClass.getSimpleName() + " with " + wrapper.getClass()
-								+ " obtained from FacesWrapperFactory " + entry.getValue());
-					}
-					postProcessWrapper(wrapper);
-					rtn = wrapper;
-				}
-			}
-		}
-		return rtn;
+		this.wrapped = wrapped;
+		return wrapped.getInstance();
 	}
 
 	/**
-	 * Determine if a given {@link FacesWrapperFactory} is suitable by resolving generic arguments.
-	 * @param factory the factory to test
-	 * @return <tt>true</tt> if the <tt>factory</tt> is supported, otherwise <tt>false</tt>
+	 * Wrap the specified delegate using the {@link FacesWrapperFactory factories} from the registry.
+	 * @param registry the registry of factories
+	 * @param delegate the root delegate
+	 * @return a wrapped implementation
 	 */
 	@SuppressWarnings({ "rawtypes", "unchecked" })
-	private boolean isFactorySupported(FacesWrapperFactory factory) {
-		Class typeArg = GenericTypeResolver.resolveTypeArgument(factory.getClass(), FacesWrapperFactory.class);
-		if (typeArg == null) {
-			Class targetClass = AopUtils.getTargetClass(factory);
-			if (targetClass != factory.getClass()) {
-				typeArg = GenericTypeResolver.resolveTypeArgument(targetClass, FacesWrapperFactory.class);
+	private T wrap(FacesWrapperFactoryRegistry registry, T delegate) {
+		T rtn = delegate;
+		for (FacesWrapperFactory factory : registry.getFactories(this.typeClass)) {
+			T wrapper = (T) factory.newWrapper(this.typeClass, rtn);
+			if (wrapper != null) {
+				Assert.isInstanceOf(this.typeClass, wrapper, "FacesWrapperFactory " + factory
+						+ " returned incorrect type ");
+				if (this.logger.isDebugEnabled()) {
+					this.logger.debug("Wrapping " + this.typeClass.getSimpleName() + " with " + wrapper.getClass()
+							+ " obtained from FacesWrapperFactory " + factory);
+				}
+				postProcessWrapper(wrapper);
+				rtn = wrapper;
 			}
 		}
-		return (typeArg == null || typeArg.isAssignableFrom(this.typeClass));
+		return rtn;
 	}
 
 	/**
@@ -223,17 +197,6 @@ class WrapperHandler<T> {
 		return new WrapperHandler<T>(typeClass, delegate);
 	}
 
-	/**
-	 * {@link Comparator} implementation to sort {@link Map.Entry} values by {@link org.springframework.core.Ordered} as
-	 * well as the {@link Order} annotation.
-	 */
-	private static class OrderedMapEntryComparator extends AnnotationAwareOrderComparator {
-		@Override
-		public int compare(Object o1, Object o2) {
-			return super.compare(((Map.Entry<?, ?>) o1).getValue(), ((Map.Entry<?, ?>) o2).getValue());
-		}
-	}
-
 	/**
 	 * The various reasons that a delegate can be accessed.
 	 */
@@ -288,4 +251,43 @@ class WrapperHandler<T> {
 			return this.wrapped;
 		}
 	}
+
+	/**
+	 * An immutable wrapped instance along with the {@link SpringFacesIntegration} generation used to create it.
+	 * @param <T> the data type
+	 */
+	private static class Wrapped<T> {
+
+		private final T instance;
+
+		private final SpringFacesIntegration springFacesIntegration;
+
+		private final long generation;
+
+		public Wrapped(T instance, SpringFacesIntegration springFacesIntegration, long generation) {
+			this.instance = instance;
+			this.springFacesIntegration = springFacesIntegration;
+			this.generation = generation;
+		}
+
+		public T getInstance() {
+			return this.instance;
+		}
+
+		/**
+		 * Returns <tt>true</tt> if the instance was wrapped using an installed {@link SpringFacesIntegration}.
+		 * @return if the instance is integrated with Spring
+		 */
+		public boolean isIntegrated() {
+			return this.springFacesIntegration != null;
+		}
+
+		/**
+		 * Returns <tt>true</tt> if the instance can be used without rewrapping.
+		 * @return if the instance is current
+		 */
+		public boolean isCurrent() {
+			return isIntegrated() && this.springFacesIntegration.getRefreshGeneration() == this.generation;
+		}
+	}
 }
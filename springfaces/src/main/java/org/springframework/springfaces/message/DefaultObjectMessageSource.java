@@ -15,20 +15,29 @@
  */
 package org.springframework.springfaces.message;
 
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.springframework.beans.BeanWrapper;
-import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.MessageSource;
 import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.support.DelegatingMessageSource;
+import org.springframework.springfaces.util.ConcurrentCache;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -36,18 +45,56 @@ import org.springframework.util.StringUtils;
  * messages are resolved using a generated {@link #resolveCode(Object, Locale) code}. T
  * <p>
  * Parameterized messages are supported by this resolver (see {@link #resolveMessage(Object, Object[], Locale)} for
- * details).
+ * details). Messages are parsed once and cached along with the property accessors used to expand them. Codes that
+ * cannot be resolved are also cached (per locale) until the application context is refreshed. When resolving
+ * {@link #findMessages(Collection, Object[], Locale) multiple objects} each distinct code is only resolved once.
  * 
  * @author Phillip Webb
  */
-public class DefaultObjectMessageSource extends DelegatingMessageSource implements ObjectMessageSource {
+public class DefaultObjectMessageSource extends DelegatingMessageSource implements ObjectMessageSource,
+		ObjectMessageFinder, ApplicationListener<ContextRefreshedEvent> {
 
 	private static final Pattern PARAMETER_PATTERN = Pattern.compile("\\{([\\w]+?)\\}");
 
+	private static final String BOOLEAN_TRUE_CODE = Boolean.class.getName() + ".TRUE";
+
+	private static final String BOOLEAN_FALSE_CODE = Boolean.class.getName() + ".FALSE";
+
+	private static final int CACHE_SIZE = 1024;
+
+	/**
+	 * Parsed message templates, keyed by the resolved message.
+	 */
+	private final ConcurrentCache<String, MessageTemplate> templates = new ConcurrentCache<String, MessageTemplate>(
+			CACHE_SIZE);
+
+	/**
+	 * Property accessors used to expand message parameters, keyed by class.
+	 */
+	private final ConcurrentCache<Class<?>, PropertyAccessors> propertyAccessors = new ConcurrentCache<Class<?>, PropertyAccessors>(
+			CACHE_SIZE);
+
+	/**
+	 * Message codes for enum constants.
+	 */
+	private final ConcurrentCache<Enum<?>, String> enumCodes = new ConcurrentCache<Enum<?>, String>(CACHE_SIZE);
+
+	/**
+	 * Codes that could not be resolved or <tt>null</tt> if misses are not cached.
+	 */
+	private final ConcurrentCache<CodeAndLocale, Boolean> misses;
+
+	/**
+	 * If {@link #resolveMessage(Object, Object[], Locale)} is not overridden, allowing messages to be resolved once
+	 * per code when resolving multiple objects.
+	 */
+	private final boolean resolveByCode = !isResolveMessageOverridden();
+
 	/**
 	 * Create a new {@link DefaultObjectMessageSource} instance.
 	 */
 	public DefaultObjectMessageSource() {
+		this.misses = new ConcurrentCache<CodeAndLocale, Boolean>(CACHE_SIZE);
 	}
 
 	/**
@@ -55,34 +102,100 @@ public class DefaultObjectMessageSource extends DelegatingMessageSource implemen
 	 * @param parent the parent message source.
 	 */
 	public DefaultObjectMessageSource(MessageSource parent) {
+		this(parent, true);
+	}
+
+	/**
+	 * Create a new {@link DefaultObjectMessageSource} instance with the specified parent.
+	 * @param parent the parent message source.
+	 * @param cacheMisses if codes that cannot be resolved should be cached until the application context is refreshed
+	 */
+	DefaultObjectMessageSource(MessageSource parent, boolean cacheMisses) {
 		Assert.notNull("Parent must not be null");
+		this.misses = (cacheMisses ? new ConcurrentCache<CodeAndLocale, Boolean>(CACHE_SIZE) : null);
 		setParentMessageSource(parent);
 	}
 
+	@Override
+	public void setParentMessageSource(MessageSource parent) {
+		super.setParentMessageSource(parent);
+		clearMisses();
+	}
+
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		clearMisses();
+	}
+
+	void clearMisses() {
+		if (this.misses != null) {
+			this.misses.clear();
+		}
+	}
+
+	/**
+	 * Called before cached misses are used so that package subclasses can discard misses that may be stale.
+	 */
+	void validateMisses() {
+	}
+
 	public String getMessage(Object object, Object[] args, Locale locale) throws NoSuchObjectMessageException {
-		String message = getFullyResolvedMessage(object, args, locale, false);
+		String message = findMessage(object, args, locale);
 		if (message == null && object != null) {
 			throw new NoSuchObjectMessageException(object, locale);
 		}
 		return message;
 	}
 
+	/**
+	 * Return a message for the given object or <tt>null</tt> if the object has no message. Unlike
+	 * {@link #getMessage(Object, Object[], Locale)} this method does not throw an exception when no message is found.
+	 * @param object the source object
+	 * @param args the message arguments or <code>null</code> if none.
+	 * @param locale the locale of the message to return
+	 * @return a message for the object or <tt>null</tt>
+	 * @see ObjectMessageSourceUtils#findMessage(ObjectMessageSource, Object, Object[], Locale)
+	 */
+	public String findMessage(Object object, Object[] args, Locale locale) {
+		return getFullyResolvedMessage(object, args, locale, false, null);
+	}
+
+	/**
+	 * Return messages for each of the given objects. Objects that share the same message code are only resolved once.
+	 * @param objects the source objects
+	 * @param args the message arguments or <code>null</code> if none.
+	 * @param locale the locale of the messages to return
+	 * @return a list containing a message (or <tt>null</tt>) for each object, in the same order as <tt>objects</tt>
+	 * @see ObjectMessageSourceUtils#findMessages(ObjectMessageSource, Collection, Object[], Locale)
+	 */
+	public List<String> findMessages(Collection<?> objects, Object[] args, Locale locale) {
+		Assert.notNull(objects, "Objects must not be null");
+		Map<String, String> resolvedCodes = new HashMap<String, String>();
+		List<String> messages = new ArrayList<String>(objects.size());
+		for (Object object : objects) {
+			messages.add(getFullyResolvedMessage(object, args, locale, false, resolvedCodes));
+		}
+		return messages;
+	}
+
 	/**
 	 * Returns a fully resolved message, includes resolving any message parameters.
 	 * @param object the object to resolve. Can be <tt>null</tt>
 	 * @param args the message arguments
 	 * @param locale the locale
 	 * @param allowResolveToString if the {@link #resolveToString(Object)} can be used to create the result
+	 * @param resolvedCodes messages already resolved by code or <tt>null</tt> if each object should be resolved
+	 * individually
 	 * @return a fully resolved message
 	 */
-	private String getFullyResolvedMessage(Object object, Object[] args, Locale locale, boolean allowResolveToString) {
+	private String getFullyResolvedMessage(Object object, Object[] args, Locale locale, boolean allowResolveToString,
+			Map<String, String> resolvedCodes) {
 		if (object == null) {
 			return null;
 		}
 		try {
-			String resolvedMessage = resolveMessage(object, args, locale);
+			String resolvedMessage = resolveMessage(object, args, locale, resolvedCodes);
 			if (resolvedMessage != null) {
-				return expandParameters(resolvedMessage, object, args, locale);
+				return expandParameters(resolvedMessage, object, args, locale, resolvedCodes);
 			}
 			if (allowResolveToString) {
 				return resolveToString(object, args, locale);
@@ -113,14 +226,43 @@ public class DefaultObjectMessageSource extends DelegatingMessageSource implemen
 	 */
 	protected String resolveMessage(Object object, Object[] args, Locale locale) {
 		String code = resolveCode(object, locale);
-		if (code != null) {
-			try {
-				String message = getMessage(code, args, locale);
-				if (!code.equals(message)) {
-					return message;
-				}
-			} catch (NoSuchMessageException e) {
+		return (code == null ? null : resolveCodeMessage(code, args, locale));
+	}
+
+	private String resolveMessage(Object object, Object[] args, Locale locale, Map<String, String> resolvedCodes) {
+		if (resolvedCodes == null || !this.resolveByCode) {
+			return resolveMessage(object, args, locale);
+		}
+		String code = resolveCode(object, locale);
+		if (code == null) {
+			return null;
+		}
+		if (resolvedCodes.containsKey(code)) {
+			return resolvedCodes.get(code);
+		}
+		String message = resolveCodeMessage(code, args, locale);
+		resolvedCodes.put(code, message);
+		return message;
+	}
+
+	private String resolveCodeMessage(String code, Object[] args, Locale locale) {
+		CodeAndLocale key = null;
+		if (this.misses != null) {
+			validateMisses();
+			key = new CodeAndLocale(code, locale);
+			if (this.misses.get(key) != null) {
+				return null;
+			}
+		}
+		try {
+			String message = getMessage(code, args, locale);
+			if (!code.equals(message)) {
+				return message;
 			}
+		} catch (NoSuchMessageException e) {
+		}
+		if (key != null) {
+			this.misses.put(key, Boolean.TRUE);
 		}
 		return null;
 	}
@@ -136,10 +278,15 @@ public class DefaultObjectMessageSource extends DelegatingMessageSource implemen
 	 */
 	protected String resolveCode(Object object, Locale locale) {
 		if (Boolean.class.isInstance(object)) {
-			return object.getClass().getName() + "." + (((Boolean) object).booleanValue() ? "TRUE" : "FALSE");
+			return (((Boolean) object).booleanValue() ? BOOLEAN_TRUE_CODE : BOOLEAN_FALSE_CODE);
 		}
 		if (Enum.class.isInstance(object)) {
-			return object.getClass().getName() + "." + ((Enum<?>) object).name();
+			Enum<?> enumObject = (Enum<?>) object;
+			String code = this.enumCodes.get(enumObject);
+			if (code == null) {
+				code = this.enumCodes.put(enumObject, object.getClass().getName() + "." + enumObject.name());
+			}
+			return code;
 		}
 		return object.getClass().getName();
 	}
@@ -152,24 +299,40 @@ public class DefaultObjectMessageSource extends DelegatingMessageSource implemen
 	 * @param locale the locale
 	 * @return a message with all supported parameters expanded
 	 */
-	private String expandParameters(String resolvedMessage, Object object, Object[] args, Locale locale) {
-		Matcher matcher = PARAMETER_PATTERN.matcher(resolvedMessage);
-		StringBuffer sb = new StringBuffer();
-		BeanWrapper bean = new BeanWrapperImpl(object);
-		while (matcher.find()) {
-			String propertyName = matcher.group(1);
-			if (bean.isReadableProperty(propertyName)) {
-				Object propertyValue = bean.getPropertyValue(propertyName);
-				String replacement = (propertyValue == null ? "" : getFullyResolvedMessage(propertyValue, args, locale,
-						true));
-				matcher.appendReplacement(sb, replacement);
+	private String expandParameters(String resolvedMessage, Object object, Object[] args, Locale locale,
+			Map<String, String> resolvedCodes) {
+		MessageTemplate template = this.templates.get(resolvedMessage);
+		if (template == null) {
+			template = this.templates.put(resolvedMessage, new MessageTemplate(resolvedMessage));
+		}
+		if (!template.hasParameters()) {
+			return resolvedMessage;
+		}
+		PropertyAccessors accessors = getPropertyAccessors(object.getClass());
+		StringBuilder message = new StringBuilder(resolvedMessage.length() + 16);
+		for (int i = 0; i < template.getParameterCount(); i++) {
+			message.append(template.getLiteral(i));
+			String propertyName = template.getParameter(i);
+			PropertyAccessor accessor = accessors.get(propertyName);
+			if (accessor.isReadable()) {
+				Object propertyValue = accessor.getValue(object);
+				message.append(propertyValue == null ? "" : getFullyResolvedMessage(propertyValue, args, locale, true,
+						resolvedCodes));
 			} else {
 				// No property, leave the {variable} intact
-				matcher.appendReplacement(sb, matcher.group(0));
+				message.append("{").append(propertyName).append("}");
 			}
 		}
-		matcher.appendTail(sb);
-		return sb.toString();
+		message.append(template.getLiteral(template.getParameterCount()));
+		return message.toString();
+	}
+
+	private PropertyAccessors getPropertyAccessors(Class<?> type) {
+		PropertyAccessors accessors = this.propertyAccessors.get(type);
+		if (accessors == null) {
+			accessors = this.propertyAccessors.put(type, new PropertyAccessors(type));
+		}
+		return accessors;
 	}
 
 	/**
@@ -187,12 +350,145 @@ public class DefaultObjectMessageSource extends DelegatingMessageSource implemen
 			object = CollectionUtils.arrayToList(object);
 		}
 		if (object instanceof Collection) {
+			Map<String, String> resolvedCodes = new HashMap<String, String>();
 			List<String> resolvedCollection = new ArrayList<String>();
 			for (Object element : (Collection<?>) object) {
-				resolvedCollection.add(getFullyResolvedMessage(element, args, locale, true));
+				resolvedCollection.add(getFullyResolvedMessage(element, args, locale, true, resolvedCodes));
 			}
 			return StringUtils.collectionToCommaDelimitedString(resolvedCollection);
 		}
 		return object.toString();
 	}
+
+	private boolean isResolveMessageOverridden() {
+		Method method = ReflectionUtils.findMethod(getClass(), "resolveMessage", Object.class, Object[].class,
+				Locale.class);
+		return (method != null && method.getDeclaringClass() != DefaultObjectMessageSource.class);
+	}
+
+	/**
+	 * A message that has been parsed into literal segments and parameter names.
+	 */
+	private static class MessageTemplate {
+
+		private final String[] literals;
+
+		private final String[] parameters;
+
+		public MessageTemplate(String message) {
+			List<String> literals = new ArrayList<String>();
+			List<String> parameters = new ArrayList<String>();
+			Matcher matcher = PARAMETER_PATTERN.matcher(message);
+			int start = 0;
+			while (matcher.find()) {
+				literals.add(message.substring(start, matcher.start()));
+				parameters.add(matcher.group(1));
+				start = matcher.end();
+			}
+			literals.add(message.substring(start));
+			this.literals = literals.toArray(new String[literals.size()]);
+			this.parameters = parameters.toArray(new String[parameters.size()]);
+		}
+
+		public boolean hasParameters() {
+			return this.parameters.length > 0;
+		}
+
+		public int getParameterCount() {
+			return this.parameters.length;
+		}
+
+		public String getParameter(int index) {
+			return this.parameters[index];
+		}
+
+		/**
+		 * Returns the literal that precedes the parameter at the given index. The final literal follows the last
+		 * parameter.
+		 * @param index the index
+		 * @return the literal (never <tt>null</tt>)
+		 */
+		public String getLiteral(int index) {
+			return this.literals[index];
+		}
+	}
+
+	/**
+	 * Cached {@link PropertyAccessor}s for a single class.
+	 */
+	private static class PropertyAccessors {
+
+		private final Class<?> type;
+
+		private final Map<String, PropertyAccessor> accessors = new ConcurrentHashMap<String, PropertyAccessor>();
+
+		public PropertyAccessors(Class<?> type) {
+			this.type = type;
+		}
+
+		public PropertyAccessor get(String propertyName) {
+			PropertyAccessor accessor = this.accessors.get(propertyName);
+			if (accessor == null) {
+				PropertyDescriptor propertyDescriptor = BeanUtils.getPropertyDescriptor(this.type, propertyName);
+				accessor = new PropertyAccessor(propertyDescriptor == null ? null : propertyDescriptor.getReadMethod());
+				this.accessors.put(propertyName, accessor);
+			}
+			return accessor;
+		}
+	}
+
+	/**
+	 * Provides read access to a single property.
+	 */
+	private static class PropertyAccessor {
+
+		private final Method readMethod;
+
+		public PropertyAccessor(Method readMethod) {
+			this.readMethod = readMethod;
+			if (readMethod != null) {
+				ReflectionUtils.makeAccessible(readMethod);
+			}
+		}
+
+		public boolean isReadable() {
+			return this.readMethod != null;
+		}
+
+		public Object getValue(Object object) {
+			return ReflectionUtils.invokeMethod(this.readMethod, object);
+		}
+	}
+
+	/**
+	 * Key used to cache codes that could not be resolved.
+	 */
+	private static class CodeAndLocale {
+
+		private final String code;
+
+		private final Locale locale;
+
+		public CodeAndLocale(String code, Locale locale) {
+			this.code = code;
+			this.locale = locale;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.code.hashCode() * 31 + ObjectUtils.nullSafeHashCode(this.locale);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (obj instanceof CodeAndLocale) {
+				CodeAndLocale other = (CodeAndLocale) obj;
+				return this.code.equals(other.code) && ObjectUtils.nullSafeEquals(this.locale, other.locale);
+			}
+			return false;
+		}
+	}
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.message;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Internal interface implemented by {@link ObjectMessageSource}s that can find messages without throwing
+ * {@link NoSuchObjectMessageException}s. Use {@link ObjectMessageSourceUtils} rather than calling this interface
+ * directly.
+ * 
+ * @author Phillip Webb
+ * @see ObjectMessageSourceUtils#findMessage(ObjectMessageSource, Object, Object[], Locale)
+ */
+interface ObjectMessageFinder {
+
+	/**
+	 * Return a message for the given object or <tt>null</tt> if the object has no message.
+	 * @param object the source object
+	 * @param args the message arguments or <code>null</code> if none.
+	 * @param locale the locale of the message to return
+	 * @return a message for the object or <tt>null</tt>
+	 */
+	String findMessage(Object object, Object[] args, Locale locale);
+
+	/**
+	 * Return messages for each of the given objects.
+	 * @param objects the source objects
+	 * @param args the message arguments or <code>null</code> if none.
+	 * @param locale the locale of the messages to return
+	 * @return a list containing a message (or <tt>null</tt>) for each object, in the same order as <tt>objects</tt>
+	 */
+	List<String> findMessages(Collection<?> objects, Object[] args, Locale locale);
+}
@@ -15,9 +15,25 @@
  */
 package org.springframework.springfaces.message;
 
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.faces.context.ExternalContext;
+import javax.faces.context.FacesContext;
+
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.NoSuchMessageException;
 import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.springfaces.SpringFacesIntegration;
 import org.springframework.util.Assert;
 
 /**
@@ -27,9 +43,17 @@ import org.springframework.util.Assert;
  */
 public abstract class ObjectMessageSourceUtils {
 
+	/**
+	 * {@link DefaultObjectMessageSource}s that have been created for a parent {@link MessageSource}. Shared instances
+	 * only weakly reference their parent so that entries are removed once the parent is no longer used.
+	 */
+	private static final Map<MessageSource, SharedObjectMessageSource> sharedObjectMessageSources = Collections
+			.synchronizedMap(new WeakHashMap<MessageSource, SharedObjectMessageSource>());
+
 	/**
 	 * Get an {@link ObjectMessageSource} from the specified <tt>messageSource</tt>. If the <tt>messageSource</tt>
-	 * cannot be cast to an {@link ObjectMessageSource} a new {@link DefaultObjectMessageSource} will be returned.
+	 * cannot be cast to an {@link ObjectMessageSource} a {@link DefaultObjectMessageSource} will be returned. The same
+	 * {@link DefaultObjectMessageSource} is returned for each call with the same <tt>messageSource</tt>.
 	 * @param messageSource the message source
 	 * @return a {@link ObjectMessageSource} instance
 	 */
@@ -41,7 +65,8 @@ public abstract class ObjectMessageSourceUtils {
 	/**
 	 * Get an {@link ObjectMessageSource} from the specified <tt>messageSource</tt> falling back to a Spring
 	 * {@link ApplicationContext} if <tt>messageSource</tt> is <tt>null</tt>. If the resulting <tt>messageSource</tt>
-	 * cannot be cast to an {@link ObjectMessageSource} a new {@link DefaultObjectMessageSource} will be returned.
+	 * cannot be cast to an {@link ObjectMessageSource} a {@link DefaultObjectMessageSource} will be returned. The same
+	 * {@link DefaultObjectMessageSource} is returned for each call with the same resulting <tt>messageSource</tt>.
 	 * @param messageSource the message source (if <tt>null</tt> if the <tt>fallbackApplicationContext</tt> will be
 	 * used)
 	 * @param fallbackApplicationContext a fallback {@link ApplicationContext} to be used if the <tt>messageSource</tt>
@@ -57,7 +82,75 @@ public abstract class ObjectMessageSourceUtils {
 		if (messageSource instanceof ObjectMessageSource) {
 			return (ObjectMessageSource) messageSource;
 		}
-		return new DefaultObjectMessageSource(messageSource);
+		return getSharedObjectMessageSource(messageSource);
+	}
+
+	/**
+	 * Returns a shared {@link DefaultObjectMessageSource} for the given parent so that parsed messages, property
+	 * accessors and codes that cannot be resolved are cached between calls.
+	 * @param parent the parent message source
+	 * @return the shared object message source
+	 */
+	private static DefaultObjectMessageSource getSharedObjectMessageSource(MessageSource parent) {
+		synchronized (sharedObjectMessageSources) {
+			SharedObjectMessageSource objectMessageSource = sharedObjectMessageSources.get(parent);
+			if (objectMessageSource == null) {
+				objectMessageSource = new SharedObjectMessageSource(parent);
+				sharedObjectMessageSources.put(parent, objectMessageSource);
+			}
+			return objectMessageSource;
+		}
+	}
+
+	/**
+	 * Return a message for the given object or <tt>null</tt> if the object has no message. Unlike
+	 * {@link ObjectMessageSource#getMessage(Object, Object[], Locale)} this method does not throw an exception when no
+	 * message is found. Messages from a {@link DefaultObjectMessageSource} or {@link SnapshotMessageSource} are found
+	 * without creating an exception, other implementations fall back to catching
+	 * {@link NoSuchObjectMessageException}.
+	 * @param messageSource the object message source
+	 * @param object the source object
+	 * @param args array of arguments that will be filled in for params within the message (params look like "{0}",
+	 * "{1,date}", "{2,time}" within a message), or <code>null</code> if none.
+	 * @param locale the locale of the message to return
+	 * @return a message for the object or <tt>null</tt>
+	 */
+	public static String findMessage(ObjectMessageSource messageSource, Object object, Object[] args, Locale locale) {
+		Assert.notNull(messageSource, "MessageSource must not be null");
+		if (messageSource instanceof ObjectMessageFinder) {
+			return ((ObjectMessageFinder) messageSource).findMessage(object, args, locale);
+		}
+		try {
+			return messageSource.getMessage(object, args, locale);
+		} catch (NoSuchObjectMessageException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Return messages for each of the given objects. This method is equivalent to calling
+	 * {@link #findMessage(ObjectMessageSource, Object, Object[], Locale)} for each object except that a
+	 * {@link DefaultObjectMessageSource} or {@link SnapshotMessageSource} will resolve objects that share the same
+	 * message only once.
+	 * @param messageSource the object message source
+	 * @param objects the source objects
+	 * @param args array of arguments that will be filled in for params within the messages (params look like "{0}",
+	 * "{1,date}", "{2,time}" within a message), or <code>null</code> if none.
+	 * @param locale the locale of the messages to return
+	 * @return a list containing a message (or <tt>null</tt>) for each object, in the same order as <tt>objects</tt>
+	 */
+	public static List<String> findMessages(ObjectMessageSource messageSource, Collection<?> objects, Object[] args,
+			Locale locale) {
+		Assert.notNull(messageSource, "MessageSource must not be null");
+		Assert.notNull(objects, "Objects must not be null");
+		if (messageSource instanceof ObjectMessageFinder) {
+			return ((ObjectMessageFinder) messageSource).findMessages(objects, args, locale);
+		}
+		List<String> messages = new ArrayList<String>(objects.size());
+		for (Object object : objects) {
+			messages.add(findMessage(messageSource, object, args, locale));
+		}
+		return messages;
 	}
 
 	/**
@@ -77,4 +170,62 @@ public abstract class ObjectMessageSourceUtils {
 		}
 		return applicationContext;
 	}
+
+	/**
+	 * Shared {@link DefaultObjectMessageSource} that caches codes that cannot be resolved. Shared instances are not
+	 * registered for application events so cached misses are instead discarded when the
+	 * {@link SpringFacesIntegration#getRefreshGeneration() refresh generation} of the current
+	 * {@link SpringFacesIntegration} changes.
+	 */
+	private static class SharedObjectMessageSource extends DefaultObjectMessageSource {
+
+		private volatile long refreshGeneration;
+
+		public SharedObjectMessageSource(MessageSource parent) {
+			super(new WeakReferenceMessageSource(parent), true);
+		}
+
+		@Override
+		void validateMisses() {
+			FacesContext facesContext = FacesContext.getCurrentInstance();
+			ExternalContext externalContext = (facesContext == null ? null : facesContext.getExternalContext());
+			if (externalContext != null && SpringFacesIntegration.isInstalled(externalContext)) {
+				long refreshGeneration = SpringFacesIntegration.getRefreshGeneration(externalContext);
+				if (refreshGeneration != this.refreshGeneration) {
+					clearMisses();
+					this.refreshGeneration = refreshGeneration;
+				}
+			}
+		}
+	}
+
+	/**
+	 * {@link MessageSource} that delegates to a weakly referenced parent.
+	 */
+	private static class WeakReferenceMessageSource implements MessageSource {
+
+		private final Reference<MessageSource> parent;
+
+		public WeakReferenceMessageSource(MessageSource parent) {
+			this.parent = new WeakReference<MessageSource>(parent);
+		}
+
+		public String getMessage(String code, Object[] args, String defaultMessage, Locale locale) {
+			return getParent().getMessage(code, args, defaultMessage, locale);
+		}
+
+		public String getMessage(String code, Object[] args, Locale locale) throws NoSuchMessageException {
+			return getParent().getMessage(code, args, locale);
+		}
+
+		public String getMessage(MessageSourceResolvable resolvable, Locale locale) throws NoSuchMessageException {
+			return getParent().getMessage(resolvable, locale);
+		}
+
+		private MessageSource getParent() {
+			MessageSource parent = this.parent.get();
+			Assert.state(parent != null, "Parent MessageSource is no longer available");
+			return parent;
+		}
+	}
 }
@@ -0,0 +1,385 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.message;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.MessageSource;
+import org.springframework.context.ResourceLoaderAware;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.AbstractMessageSource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.Assert;
+import org.springframework.util.DefaultPropertiesPersister;
+import org.springframework.util.PropertiesPersister;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link ObjectMessageSource} implementation that resolves messages from an immutable snapshot of properties bundles.
+ * Bundles are located using {@link #setBasenames(String[]) basenames} in the same way as
+ * {@link org.springframework.context.support.ReloadableResourceBundleMessageSource}. All bundles for a locale are
+ * merged into a single snapshot the first time that the locale is used, with messages pre-parsed into
+ * {@link MessageFormat}s. Snapshots are never modified once created so message lookups do not require any locking or
+ * file access. Snapshots are discarded and rebuilt when the application context is refreshed. Use
+ * {@link #setLocales(Locale[]) locales} to build snapshots eagerly.
+ * <p>
+ * Objects messages are resolved as described in {@link DefaultObjectMessageSource}.
+ * 
+ * @author Phillip Webb
+ */
+public class SnapshotMessageSource extends AbstractMessageSource implements ObjectMessageSource, ObjectMessageFinder,
+		ResourceLoaderAware, ApplicationListener<ContextRefreshedEvent> {
+
+	private static final String PROPERTIES_SUFFIX = ".properties";
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final DefaultObjectMessageSource objectMessageSource = new DefaultObjectMessageSource(this);
+
+	private String[] basenames = new String[0];
+
+	private Locale[] locales = new Locale[0];
+
+	private String defaultEncoding;
+
+	private boolean fallbackToSystemLocale = true;
+
+	private ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+	private PropertiesPersister propertiesPersister = new DefaultPropertiesPersister();
+
+	/**
+	 * Snapshots keyed by locale. The map is replaced (never modified) when a new locale is added.
+	 */
+	private volatile Map<Locale, Snapshot> snapshots = Collections.emptyMap();
+
+	/**
+	 * Set a single basename. See {@link #setBasenames(String[])} for details.
+	 * @param basename the basename
+	 */
+	public void setBasename(String basename) {
+		setBasenames(new String[] { basename });
+	}
+
+	/**
+	 * Set the basenames used to locate properties bundles, following the same conventions as
+	 * {@link org.springframework.context.support.ReloadableResourceBundleMessageSource}. For example
+	 * <tt>"WEB-INF/messages"</tt> or <tt>"classpath:messages"</tt>. Basenames are searched in the order specified.
+	 * @param basenames the basenames
+	 */
+	public void setBasenames(String[] basenames) {
+		Assert.notNull(basenames, "Basenames must not be null");
+		this.basenames = new String[basenames.length];
+		for (int i = 0; i < basenames.length; i++) {
+			Assert.hasText(basenames[i], "Basename must not be empty");
+			this.basenames[i] = basenames[i].trim();
+		}
+		clearSnapshots();
+	}
+
+	/**
+	 * Set the locales that should have snapshots built when the application context is refreshed. Snapshots for other
+	 * locales are built when first used.
+	 * @param locales the locales
+	 */
+	public void setLocales(Locale[] locales) {
+		Assert.notNull(locales, "Locales must not be null");
+		this.locales = locales;
+	}
+
+	/**
+	 * Set the default charset used to read properties files. If not specified the standard
+	 * {@link Properties#load(InputStream) ISO-8859-1} encoding is used.
+	 * @param defaultEncoding the default encoding
+	 */
+	public void setDefaultEncoding(String defaultEncoding) {
+		this.defaultEncoding = defaultEncoding;
+		clearSnapshots();
+	}
+
+	/**
+	 * Set if the system locale should be used when no bundle is found for a specific locale. Defaults to
+	 * <tt>true</tt>.
+	 * @param fallbackToSystemLocale if the system locale should be used as a fallback
+	 */
+	public void setFallbackToSystemLocale(boolean fallbackToSystemLocale) {
+		this.fallbackToSystemLocale = fallbackToSystemLocale;
+		clearSnapshots();
+	}
+
+	public void setResourceLoader(ResourceLoader resourceLoader) {
+		this.resourceLoader = (resourceLoader == null ? new DefaultResourceLoader() : resourceLoader);
+		clearSnapshots();
+	}
+
+	/**
+	 * Set the {@link PropertiesPersister} used to parse properties files.
+	 * @param propertiesPersister the properties persister
+	 */
+	public void setPropertiesPersister(PropertiesPersister propertiesPersister) {
+		this.propertiesPersister = (propertiesPersister == null ? new DefaultPropertiesPersister()
+				: propertiesPersister);
+		clearSnapshots();
+	}
+
+	@Override
+	public void setParentMessageSource(MessageSource parent) {
+		super.setParentMessageSource(parent);
+		clearSnapshots();
+	}
+
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		clearSnapshots();
+		for (Locale locale : this.locales) {
+			getSnapshot(locale);
+		}
+	}
+
+	/**
+	 * Discard all snapshots so that they are rebuilt when next used.
+	 */
+	public synchronized void clearSnapshots() {
+		this.snapshots = Collections.emptyMap();
+		// Resetting the parent discards any object message codes cached as missing
+		this.objectMessageSource.setParentMessageSource(this);
+	}
+
+	public String getMessage(Object object, Object[] args, Locale locale) throws NoSuchObjectMessageException {
+		return this.objectMessageSource.getMessage(object, args, locale);
+	}
+
+	/**
+	 * Return a message for the given object or <tt>null</tt> if the object has no message.
+	 * @param object the source object
+	 * @param args the message arguments or <code>null</code> if none.
+	 * @param locale the locale of the message to return
+	 * @return a message for the object or <tt>null</tt>
+	 * @see ObjectMessageSourceUtils#findMessage(ObjectMessageSource, Object, Object[], Locale)
+	 */
+	public String findMessage(Object object, Object[] args, Locale locale) {
+		return this.objectMessageSource.findMessage(object, args, locale);
+	}
+
+	/**
+	 * Return messages for each of the given objects. Objects that share the same message code are only resolved once.
+	 * @param objects the source objects
+	 * @param args the message arguments or <code>null</code> if none.
+	 * @param locale the locale of the messages to return
+	 * @return a list containing a message (or <tt>null</tt>) for each object, in the same order as <tt>objects</tt>
+	 * @see ObjectMessageSourceUtils#findMessages(ObjectMessageSource, Collection, Object[], Locale)
+	 */
+	public List<String> findMessages(Collection<?> objects, Object[] args, Locale locale) {
+		return this.objectMessageSource.findMessages(objects, args, locale);
+	}
+
+	@Override
+	protected String resolveCodeWithoutArguments(String code, Locale locale) {
+		Message message = getSnapshot(locale).get(code);
+		return (message == null ? null : message.getMessage());
+	}
+
+	@Override
+	protected MessageFormat resolveCode(String code, Locale locale) {
+		Message message = getSnapshot(locale).get(code);
+		return (message == null ? null : message.getMessageFormat(locale));
+	}
+
+	private Snapshot getSnapshot(Locale locale) {
+		if (locale == null) {
+			locale = Locale.getDefault();
+		}
+		Map<Locale, Snapshot> snapshots = this.snapshots;
+		Snapshot snapshot = snapshots.get(locale);
+		if (snapshot == null) {
+			synchronized (this) {
+				snapshots = this.snapshots;
+				snapshot = snapshots.get(locale);
+				if (snapshot == null) {
+					snapshot = buildSnapshot(locale);
+					Map<Locale, Snapshot> updated = new HashMap<Locale, Snapshot>(snapshots);
+					updated.put(locale, snapshot);
+					this.snapshots = Collections.unmodifiableMap(updated);
+				}
+			}
+		}
+		return snapshot;
+	}
+
+	private Snapshot buildSnapshot(Locale locale) {
+		Map<String, Message> messages = new HashMap<String, Message>();
+		for (String basename : this.basenames) {
+			for (String filename : getFilenames(basename, locale)) {
+				Properties properties = loadProperties(filename);
+				if (properties != null) {
+					for (String code : properties.stringPropertyNames()) {
+						if (!messages.containsKey(code)) {
+							messages.put(code, new Message(properties.getProperty(code), locale));
+						}
+					}
+				}
+			}
+		}
+		return new Snapshot(messages);
+	}
+
+	/**
+	 * Returns the filenames (without extension) that should be searched for the given basename and locale, in
+	 * priority order.
+	 * @param basename the basename
+	 * @param locale the locale
+	 * @return the filenames
+	 */
+	protected List<String> getFilenames(String basename, Locale locale) {
+		List<String> filenames = new ArrayList<String>();
+		filenames.addAll(getFilenamesForLocale(basename, locale));
+		Locale defaultLocale = Locale.getDefault();
+		if (this.fallbackToSystemLocale && !locale.equals(defaultLocale)) {
+			for (String filename : getFilenamesForLocale(basename, defaultLocale)) {
+				if (!filenames.contains(filename)) {
+					filenames.add(filename);
+				}
+			}
+		}
+		filenames.add(basename);
+		return filenames;
+	}
+
+	private List<String> getFilenamesForLocale(String basename, Locale locale) {
+		List<String> filenames = new ArrayList<String>(3);
+		String language = locale.getLanguage();
+		String country = locale.getCountry();
+		String variant = locale.getVariant();
+		StringBuilder filename = new StringBuilder(basename).append('_');
+		if (language.length() > 0) {
+			filename.append(language);
+			filenames.add(0, filename.toString());
+		}
+		filename.append('_');
+		if (country.length() > 0) {
+			filename.append(country);
+			filenames.add(0, filename.toString());
+		}
+		if (variant.length() > 0 && (language.length() > 0 || country.length() > 0)) {
+			filename.append('_').append(variant);
+			filenames.add(0, filename.toString());
+		}
+		return filenames;
+	}
+
+	private Properties loadProperties(String filename) {
+		Resource resource = this.resourceLoader.getResource(filename + PROPERTIES_SUFFIX);
+		if (!resource.exists()) {
+			return null;
+		}
+		try {
+			InputStream inputStream = resource.getInputStream();
+			try {
+				Properties properties = new Properties();
+				if (this.defaultEncoding == null) {
+					this.propertiesPersister.load(properties, inputStream);
+				} else {
+					this.propertiesPersister.load(properties, new InputStreamReader(inputStream, this.defaultEncoding));
+				}
+				return properties;
+			} finally {
+				inputStream.close();
+			}
+		} catch (IOException e) {
+			if (this.logger.isWarnEnabled()) {
+				this.logger.warn("Could not load properties from " + resource, e);
+			}
+			return null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getName() + ": basenames=[" + StringUtils.arrayToCommaDelimitedString(this.basenames) + "]";
+	}
+
+	/**
+	 * An immutable snapshot of all messages for a single locale.
+	 */
+	private static class Snapshot {
+
+		private final Map<String, Message> messages;
+
+		public Snapshot(Map<String, Message> messages) {
+			this.messages = messages;
+		}
+
+		public Message get(String code) {
+			return this.messages.get(code);
+		}
+	}
+
+	/**
+	 * A single message along with its pre-parsed {@link MessageFormat}.
+	 */
+	private class Message {
+
+		private final String message;
+
+		private final MessageFormat messageFormat;
+
+		public Message(String message, Locale locale) {
+			this.message = message;
+			this.messageFormat = parse(message, locale);
+		}
+
+		private MessageFormat parse(String message, Locale locale) {
+			try {
+				return createMessageFormat(message, locale);
+			} catch (IllegalArgumentException e) {
+				// Invalid format, fail only if the message is used with arguments
+				return null;
+			}
+		}
+
+		public String getMessage() {
+			return this.message;
+		}
+
+		/**
+		 * Returns a {@link MessageFormat} for the message. The returned format is a copy of the pre-parsed format and
+		 * so can be used without synchronization.
+		 * @param locale the locale
+		 * @return the message format
+		 */
+		public MessageFormat getMessageFormat(Locale locale) {
+			if (this.messageFormat == null) {
+				return createMessageFormat(this.message, locale);
+			}
+			return (MessageFormat) this.messageFormat.clone();
+		}
+	}
+}
@@ -16,18 +16,22 @@
 package org.springframework.springfaces.message.ui;
 
 import java.util.AbstractMap;
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.MessageSource;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.style.ToStringCreator;
-import org.springframework.springfaces.message.NoSuchObjectMessageException;
 import org.springframework.springfaces.message.ObjectMessageSource;
+import org.springframework.springfaces.message.ObjectMessageSourceUtils;
+import org.springframework.springfaces.util.ConcurrentCache;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -51,7 +55,8 @@ import org.springframework.util.StringUtils;
  * @author Phillip Webb
  * @author Pedro Casagrande
  */
-public class MessageSourceMap extends AbstractMap<Object, Object> {
+public class MessageSourceMap extends AbstractMap<Object, Object> implements
+		ApplicationListener<ContextRefreshedEvent> {
 
 	private static final Object[] NO_ARGUMENTS = {};
 
@@ -59,6 +64,10 @@ public class MessageSourceMap extends AbstractMap<Object, Object> {
 
 	private static final Pattern PARAMETER_PATTERN = Pattern.compile("\\{([\\w]+?)\\}");
 
+	private static final int MESSAGE_CODE_CACHE_SIZE = 512;
+
+	private static final int PLACEHOLDER_COUNT_LOCALES = 8;
+
 	/**
 	 * The message source used to resolve messages.
 	 */
@@ -69,6 +78,12 @@ public class MessageSourceMap extends AbstractMap<Object, Object> {
 	 */
 	private String[] prefixCodes;
 
+	/**
+	 * Compiled message codes, keyed by the code.
+	 */
+	private final ConcurrentCache<String, MessageCode> messageCodes = new ConcurrentCache<String, MessageCode>(
+			MESSAGE_CODE_CACHE_SIZE);
+
 	/**
 	 * Create a new MessageSourceMap
 	 * @param messageSource a non-null message source
@@ -104,14 +119,30 @@ public class MessageSourceMap extends AbstractMap<Object, Object> {
 	 */
 	protected Object resolveMessageArgument(Object argument) {
 		if (this.messageSource instanceof ObjectMessageSource) {
-			try {
-				return ((ObjectMessageSource) this.messageSource).getMessage(argument, NO_ARGUMENTS, getLocale());
-			} catch (NoSuchObjectMessageException e) {
+			String message = ObjectMessageSourceUtils.findMessage((ObjectMessageSource) this.messageSource, argument,
+					NO_ARGUMENTS, getLocale());
+			if (message != null) {
+				return message;
 			}
 		}
 		return argument;
 	}
 
+	/**
+	 * Resolve the message for a code that is used without arguments. The resolved message will have any placeholder
+	 * elements intact. Subclasses can override this method to cache resolved messages, the default implementation
+	 * delegates to the message source.
+	 * @param code the message code being resolved (without any prefix)
+	 * @param resolvable the message resolvable (containing all prefixed codes)
+	 * @param locale the locale
+	 * @return the resolved message
+	 * @throws NoSuchMessageException if the message cannot be resolved
+	 */
+	protected String getMessageWithoutArguments(String code, MessageSourceResolvable resolvable, Locale locale)
+			throws NoSuchMessageException {
+		return this.messageSource.getMessage(resolvable, locale);
+	}
+
 	/**
 	 * Called to handle any {@link NoSuchMessageException} exceptions. The default behavior throws the exception,
 	 * subclasses can override to handle exception differently.
@@ -137,10 +168,10 @@ public class MessageSourceMap extends AbstractMap<Object, Object> {
 			return null;
 		}
 		if (key instanceof String) {
-			return new MessageCodeValue((String) key, NO_ARGUMENTS).getReturnValue();
+			return new MessageCodeValue(getMessageCode((String) key), null, null).getReturnValue();
 		}
 		if (this.messageSource instanceof ObjectMessageSource) {
-			return new ObjectMessageValue(key, NO_ARGUMENTS).getReturnValue();
+			return new ObjectMessageValue(key, null, null).getReturnValue();
 		}
 		throw new IllegalArgumentException("Unable to resolve " + key.getClass().getName()
 				+ " messages when not using an ObjectMessageSource.");
@@ -161,6 +192,14 @@ public class MessageSourceMap extends AbstractMap<Object, Object> {
 		return source;
 	}
 
+	/**
+	 * Discards compiled message codes, including the number of placeholders remembered for each locale, when the
+	 * application context is refreshed.
+	 */
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		this.messageCodes.clear();
+	}
+
 	@Override
 	public Set<Map.Entry<Object, Object>> entrySet() {
 		throw new UnsupportedOperationException();
@@ -172,12 +211,126 @@ public class MessageSourceMap extends AbstractMap<Object, Object> {
 				.append("prefixCodes", this.prefixCodes).toString();
 	}
 
+	/**
+	 * Returns the compiled {@link MessageCode} for the given code.
+	 * @param code the message code
+	 * @return the message code
+	 */
+	private MessageCode getMessageCode(String code) {
+		MessageCode messageCode = this.messageCodes.get(code);
+		if (messageCode == null) {
+			messageCode = this.messageCodes.put(code, new MessageCode(code));
+		}
+		return messageCode;
+	}
+
+	private static int countPlaceholders(String message) {
+		if (!StringUtils.hasLength(message)) {
+			return 0;
+		}
+		Matcher matcher = PARAMETER_PATTERN.matcher(message);
+		int count = 0;
+		while (matcher.find()) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Compiled details of a single message code. The prefixed codes are built once and the number of placeholders in
+	 * the message is remembered for a small number of locales. A {@link MessageCode} can also be used directly to
+	 * resolve the message with placeholder elements intact.
+	 */
+	private class MessageCode implements MessageSourceResolvable {
+
+		private final String code;
+
+		private final String[] codes;
+
+		/**
+		 * The number of placeholders in the message, keyed by locale.
+		 */
+		private final Map<Locale, Integer> placeholderCounts = new HashMap<Locale, Integer>();
+
+		public MessageCode(String code) {
+			this.code = code;
+			this.codes = buildPrefixedCodes(code);
+		}
+
+		private String[] buildPrefixedCodes(String code) {
+			if (MessageSourceMap.this.prefixCodes.length == 0) {
+				return new String[] { code };
+			}
+			String[] codes = new String[MessageSourceMap.this.prefixCodes.length];
+			System.arraycopy(MessageSourceMap.this.prefixCodes, 0, codes, 0, MessageSourceMap.this.prefixCodes.length);
+			for (int i = 0; i < codes.length; i++) {
+				codes[i] = codes[i] == null ? code : codes[i].concat(code);
+			}
+			return codes;
+		}
+
+		public String getCode() {
+			return this.code;
+		}
+
+		public String[] getCodes() {
+			return this.codes;
+		}
+
+		public Object[] getArguments() {
+			return NO_ARGUMENTS;
+		}
+
+		public String getDefaultMessage() {
+			return null;
+		}
+
+		/**
+		 * Returns the number of placeholders in the message for the given locale.
+		 * @param locale the locale
+		 * @return the number of placeholders (<tt>0</tt> if the message cannot be resolved)
+		 */
+		public int getPlaceholderCount(Locale locale) {
+			synchronized (this.placeholderCounts) {
+				Integer placeholderCount = this.placeholderCounts.get(locale);
+				if (placeholderCount == null) {
+					placeholderCount = countPlaceholders(getMessageWithPlaceholders(locale));
+					if (this.placeholderCounts.size() >= PLACEHOLDER_COUNT_LOCALES) {
+						this.placeholderCounts.clear();
+					}
+					this.placeholderCounts.put(locale, placeholderCount);
+				}
+				return placeholderCount;
+			}
+		}
+
+		private String getMessageWithPlaceholders(Locale locale) {
+			try {
+				return getMessageWithoutArguments(this.code, this, locale);
+			} catch (NoSuchMessageException e) {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Base class for values returned from the map. Chained arguments are held as a linked chain of values, each
+	 * referencing its parent, so that nesting does not copy arguments. The argument array is only built when needed.
+	 */
 	private abstract class AbstractValue extends AbstractMap<Object, Object> {
 
+		private final AbstractValue parent;
+
+		private final Object argument;
+
+		private final int argumentCount;
+
 		private Object[] arguments;
 
-		public AbstractValue(Object[] arguments) {
-			this.arguments = arguments;
+		public AbstractValue(AbstractValue parent, Object argument) {
+			this.parent = parent;
+			this.argument = argument;
+			this.argumentCount = (parent == null ? 0 : parent.argumentCount + 1);
 		}
 
 		@Override
@@ -187,26 +340,40 @@ public class MessageSourceMap extends AbstractMap<Object, Object> {
 
 		@Override
 		public Object get(Object key) {
-			Object[] childArguments = new Object[this.arguments.length + 1];
-			System.arraycopy(this.arguments, 0, childArguments, 0, this.arguments.length);
-			childArguments[childArguments.length - 1] = resolveMessageArgument(key);
-			return createNestedValue(childArguments).getReturnValue();
+			return createNestedValue(resolveMessageArgument(key)).getReturnValue();
 		}
 
 		protected Object[] getArguments() {
+			if (this.argumentCount == 0) {
+				return NO_ARGUMENTS;
+			}
+			if (this.arguments == null) {
+				Object[] arguments = new Object[this.argumentCount];
+				AbstractValue value = this;
+				for (int i = arguments.length - 1; i >= 0; i--) {
+					arguments[i] = value.argument;
+					value = value.parent;
+				}
+				this.arguments = arguments;
+			}
 			return this.arguments;
 		}
 
-		protected abstract AbstractValue createNestedValue(Object[] arguments);
+		/**
+		 * Create a nested value with an additional argument.
+		 * @param argument the resolved argument to add
+		 * @return the nested value
+		 */
+		protected abstract AbstractValue createNestedValue(Object argument);
 
 		@Override
 		public abstract String toString();
 
 		/**
-		 * Returns the message with placeholder elements intact.
-		 * @return the message string or <tt>null</tt> if no message is found.
+		 * Returns the number of placeholders in the message.
+		 * @return the number of placeholders (<tt>0</tt> if no message is found)
 		 */
-		protected abstract String toStringWithPlaceholders();
+		protected abstract int getPlaceholderCount();
 
 		/**
 		 * Returns the appropriate return value (either a <tt>String</tt> or <tt>this</tt>) depending on the result of
@@ -215,24 +382,11 @@ public class MessageSourceMap extends AbstractMap<Object, Object> {
 		 * @return the return value
 		 */
 		public Object getReturnValue() {
-			if (returnStringsWhenPossible() && hasCorrentNumberOfArguments()) {
+			if (returnStringsWhenPossible() && this.argumentCount == getPlaceholderCount()) {
 				return toString();
 			}
 			return this;
 		}
-
-		private boolean hasCorrentNumberOfArguments() {
-			String messageWithPlaceHolders = toStringWithPlaceholders();
-			if (!StringUtils.hasLength(messageWithPlaceHolders)) {
-				return getArguments().length == 0;
-			}
-			Matcher matcher = PARAMETER_PATTERN.matcher(messageWithPlaceHolders);
-			int numberOfParameters = 0;
-			while (matcher.find()) {
-				numberOfParameters++;
-			}
-			return getArguments().length == numberOfParameters;
-		}
 	}
 
 	/**
@@ -240,34 +394,20 @@ public class MessageSourceMap extends AbstractMap<Object, Object> {
 	 */
 	private class MessageCodeValue extends AbstractValue implements MessageSourceResolvable {
 
-		private String code;
-		private String[] codes;
-
-		public MessageCodeValue(String code, Object[] arguments) {
-			super(arguments);
-			this.code = code;
-			this.codes = buildPrefixedCodes(code);
-		}
+		private final MessageCode messageCode;
 
-		private String[] buildPrefixedCodes(String code) {
-			if (MessageSourceMap.this.prefixCodes.length == 0) {
-				return new String[] { code };
-			}
-			String[] codes = new String[MessageSourceMap.this.prefixCodes.length];
-			System.arraycopy(MessageSourceMap.this.prefixCodes, 0, codes, 0, MessageSourceMap.this.prefixCodes.length);
-			for (int i = 0; i < codes.length; i++) {
-				codes[i] = codes[i] == null ? code : codes[i].concat(code);
-			}
-			return codes;
+		public MessageCodeValue(MessageCode messageCode, AbstractValue parent, Object argument) {
+			super(parent, argument);
+			this.messageCode = messageCode;
 		}
 
 		@Override
-		protected AbstractValue createNestedValue(Object[] childArguments) {
-			return new MessageCodeValue(this.code, childArguments);
+		protected AbstractValue createNestedValue(Object argument) {
+			return new MessageCodeValue(this.messageCode, this, argument);
 		}
 
 		public String[] getCodes() {
-			return this.codes;
+			return this.messageCode.getCodes();
 		}
 
 		@Override
@@ -282,73 +422,47 @@ public class MessageSourceMap extends AbstractMap<Object, Object> {
 		@Override
 		public String toString() {
 			try {
+				if (getArguments().length == 0) {
+					return getMessageWithoutArguments(this.messageCode.getCode(), this, getLocale());
+				}
 				return MessageSourceMap.this.messageSource.getMessage(this, getLocale());
 			} catch (NoSuchMessageException e) {
 				handleNoSuchMessageException(this, e);
-				return this.code;
+				return this.messageCode.getCode();
 			}
 		}
 
 		@Override
-		protected String toStringWithPlaceholders() {
-			try {
-				return MessageSourceMap.this.messageSource.getMessage(getMessageSourceResolvableWithoutArguments(),
-						getLocale());
-			} catch (NoSuchMessageException e) {
-				return null;
-			}
-		}
-
-		private MessageSourceResolvable getMessageSourceResolvableWithoutArguments() {
-			return new MessageSourceResolvable() {
-
-				public String getDefaultMessage() {
-					return null;
-				}
-
-				public String[] getCodes() {
-					return MessageCodeValue.this.getCodes();
-				}
-
-				public Object[] getArguments() {
-					return NO_ARGUMENTS;
-				}
-			};
+		protected int getPlaceholderCount() {
+			return this.messageCode.getPlaceholderCount(getLocale());
 		}
 	}
 
 	private class ObjectMessageValue extends AbstractValue {
 
-		private Object object;
+		private final Object object;
 
-		public ObjectMessageValue(Object object, Object[] arguments) {
-			super(arguments);
+		public ObjectMessageValue(Object object, AbstractValue parent, Object argument) {
+			super(parent, argument);
 			this.object = object;
 		}
 
 		@Override
-		protected AbstractValue createNestedValue(Object[] childArguments) {
-			return new ObjectMessageValue(this.object, childArguments);
+		protected AbstractValue createNestedValue(Object argument) {
+			return new ObjectMessageValue(this.object, this, argument);
 		}
 
 		@Override
 		public String toString() {
-			try {
-				return ((ObjectMessageSource) MessageSourceMap.this.messageSource).getMessage(this.object,
-						getArguments(), getLocale());
-			} catch (NoSuchObjectMessageException e) {
-				return String.valueOf(this.object);
-			}
+			String message = ObjectMessageSourceUtils.findMessage(
+					(ObjectMessageSource) MessageSourceMap.this.messageSource, this.object, getArguments(), getLocale());
+			return (message == null ? String.valueOf(this.object) : message);
 		}
 
 		@Override
-		protected String toStringWithPlaceholders() {
-			try {
-				return ((ObjectMessageSource) MessageSourceMap.this.messageSource).getMessage(this.object,
-						NO_ARGUMENTS, getLocale());
-			} catch (NoSuchObjectMessageException e) {
-				return null;
-			}
+		protected int getPlaceholderCount() {
+			return countPlaceholders(ObjectMessageSourceUtils.findMessage(
+					(ObjectMessageSource) MessageSourceMap.this.messageSource, this.object, NO_ARGUMENTS, getLocale()));
 		}
 	}
 }
@@ -37,10 +37,13 @@ import org.springframework.context.MessageSource;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.context.NoSuchMessageException;
 import org.springframework.springfaces.SpringFacesIntegration;
+import org.springframework.springfaces.SpringFacesRefreshListener;
 import org.springframework.springfaces.message.ObjectMessageSource;
 import org.springframework.springfaces.message.ObjectMessageSourceUtils;
+import org.springframework.springfaces.util.ConcurrentCache;
 import org.springframework.springfaces.util.FacesUtils;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -64,6 +67,11 @@ import org.springframework.util.StringUtils;
  * By default this component will attempt to deduce when a return value should be a <tt>String</tt> and when it should
  * be a nested map. This behavior can be changed using the {@link #setReturnStringsWhenPossible(boolean)
  * returnStringsWhenPossible} attribute.
+ * <p>
+ * Messages that are used without arguments can be cached for each view and locale by setting the
+ * {@link #setCacheMessages(boolean) cacheMessages} attribute. Caching only occurs when running in the
+ * {@link ProjectStage#Production production} project stage. The cache is held as an application scoped attribute, is
+ * shared by all requests that render the same view and is cleared when the Spring application context is refreshed.
  * 
  * @author Phillip Webb
  * @see MessageSourceMap
@@ -78,6 +86,20 @@ public class UIMessageSource extends UIComponentBase {
 
 	private static final String WEB_INF = "WEB-INF";
 
+	private static final String CACHES_ATTRIBUTE = UIMessageSource.class.getName() + ".CACHES";
+
+	/**
+	 * Monitor used when creating {@link Caches} so that only a single instance is registered. The application map
+	 * itself cannot be used as JSF implementations may return a different wrapper for each request.
+	 */
+	private static final Object CACHES_MONITOR = new Object();
+
+	private static final int PREFIX_CODE_CACHE_SIZE = 512;
+
+	private static final int MESSAGE_CACHE_SIZE = 256;
+
+	private static final int MESSAGES_PER_CACHE = 1024;
+
 	@Override
 	public String getFamily() {
 		return COMPONENT_FAMILY;
@@ -115,8 +137,45 @@ public class UIMessageSource extends UIComponentBase {
 						+ "is enabled or set the 'source' attribute");
 		ObjectMessageSource objectMessageSource = ObjectMessageSourceUtils.getObjectMessageSource(messageSource,
 				applicationContext);
-		return new UIMessageSourceMap(context, objectMessageSource,
-				prefixCodes.toArray(new String[prefixCodes.size()]), isReturnStringsWhenPossible());
+		String[] prefixCodesArray = prefixCodes.toArray(new String[prefixCodes.size()]);
+		Caches caches = null;
+		MessageCacheKey messageCacheKey = null;
+		if (isMessageCacheEnabled(context)) {
+			caches = getCaches(context);
+			messageCacheKey = new MessageCacheKey(context.getViewRoot().getViewId(),
+					(messageSource == null ? applicationContext : messageSource), prefixCodesArray, null);
+		}
+		return new UIMessageSourceMap(context, objectMessageSource, prefixCodesArray, isReturnStringsWhenPossible(),
+				caches, messageCacheKey);
+	}
+
+	private boolean isMessageCacheEnabled(FacesContext context) {
+		return isCacheMessages() && context.isProjectStage(ProjectStage.Production) && context.getViewRoot() != null
+				&& context.getViewRoot().getViewId() != null;
+	}
+
+	/**
+	 * Returns the application scoped {@link Caches}, creating them if necessary.
+	 * @param context the faces context
+	 * @return the caches
+	 */
+	private Caches getCaches(FacesContext context) {
+		ExternalContext externalContext = context.getExternalContext();
+		Map<String, Object> applicationMap = externalContext.getApplicationMap();
+		Caches caches = (Caches) applicationMap.get(CACHES_ATTRIBUTE);
+		if (caches == null) {
+			synchronized (CACHES_MONITOR) {
+				caches = (Caches) applicationMap.get(CACHES_ATTRIBUTE);
+				if (caches == null) {
+					caches = new Caches();
+					applicationMap.put(CACHES_ATTRIBUTE, caches);
+					if (SpringFacesIntegration.isInstalled(externalContext)) {
+						SpringFacesIntegration.getCurrentInstance(externalContext).addRefreshListener(caches);
+					}
+				}
+			}
+		}
+		return caches;
 	}
 
 	private ApplicationContext getApplicationContext(FacesContext context) {
@@ -165,7 +224,17 @@ public class UIMessageSource extends UIComponentBase {
 	private String buildPrefixCodeFromViewRoot(FacesContext context) {
 		Assert.state(context.getViewRoot() != null, "Unable to build message prefix from null viewRoot");
 		Assert.state(context.getViewRoot().getViewId() != null, "Unable to build message prefix from null viewRoot ID");
-		String code = context.getViewRoot().getViewId();
+		String viewId = context.getViewRoot().getViewId();
+		ConcurrentCache<String, String> prefixCodes = getCaches(context).prefixCodes;
+		String code = prefixCodes.get(viewId);
+		if (code == null) {
+			code = prefixCodes.put(viewId, buildPrefixCode(viewId));
+		}
+		return code;
+	}
+
+	private String buildPrefixCode(String viewId) {
+		String code = viewId;
 		code = removePrefix(code, SLASH);
 		code = removePrefix(code, WEB_INF);
 		code = removePrefix(code, SLASH);
@@ -286,8 +355,97 @@ public class UIMessageSource extends UIComponentBase {
 		getStateHelper().put(PropertyKeys.prefixOptional, prefixOptional);
 	}
 
+	/**
+	 * Returns if messages that are used without arguments should be cached when running in the
+	 * {@link ProjectStage#Production production} project stage. Defaults to <tt>false</tt> when not specified.
+	 * @return if messages should be cached
+	 */
+	public boolean isCacheMessages() {
+		return (Boolean) getStateHelper().eval(PropertyKeys.cacheMessages, false);
+	}
+
+	/**
+	 * Set if messages that are used without arguments should be cached when running in the
+	 * {@link ProjectStage#Production production} project stage. Caching should not be enabled if messages can change at
+	 * runtime.
+	 * @param cacheMessages if messages should be cached
+	 */
+	public void setCacheMessages(boolean cacheMessages) {
+		getStateHelper().put(PropertyKeys.cacheMessages, cacheMessages);
+	}
+
 	private enum PropertyKeys {
-		source, var, prefix, returnStringsWhenPossible, prefixOptional
+		source, var, prefix, returnStringsWhenPossible, prefixOptional, cacheMessages
+	}
+
+	/**
+	 * Application scoped caches, discarded when the application context is refreshed or replaced.
+	 */
+	private static class Caches implements SpringFacesRefreshListener {
+
+		/**
+		 * Prefix codes built from the view root, keyed by view ID.
+		 */
+		private final ConcurrentCache<String, String> prefixCodes = new ConcurrentCache<String, String>(
+				PREFIX_CODE_CACHE_SIZE);
+
+		/**
+		 * Resolved messages shared across requests, keyed by the view, source, prefix codes and locale.
+		 */
+		private final ConcurrentCache<MessageCacheKey, ConcurrentCache<String, String>> messages = new ConcurrentCache<MessageCacheKey, ConcurrentCache<String, String>>(
+				MESSAGE_CACHE_SIZE);
+
+		public void onRefresh(SpringFacesIntegration springFacesIntegration) {
+			this.messages.clear();
+		}
+	}
+
+	/**
+	 * Key used to cache resolved messages.
+	 */
+	private static class MessageCacheKey {
+
+		private final String viewId;
+
+		private final Object source;
+
+		private final String[] prefixCodes;
+
+		private final Locale locale;
+
+		public MessageCacheKey(String viewId, Object source, String[] prefixCodes, Locale locale) {
+			this.viewId = viewId;
+			this.source = source;
+			this.prefixCodes = prefixCodes;
+			this.locale = locale;
+		}
+
+		public MessageCacheKey withLocale(Locale locale) {
+			return new MessageCacheKey(this.viewId, this.source, this.prefixCodes, locale);
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = this.viewId.hashCode();
+			hashCode = 31 * hashCode + ObjectUtils.nullSafeHashCode(this.source);
+			hashCode = 31 * hashCode + ObjectUtils.nullSafeHashCode(this.prefixCodes);
+			hashCode = 31 * hashCode + ObjectUtils.nullSafeHashCode(this.locale);
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (obj == null || obj.getClass() != getClass()) {
+				return false;
+			}
+			MessageCacheKey other = (MessageCacheKey) obj;
+			return this.viewId.equals(other.viewId) && ObjectUtils.nullSafeEquals(this.source, other.source)
+					&& ObjectUtils.nullSafeEquals(this.prefixCodes, other.prefixCodes)
+					&& ObjectUtils.nullSafeEquals(this.locale, other.locale);
+		}
 	}
 
 	private class UIMessageSourceMap extends MessageSourceMap {
@@ -296,11 +454,49 @@ public class UIMessageSource extends UIComponentBase {
 
 		private boolean returnStringsWhenPossible;
 
+		private Caches caches;
+
+		private MessageCacheKey messageCacheKey;
+
+		private ConcurrentCache<String, String> messages;
+
 		public UIMessageSourceMap(FacesContext context, MessageSource messageSource, String[] prefixCodes,
-				boolean returnStringsWhenPossible) {
+				boolean returnStringsWhenPossible, Caches caches, MessageCacheKey messageCacheKey) {
 			super(messageSource, prefixCodes);
 			this.context = context;
 			this.returnStringsWhenPossible = returnStringsWhenPossible;
+			this.caches = caches;
+			this.messageCacheKey = messageCacheKey;
+		}
+
+		@Override
+		protected String getMessageWithoutArguments(String code, MessageSourceResolvable resolvable, Locale locale)
+				throws NoSuchMessageException {
+			if (this.messageCacheKey == null) {
+				return super.getMessageWithoutArguments(code, resolvable, locale);
+			}
+			ConcurrentCache<String, String> messages = getMessages(locale);
+			String message = messages.get(code);
+			if (message == null) {
+				message = super.getMessageWithoutArguments(code, resolvable, locale);
+				if (message != null) {
+					messages.put(code, message);
+				}
+			}
+			return message;
+		}
+
+		private ConcurrentCache<String, String> getMessages(Locale locale) {
+			if (this.messages == null || !ObjectUtils.nullSafeEquals(this.messageCacheKey.locale, locale)) {
+				this.messageCacheKey = this.messageCacheKey.withLocale(locale);
+				ConcurrentCache<String, String> messages = this.caches.messages.get(this.messageCacheKey);
+				if (messages == null) {
+					messages = this.caches.messages.put(this.messageCacheKey, new ConcurrentCache<String, String>(
+							MESSAGES_PER_CACHE));
+				}
+				this.messages = messages;
+			}
+			return this.messages;
 		}
 
 		@Override
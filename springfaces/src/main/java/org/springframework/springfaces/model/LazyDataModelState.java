@@ -15,20 +15,31 @@
  */
 package org.springframework.springfaces.model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
+import org.springframework.springfaces.util.VarIntUtils;
+
 /**
- * State associated with a {@link LazyDataModel}.
+ * State associated with a {@link LazyDataModel}. In order to minimize the size of client side JSF view state only
+ * values that differ from a newly created instance are written when the state is serialized. Subclasses may add
+ * additional fields, these will be serialized using the standard Java serialization mechanism.
  * 
  * @author Phillip Webb
  */
 public class LazyDataModelState implements Serializable {
 
-	private static final long serialVersionUID = 1L;
+	private static final long serialVersionUID = 2L;
+
+	private static final int HAS_ROW_INDEX = 1;
 
-	private int rowIndex = -1;
+	private static final int HAS_LAST_LOADED_TOTAL_ROW_COUNT = 2;
 
-	private Long lastLoadedTotalRowCount;
+	private transient int rowIndex = -1;
+
+	private transient Long lastLoadedTotalRowCount;
 
 	/**
 	 * Returns the row index.
@@ -55,4 +66,26 @@ public class LazyDataModelState implements Serializable {
 	public void setLastLoadedTotalRowCount(Long lastLoadedTotalRowCount) {
 		this.lastLoadedTotalRowCount = lastLoadedTotalRowCount;
 	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		int flags = 0;
+		flags |= (this.rowIndex != -1 ? HAS_ROW_INDEX : 0);
+		flags |= (this.lastLoadedTotalRowCount != null ? HAS_LAST_LOADED_TOTAL_ROW_COUNT : 0);
+		out.writeByte(flags);
+		if ((flags & HAS_ROW_INDEX) != 0) {
+			VarIntUtils.writeInt(out, this.rowIndex);
+		}
+		if ((flags & HAS_LAST_LOADED_TOTAL_ROW_COUNT) != 0) {
+			VarIntUtils.writeLong(out, this.lastLoadedTotalRowCount);
+		}
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		int flags = in.readUnsignedByte();
+		this.rowIndex = ((flags & HAS_ROW_INDEX) != 0 ? VarIntUtils.readInt(in) : -1);
+		this.lastLoadedTotalRowCount = ((flags & HAS_LAST_LOADED_TOTAL_ROW_COUNT) != 0 ? VarIntUtils.readLong(in)
+				: null);
+	}
 }
@@ -91,6 +91,24 @@ public class PagedDataModel<E> extends LazyDataModel<E, PagedDataModelState> imp
 		if (!ObjectUtils.nullSafeEquals(getFilters(), filters)) {
 			reset();
 			getState().setFilters(filters);
+			getState().setCachedTotalRowCount(null);
 		}
 	}
+
+	@Override
+	protected void reset() {
+		super.reset();
+		getState().clearLastRowKeys();
+	}
+
+	/**
+	 * Discard any total row count that has been cached in the {@link PagedDataModelState state}, forcing the count to
+	 * be recalculated. Unlike {@link #clearCachedRowCount()}, which is called whenever the page changes, this method
+	 * should only be called when the underlying data is known to have changed.
+	 * @see PagedDataModelState#setCachedTotalRowCount(Long)
+	 */
+	public void clearCachedTotalRowCount() {
+		getState().setCachedTotalRowCount(null);
+		clearCachedRowCount();
+	}
 }
@@ -15,28 +15,55 @@
  */
 package org.springframework.springfaces.page.model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.springfaces.model.LazyDataModelState;
+import org.springframework.springfaces.util.VarIntUtils;
 import org.springframework.util.Assert;
 
 /**
- * State associated with a {@link PagedDataModel}.
+ * State associated with a {@link PagedDataModel}. As with {@link LazyDataModelState} only values that differ from a
+ * newly created instance are written when the state is serialized, an unsorted and unfiltered state typically requires
+ * only a few bytes.
  * 
  * @author Phillip Webb
  */
 public class PagedDataModelState extends LazyDataModelState {
 
-	private static final long serialVersionUID = 1L;
+	private static final long serialVersionUID = 2L;
 
-	private int pageSize;
+	private static final int SORT_DESCENDING = 1;
 
-	private boolean sortAscending;
+	private static final int HAS_SORT_COLUMN = 2;
 
-	private String sortColumn;
+	private static final int HAS_FILTERS = 4;
 
-	private Map<String, String> filters = new HashMap<String, String>();
+	private static final int HAS_CACHED_TOTAL_ROW_COUNT = 8;
+
+	private static final int HAS_LAST_ROW_KEYS = 16;
+
+	/**
+	 * The maximum number of last row keys that will be retained.
+	 */
+	private static final int MAX_LAST_ROW_KEYS = 8;
+
+	private transient int pageSize;
+
+	private transient boolean sortAscending;
+
+	private transient String sortColumn;
+
+	private transient Map<String, String> filters = new HashMap<String, String>();
+
+	private transient Long cachedTotalRowCount;
+
+	private transient long cachedTotalRowCountTime;
+
+	private transient Map<Integer, Object> lastRowKeys = new HashMap<Integer, Object>();
 
 	/**
 	 * Create a new {@link PagedDataModelState} instance.
@@ -120,4 +147,135 @@ public class PagedDataModelState extends LazyDataModelState {
 	public void setFilters(Map<String, String> filters) {
 		this.filters = filters;
 	}
+
+	/**
+	 * Returns a previously {@link #setCachedTotalRowCount(Long) cached} total row count, providing that it was cached
+	 * less than <tt>maxAge</tt> milliseconds ago.
+	 * @param maxAge the maximum age of the cached value in milliseconds
+	 * @return the cached total row count or <tt>null</tt> if no count is cached or the cached count has expired
+	 */
+	public Long getCachedTotalRowCount(long maxAge) {
+		if (this.cachedTotalRowCount == null || System.currentTimeMillis() - this.cachedTotalRowCountTime >= maxAge) {
+			return null;
+		}
+		return this.cachedTotalRowCount;
+	}
+
+	/**
+	 * Cache the total row count so that it need not be recalculated when the page changes.
+	 * @param cachedTotalRowCount the total row count or <tt>null</tt> to clear any cached value
+	 * @see #getCachedTotalRowCount(long)
+	 */
+	public void setCachedTotalRowCount(Long cachedTotalRowCount) {
+		this.cachedTotalRowCount = cachedTotalRowCount;
+		this.cachedTotalRowCountTime = System.currentTimeMillis();
+	}
+
+	/**
+	 * Returns the key of the last row of a previously loaded page. Keys are used to support keyset (seek) pagination
+	 * where the next page is located by querying for rows that sort after the last row of the previous page.
+	 * @param pageNumber the page number
+	 * @return the key of the last row on the page or <tt>null</tt> if the key is not known
+	 * @see #setLastRowKey(int, Object)
+	 */
+	public Object getLastRowKey(int pageNumber) {
+		return this.lastRowKeys.get(pageNumber);
+	}
+
+	/**
+	 * Record the key of the last row of a loaded page. Keys are held as part of the state and as such should be
+	 * {@link java.io.Serializable}. Only keys for the pages nearest to the most recently recorded page are retained.
+	 * @param pageNumber the page number
+	 * @param lastRowKey the key of the last row on the page or <tt>null</tt> to remove any recorded key
+	 * @see #getLastRowKey(int)
+	 */
+	public void setLastRowKey(int pageNumber, Object lastRowKey) {
+		if (lastRowKey == null) {
+			this.lastRowKeys.remove(pageNumber);
+		} else {
+			this.lastRowKeys.put(pageNumber, lastRowKey);
+			if (this.lastRowKeys.size() > MAX_LAST_ROW_KEYS) {
+				removeFurthestLastRowKey(pageNumber);
+			}
+		}
+	}
+
+	private void removeFurthestLastRowKey(int pageNumber) {
+		Integer furthest = null;
+		for (Integer candidate : this.lastRowKeys.keySet()) {
+			if (furthest == null || Math.abs(candidate - pageNumber) > Math.abs(furthest - pageNumber)) {
+				furthest = candidate;
+			}
+		}
+		this.lastRowKeys.remove(furthest);
+	}
+
+	/**
+	 * Remove all {@link #setLastRowKey(int, Object) recorded} last row keys. Keys should be cleared whenever the page
+	 * size, sort or filters change.
+	 */
+	public void clearLastRowKeys() {
+		this.lastRowKeys.clear();
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		int flags = 0;
+		flags |= (this.sortAscending ? 0 : SORT_DESCENDING);
+		flags |= (this.sortColumn != null ? HAS_SORT_COLUMN : 0);
+		flags |= (this.filters != null && !this.filters.isEmpty() ? HAS_FILTERS : 0);
+		flags |= (this.cachedTotalRowCount != null ? HAS_CACHED_TOTAL_ROW_COUNT : 0);
+		flags |= (!this.lastRowKeys.isEmpty() ? HAS_LAST_ROW_KEYS : 0);
+		out.writeByte(flags);
+		VarIntUtils.writeInt(out, this.pageSize);
+		if ((flags & HAS_SORT_COLUMN) != 0) {
+			out.writeUTF(this.sortColumn);
+		}
+		if ((flags & HAS_FILTERS) != 0) {
+			VarIntUtils.writeInt(out, this.filters.size());
+			for (Map.Entry<String, String> filter : this.filters.entrySet()) {
+				out.writeObject(filter.getKey());
+				out.writeObject(filter.getValue());
+			}
+		}
+		if ((flags & HAS_CACHED_TOTAL_ROW_COUNT) != 0) {
+			VarIntUtils.writeLong(out, this.cachedTotalRowCount);
+			VarIntUtils.writeLong(out, this.cachedTotalRowCountTime);
+		}
+		if ((flags & HAS_LAST_ROW_KEYS) != 0) {
+			VarIntUtils.writeInt(out, this.lastRowKeys.size());
+			for (Map.Entry<Integer, Object> lastRowKey : this.lastRowKeys.entrySet()) {
+				VarIntUtils.writeInt(out, lastRowKey.getKey());
+				out.writeObject(lastRowKey.getValue());
+			}
+		}
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		int flags = in.readUnsignedByte();
+		this.pageSize = VarIntUtils.readInt(in);
+		this.sortAscending = (flags & SORT_DESCENDING) == 0;
+		this.sortColumn = ((flags & HAS_SORT_COLUMN) != 0 ? in.readUTF() : null);
+		this.filters = new HashMap<String, String>();
+		if ((flags & HAS_FILTERS) != 0) {
+			int size = VarIntUtils.readInt(in);
+			for (int i = 0; i < size; i++) {
+				this.filters.put((String) in.readObject(), (String) in.readObject());
+			}
+		}
+		this.cachedTotalRowCount = null;
+		this.cachedTotalRowCountTime = 0;
+		if ((flags & HAS_CACHED_TOTAL_ROW_COUNT) != 0) {
+			this.cachedTotalRowCount = VarIntUtils.readLong(in);
+			this.cachedTotalRowCountTime = VarIntUtils.readLong(in);
+		}
+		this.lastRowKeys = new HashMap<Integer, Object>();
+		if ((flags & HAS_LAST_ROW_KEYS) != 0) {
+			int size = VarIntUtils.readInt(in);
+			for (int i = 0; i < size; i++) {
+				this.lastRowKeys.put(VarIntUtils.readInt(in), in.readObject());
+			}
+		}
+	}
 }
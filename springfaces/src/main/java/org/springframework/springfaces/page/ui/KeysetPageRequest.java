@@ -0,0 +1,36 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.page.ui;
+
+/**
+ * Extension of {@link PageRequest} that provides additional information to support keyset (seek) pagination. All
+ * {@link PageRequest}s made available by the {@link UIPagedData} component implement this interface.
+ * 
+ * @author Phillip Webb
+ * @see UIPagedData
+ */
+public interface KeysetPageRequest extends PageRequest {
+
+	/**
+	 * Returns the key of the last row on the previous page, as defined by the <tt>rowKey</tt> attribute of the
+	 * {@link UIPagedData} component. The key can be used to run keyset (seek) queries that locate the page by selecting
+	 * rows that sort after the key, rather than skipping {@link #getOffset() offset} rows. The key will be
+	 * <tt>null</tt> for the first page or when the previous page has not been loaded (for example when jumping
+	 * directly to a page), in which case the offset should be used.
+	 * @return the key of the last row on the previous page or <tt>null</tt>
+	 */
+	Object getLastRowKey();
+}
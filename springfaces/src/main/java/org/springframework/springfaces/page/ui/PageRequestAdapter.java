@@ -22,11 +22,11 @@ import org.springframework.springfaces.page.model.PagedDataModelState;
 import org.springframework.util.Assert;
 
 /**
- * Adapter class that converts {@link PagedDataModelState} to a {@link PageRequest}.
+ * Adapter class that converts {@link PagedDataModelState} to a {@link KeysetPageRequest}.
  * 
  * @author Phillip Webb
  */
-class PageRequestAdapter implements PageRequest {
+class PageRequestAdapter implements KeysetPageRequest {
 
 	private PagedDataModelState state;
 
@@ -59,4 +59,9 @@ class PageRequestAdapter implements PageRequest {
 		Map<String, String> filters = this.state.getFilters();
 		return (filters == null ? Collections.<String, String> emptyMap() : filters);
 	}
+
+	public Object getLastRowKey() {
+		int pageNumber = getPageNumber();
+		return (pageNumber == 0 ? null : this.state.getLastRowKey(pageNumber - 1));
+	}
 }
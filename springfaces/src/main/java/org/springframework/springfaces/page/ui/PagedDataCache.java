@@ -0,0 +1,326 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.page.ui;
+
+import java.io.Serializable;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.springfaces.model.DataModelRowSet;
+import org.springframework.springfaces.util.ConcurrentCache;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Application wide cache of {@link DataModelRowSet}s that have been loaded by the <tt>s:pagedData</tt> component. Rows
+ * are only cached when the component specifies a <tt>cacheKey</tt> attribute and are shared between all users. Entries
+ * are stored against the cache key along with the {@link PageRequest page request} and locale used to load them. The
+ * cache key must identify the data returned by the component's expressions, including any parameters that they use.
+ * <p>
+ * By default entries are held in a bounded in-memory cache, any other Spring {@link Cache} can be used by calling
+ * {@link #setCache(Cache)}. Entries can be given a {@link #setTimeToLive(int) time to live} and are discarded when the
+ * application context is refreshed. A {@link PagedDataCacheEvictEvent} can be published to evict entries when the
+ * underlying data changes. Evicted entries are not searched for, instead they are no longer referenced and are
+ * discarded as the cache fills.
+ * <p>
+ * Caching should only be used for listings that return identical data for every user.
+ * 
+ * @author Phillip Webb
+ * @see PagedDataCacheEvictEvent
+ */
+public class PagedDataCache implements ApplicationListener<ApplicationEvent> {
+
+	private static final String DEFAULT_NAME = "pagedData";
+
+	private static final int DEFAULT_MAX_SIZE = 1024;
+
+	private static final int MAX_GENERATIONS = 1024;
+
+	private Cache cache;
+
+	private long timeToLive;
+
+	/**
+	 * Generations for cache keys that have been evicted. Rather than searching the underlying cache for entries a new
+	 * generation is allocated so that existing entries are no longer referenced. Generations are never reused so that
+	 * entries cannot be referenced again once evicted.
+	 */
+	private final ConcurrentMap<String, Long> generations = new ConcurrentHashMap<String, Long>();
+
+	private final AtomicLong lastGeneration = new AtomicLong();
+
+	/**
+	 * Generation used for cache keys that have not been evicted since the cache was last cleared.
+	 */
+	private volatile long clearedGeneration;
+
+	/**
+	 * Create a new {@link PagedDataCache} instance.
+	 */
+	public PagedDataCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Create a new {@link PagedDataCache} instance backed by a bounded in-memory cache.
+	 * @param maxSize the maximum number of row sets that will be held
+	 */
+	public PagedDataCache(int maxSize) {
+		this.cache = new BoundedCache(DEFAULT_NAME, maxSize);
+	}
+
+	/**
+	 * Set the Spring {@link Cache} used to hold the row sets. Keys are {@link Serializable} however cached values are
+	 * not and so the cache should hold entries in memory. Evicted entries remain in the cache until it is cleared and so
+	 * the cache must be bounded, either by size or by time to live.
+	 * @param cache the cache
+	 */
+	public void setCache(Cache cache) {
+		Assert.notNull(cache, "Cache must not be null");
+		this.cache = cache;
+	}
+
+	/**
+	 * Set the number of seconds that row sets should be cached or <tt>0</tt> if entries should remain until evicted.
+	 * If not specified entries do not expire.
+	 * @param timeToLive the time to live in seconds
+	 */
+	public void setTimeToLive(int timeToLive) {
+		Assert.isTrue(timeToLive >= 0, "TimeToLive must not be negative");
+		this.timeToLive = timeToLive * 1000L;
+	}
+
+	/**
+	 * Returns cached rows.
+	 * @param cacheKey the cache key
+	 * @param pageRequest the page request used to load the rows
+	 * @param locale the locale used to load the rows
+	 * @return the cached rows or <tt>null</tt>
+	 */
+	public DataModelRowSet<?> get(String cacheKey, PageRequest pageRequest, Locale locale) {
+		Key key = createKey(cacheKey, pageRequest, locale);
+		ValueWrapper value = this.cache.get(key);
+		Entry entry = (Entry) (value == null ? null : value.get());
+		if (entry == null) {
+			return null;
+		}
+		if (this.timeToLive > 0 && System.currentTimeMillis() - entry.getTime() >= this.timeToLive) {
+			this.cache.evict(key);
+			return null;
+		}
+		return entry.getRows();
+	}
+
+	/**
+	 * Add rows to the cache.
+	 * @param cacheKey the cache key
+	 * @param pageRequest the page request used to load the rows
+	 * @param locale the locale used to load the rows
+	 * @param rows the rows to cache
+	 */
+	public void put(String cacheKey, PageRequest pageRequest, Locale locale, DataModelRowSet<?> rows) {
+		Assert.notNull(rows, "Rows must not be null");
+		Key key = createKey(cacheKey, pageRequest, locale);
+		this.cache.put(key, new Entry(rows));
+	}
+
+	private Key createKey(String cacheKey, PageRequest pageRequest, Locale locale) {
+		Assert.notNull(cacheKey, "CacheKey must not be null");
+		Assert.notNull(pageRequest, "PageRequest must not be null");
+		Long generation = this.generations.get(cacheKey);
+		return new Key(cacheKey, (generation == null ? this.clearedGeneration : generation), pageRequest, locale);
+	}
+
+	/**
+	 * Remove all rows cached against the specified key. The entire cache is cleared if too many keys have been evicted
+	 * since it was last cleared.
+	 * @param cacheKey the cache key
+	 */
+	public void evict(String cacheKey) {
+		Assert.notNull(cacheKey, "CacheKey must not be null");
+		if (this.generations.size() >= MAX_GENERATIONS && !this.generations.containsKey(cacheKey)) {
+			clear();
+			return;
+		}
+		this.generations.put(cacheKey, this.lastGeneration.incrementAndGet());
+	}
+
+	/**
+	 * Remove all cached rows.
+	 */
+	public void clear() {
+		this.clearedGeneration = this.lastGeneration.incrementAndGet();
+		this.generations.clear();
+		this.cache.clear();
+	}
+
+	public void onApplicationEvent(ApplicationEvent event) {
+		if (event instanceof ContextRefreshedEvent) {
+			clear();
+		}
+		if (event instanceof PagedDataCacheEvictEvent) {
+			String cacheKey = ((PagedDataCacheEvictEvent) event).getCacheKey();
+			if (cacheKey == null) {
+				clear();
+			} else {
+				evict(cacheKey);
+			}
+		}
+	}
+
+	/**
+	 * A cached entry.
+	 */
+	private static class Entry {
+
+		private final DataModelRowSet<?> rows;
+
+		private final long time;
+
+		public Entry(DataModelRowSet<?> rows) {
+			this.rows = rows;
+			this.time = System.currentTimeMillis();
+		}
+
+		public DataModelRowSet<?> getRows() {
+			return this.rows;
+		}
+
+		public long getTime() {
+			return this.time;
+		}
+	}
+
+	/**
+	 * The key of a cached entry.
+	 */
+	private static class Key implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String cacheKey;
+
+		private final long generation;
+
+		private final int pageNumber;
+
+		private final int pageSize;
+
+		private final String sortColumn;
+
+		private final boolean sortAscending;
+
+		private final Map<String, String> filters;
+
+		private final Object lastRowKey;
+
+		private final Locale locale;
+
+		public Key(String cacheKey, long generation, PageRequest pageRequest, Locale locale) {
+			this.cacheKey = cacheKey;
+			this.generation = generation;
+			this.pageNumber = pageRequest.getPageNumber();
+			this.pageSize = pageRequest.getPageSize();
+			this.sortColumn = pageRequest.getSortColumn();
+			this.sortAscending = pageRequest.isSortAscending();
+			this.filters = new TreeMap<String, String>(pageRequest.getFilters());
+			this.lastRowKey = (pageRequest instanceof KeysetPageRequest ? ((KeysetPageRequest) pageRequest)
+					.getLastRowKey() : null);
+			this.locale = locale;
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = this.cacheKey.hashCode();
+			hashCode = hashCode * 31 + (int) this.generation;
+			hashCode = hashCode * 31 + this.pageNumber;
+			hashCode = hashCode * 31 + this.pageSize;
+			hashCode = hashCode * 31 + ObjectUtils.nullSafeHashCode(this.sortColumn);
+			hashCode = hashCode * 31 + (this.sortAscending ? 1 : 0);
+			hashCode = hashCode * 31 + this.filters.hashCode();
+			hashCode = hashCode * 31 + ObjectUtils.nullSafeHashCode(this.lastRowKey);
+			return hashCode * 31 + ObjectUtils.nullSafeHashCode(this.locale);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (obj == null || obj.getClass() != getClass()) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return this.cacheKey.equals(other.cacheKey) && this.generation == other.generation
+					&& this.pageNumber == other.pageNumber && this.pageSize == other.pageSize
+					&& ObjectUtils.nullSafeEquals(this.sortColumn, other.sortColumn)
+					&& this.sortAscending == other.sortAscending && this.filters.equals(other.filters)
+					&& ObjectUtils.nullSafeEquals(this.lastRowKey, other.lastRowKey)
+					&& ObjectUtils.nullSafeEquals(this.locale, other.locale);
+		}
+	}
+
+	/**
+	 * Default bounded in-memory {@link Cache} implementation.
+	 */
+	private static class BoundedCache implements Cache {
+
+		private final String name;
+
+		private final ConcurrentCache<Object, Object> store;
+
+		public BoundedCache(String name, int maxSize) {
+			this.name = name;
+			this.store = new ConcurrentCache<Object, Object>(maxSize);
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public Object getNativeCache() {
+			return this.store;
+		}
+
+		public ValueWrapper get(Object key) {
+			Object value = this.store.get(key);
+			return (value == null ? null : new SimpleValueWrapper(value));
+		}
+
+		public void put(Object key, Object value) {
+			this.store.remove(key);
+			this.store.put(key, value);
+		}
+
+		public void evict(Object key) {
+			this.store.remove(key);
+		}
+
+		public void clear() {
+			this.store.clear();
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.page.ui;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * {@link ApplicationEvent} that can be published to evict rows from the {@link PagedDataCache}. Publish this event
+ * when the data behind a cached listing changes.
+ * 
+ * @author Phillip Webb
+ * @see PagedDataCache
+ */
+public class PagedDataCacheEvictEvent extends ApplicationEvent {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String cacheKey;
+
+	/**
+	 * Create a new {@link PagedDataCacheEvictEvent} that will evict all cached rows.
+	 * @param source the object that published the event (never <code>null</code>)
+	 */
+	public PagedDataCacheEvictEvent(Object source) {
+		this(source, null);
+	}
+
+	/**
+	 * Create a new {@link PagedDataCacheEvictEvent} that will evict rows cached against a specific key.
+	 * @param source the object that published the event (never <code>null</code>)
+	 * @param cacheKey the cache key to evict or <tt>null</tt> to evict all cached rows
+	 */
+	public PagedDataCacheEvictEvent(Object source, String cacheKey) {
+		super(source);
+		this.cacheKey = cacheKey;
+	}
+
+	/**
+	 * Returns the cache key to evict.
+	 * @return the cache key or <tt>null</tt> if all cached rows should be evicted
+	 */
+	public String getCacheKey() {
+		return this.cacheKey;
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.page.ui;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.springfaces.model.DataModelRowSet;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Small least recently used cache of the {@link DataModelRowSet}s loaded by a single <tt>s:pagedData</tt> component.
+ * Instances are held as part of the component state so that rows can be reused when moving back and forward between
+ * pages of the same view. The cache can also hold the result of evaluating the <tt>value</tt> expression for a page
+ * that has been prefetched but not yet requested. Entries are transient and are not retained when the view state is
+ * serialized.
+ * 
+ * @author Phillip Webb
+ */
+class RecentRowSets implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final int maxSize;
+
+	private transient Map<Key, Object> entries;
+
+	/**
+	 * Create a new {@link RecentRowSets} instance.
+	 * @param maxSize the maximum number of row sets and prefetched values that will be held
+	 */
+	public RecentRowSets(int maxSize) {
+		Assert.isTrue(maxSize > 0, "MaxSize must be a positive number");
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the maximum number of entries that will be held.
+	 * @return the maximum size
+	 */
+	public int getMaxSize() {
+		return this.maxSize;
+	}
+
+	/**
+	 * Returns rows previously loaded for the page request.
+	 * @param pageRequest the page request
+	 * @return the rows or <tt>null</tt>
+	 */
+	public synchronized DataModelRowSet<?> getRows(PageRequest pageRequest) {
+		Object entry = getEntries().get(new Key(pageRequest));
+		return (entry instanceof DataModelRowSet ? (DataModelRowSet<?>) entry : null);
+	}
+
+	/**
+	 * Add rows loaded for the page request, replacing any prefetched value.
+	 * @param pageRequest the page request
+	 * @param rows the rows
+	 */
+	public synchronized void putRows(PageRequest pageRequest, DataModelRowSet<?> rows) {
+		Assert.notNull(rows, "Rows must not be null");
+		getEntries().put(new Key(pageRequest), rows);
+	}
+
+	/**
+	 * Remove and return a value that was prefetched for the page request.
+	 * @param pageRequest the page request
+	 * @return the prefetched result of the <tt>value</tt> expression or <tt>null</tt>
+	 */
+	public synchronized Object takePrefetchedValue(PageRequest pageRequest) {
+		Key key = new Key(pageRequest);
+		Object entry = getEntries().get(key);
+		if (!(entry instanceof PrefetchedValue)) {
+			return null;
+		}
+		getEntries().remove(key);
+		return ((PrefetchedValue) entry).getValue();
+	}
+
+	/**
+	 * Add a value prefetched for the page request.
+	 * @param pageRequest the page request
+	 * @param value the result of the <tt>value</tt> expression, often a {@link java.util.concurrent.Future}
+	 */
+	public synchronized void putPrefetchedValue(PageRequest pageRequest, Object value) {
+		Assert.notNull(value, "Value must not be null");
+		getEntries().put(new Key(pageRequest), new PrefetchedValue(value));
+	}
+
+	/**
+	 * Returns <tt>true</tt> if rows or a prefetched value are held for the page request.
+	 * @param pageRequest the page request
+	 * @return if the page request is contained
+	 */
+	public synchronized boolean contains(PageRequest pageRequest) {
+		return getEntries().containsKey(new Key(pageRequest));
+	}
+
+	/**
+	 * Remove all entries.
+	 */
+	public synchronized void clear() {
+		getEntries().clear();
+	}
+
+	private Map<Key, Object> getEntries() {
+		if (this.entries == null) {
+			this.entries = new LeastRecentlyUsedMap(this.maxSize);
+		}
+		return this.entries;
+	}
+
+	/**
+	 * A prefetched value.
+	 */
+	private static class PrefetchedValue {
+
+		private final Object value;
+
+		public PrefetchedValue(Object value) {
+			this.value = value;
+		}
+
+		public Object getValue() {
+			return this.value;
+		}
+	}
+
+	/**
+	 * The key of an entry.
+	 */
+	private static class Key {
+
+		private final int pageNumber;
+
+		private final int pageSize;
+
+		private final String sortColumn;
+
+		private final boolean sortAscending;
+
+		private final Map<String, String> filters;
+
+		private final Object lastRowKey;
+
+		public Key(PageRequest pageRequest) {
+			Assert.notNull(pageRequest, "PageRequest must not be null");
+			this.pageNumber = pageRequest.getPageNumber();
+			this.pageSize = pageRequest.getPageSize();
+			this.sortColumn = pageRequest.getSortColumn();
+			this.sortAscending = pageRequest.isSortAscending();
+			this.filters = new TreeMap<String, String>(pageRequest.getFilters());
+			this.lastRowKey = (pageRequest instanceof KeysetPageRequest ? ((KeysetPageRequest) pageRequest)
+					.getLastRowKey() : null);
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = this.pageNumber;
+			hashCode = hashCode * 31 + this.pageSize;
+			hashCode = hashCode * 31 + ObjectUtils.nullSafeHashCode(this.sortColumn);
+			hashCode = hashCode * 31 + (this.sortAscending ? 1 : 0);
+			hashCode = hashCode * 31 + this.filters.hashCode();
+			return hashCode * 31 + ObjectUtils.nullSafeHashCode(this.lastRowKey);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (obj == null || obj.getClass() != getClass()) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return this.pageNumber == other.pageNumber && this.pageSize == other.pageSize
+					&& ObjectUtils.nullSafeEquals(this.sortColumn, other.sortColumn)
+					&& this.sortAscending == other.sortAscending && this.filters.equals(other.filters)
+					&& ObjectUtils.nullSafeEquals(this.lastRowKey, other.lastRowKey);
+		}
+	}
+
+	/**
+	 * {@link LinkedHashMap} that removes the least recently accessed entry when full.
+	 */
+	private static class LeastRecentlyUsedMap extends LinkedHashMap<Key, Object> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int maxSize;
+
+		public LeastRecentlyUsedMap(int maxSize) {
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+			return size() > this.maxSize;
+		}
+	}
+}
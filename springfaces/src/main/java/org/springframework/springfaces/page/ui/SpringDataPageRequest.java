@@ -27,7 +27,7 @@ import org.springframework.util.StringUtils;
  * 
  * @author Phillip Webb
  */
-public class SpringDataPageRequest implements PageRequest, Pageable {
+public class SpringDataPageRequest implements KeysetPageRequest, Pageable {
 
 	private PageRequest pageRequest;
 
@@ -59,6 +59,13 @@ public class SpringDataPageRequest implements PageRequest, Pageable {
 		return this.pageRequest.getFilters();
 	}
 
+	public Object getLastRowKey() {
+		if (this.pageRequest instanceof KeysetPageRequest) {
+			return ((KeysetPageRequest) this.pageRequest).getLastRowKey();
+		}
+		return null;
+	}
+
 	public Sort getSort() {
 		if (StringUtils.hasLength(getSortColumn())) {
 			return new Sort(getSortDirection(), getSortColumn());
@@ -16,16 +16,27 @@
 package org.springframework.springfaces.page.ui;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import javax.el.ELContext;
 import javax.el.ValueExpression;
 import javax.faces.component.UIComponentBase;
+import javax.faces.context.ExternalContext;
 import javax.faces.context.FacesContext;
 import javax.faces.model.DataModel;
 
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.springfaces.SpringFacesIntegration;
 import org.springframework.springfaces.model.DataModelRowSet;
 import org.springframework.springfaces.model.DefaultDataModelRowSet;
 import org.springframework.springfaces.model.LazyDataLoader;
@@ -68,6 +79,49 @@ import org.springframework.util.Assert;
  * If PrimeFaces is present on the classpath then the resulting model will extend
  * <tt>org.primefaces.model.LazyDataModel</tt> rather than <tt>javax.faces.model.DataModel</tt>. Use the
  * {@link PagedDataRows} interface if you need a consistent way of dealing with PrimeFaces and Standard DataModels.
+ * <p>
+ * When counting rows is expensive the <tt>rowCount</tt> expression can return a {@link Future} (for example, by
+ * calling an <tt>@Async</tt> method). Set the <tt>asyncRowCount</tt> attribute to evaluate the <tt>rowCount</tt>
+ * expression before the <tt>value</tt> expression so that the count runs at the same time as the page is fetched. The
+ * component waits at most <tt>rowCountTimeout</tt> seconds for the count, after which the total row count is treated as
+ * unknown. The <tt>rowCountCacheTimeout</tt> attribute can also be used to cache the total row count so that it is not
+ * recalculated each time that the page changes. Cached counts are discarded when filters change or when
+ * {@link PagedDataModel#clearCachedTotalRowCount()} is called.
+ * <p>
+ * Large data sets can use keyset (seek) pagination by specifying a <tt>rowKey</tt> expression. The expression is
+ * evaluated against the last row of each page (exposed as the '<tt>row</tt>' variable, use the <tt>rowVar</tt>
+ * attribute to choose a different name) and the result is made available to the next page as
+ * <tt>pageRequest.lastRowKey</tt> (see {@link KeysetPageRequest}). The <tt>value</tt> expression can then select rows
+ * that sort after the key rather than skipping rows using an offset:
+ * 
+ * <pre>
+ * &lt;s:pagedData value="#{userService.findUsers(pageRequest)}" rowKey="#{row.userName}"/&gt;
+ * </pre>
+ * <p>
+ * The <tt>lastRowKey</tt> will be <tt>null</tt> for the first page and when the previous page has not been loaded
+ * (for example when jumping directly to a page), in which case the <tt>offset</tt> should be used. Recorded keys are
+ * discarded when the sort, filters or page size change.
+ * <p>
+ * Listings that return the same data for every user can specify a <tt>cacheKey</tt> so that rows are shared using the
+ * {@link PagedDataCache} bean. Cached rows are keyed by the <tt>cacheKey</tt>, the {@link PageRequest} and the current
+ * locale and can be evicted by publishing a {@link PagedDataCacheEvictEvent}. The <tt>cacheKey</tt> is evaluated on
+ * each request and must include any parameters used by the <tt>value</tt> and <tt>rowCount</tt> expressions:
+ * 
+ * <pre>
+ * &lt;s:pagedData value="#{hotels.findByCity(city, pageRequest)}" cacheKey="hotels-#{city}"/&gt;
+ * </pre>
+ * <p>
+ * Rows that have already been loaded can be reused when moving back and forward between pages of the same view by
+ * setting <tt>rowSetCacheSize</tt> to the number of pages that should be held with the component state. The
+ * <tt>prefetch</tt> attribute can also be set to evaluate the <tt>value</tt> expression for the next page as soon as the
+ * current page has loaded. The expression is still evaluated on the request thread and so should return a
+ * {@link Future} (for example, by calling an <tt>@Async</tt> method) if the next page is to be loaded in the
+ * background. The component waits at most 30 seconds for a {@link Future} value. Held rows are not refreshed when the
+ * underlying data changes and so should only be used with listings that are not modified by the view:
+ * 
+ * <pre>
+ * &lt;s:pagedData value="#{asyncUserService.findUsers(pageRequest)}" rowSetCacheSize="5" prefetch="true"/&gt;
+ * </pre>
  * 
  * @author Phillip Webb
  * @see PageRequest
@@ -79,7 +133,11 @@ public class UIPagedData extends UIComponentBase {
 
 	private static final String DEFAULT_VAR = "pagedData";
 	private static final Object DEFAULT_PAGE_SIZE = 10;
+	private static final Object DEFAULT_ROW_COUNT_TIMEOUT = 30;
+	private static final long VALUE_TIMEOUT = 30;
+	private static final int MIN_PREFETCH_ROW_SET_CACHE_SIZE = 2;
 	private static final String PAGE_REQUEST_VARIABLE = "pageRequest";
+	private static final String DEFAULT_ROW_VAR = "row";
 
 	private static PagedPrimeFacesSupport primeFacesSupport = PagedPrimeFacesSupport.getInstance();
 	private static PagedSpringDataSupport springDataSupport = PagedSpringDataSupport.getInstance();
@@ -107,6 +165,26 @@ public class UIPagedData extends UIComponentBase {
 		getStateHelper().put(PropertyKeys.var, var);
 	}
 
+	/**
+	 * Return the request-scope attribute under which the last row of a page is exposed when the {@link #getRowKey()
+	 * rowKey} expression is evaluated. Defaults to '<tt>row</tt>'. This property is <b>not</b> enabled for value
+	 * binding expressions.
+	 * @return The row variable name
+	 */
+	public String getRowVar() {
+		String rowVar = (String) getStateHelper().get(PropertyKeys.rowVar);
+		return rowVar == null ? DEFAULT_ROW_VAR : rowVar;
+	}
+
+	/**
+	 * Set the request-scope attribute under which the last row of a page is exposed when the {@link #getRowKey()
+	 * rowKey} expression is evaluated.
+	 * @param rowVar The new request-scope attribute name
+	 */
+	public void setRowVar(String rowVar) {
+		getStateHelper().put(PropertyKeys.rowVar, rowVar);
+	}
+
 	/**
 	 * Returns the expression used to obtain a page of data. This expression can be called many times as
 	 * {@link PagedDataRows} are navigated. The resulting expression should return a List of rows or, if Spring Data is
@@ -121,13 +199,48 @@ public class UIPagedData extends UIComponentBase {
 
 	/**
 	 * Returns the optional expression used to obtain the total row count. This expression can be called many times as
-	 * {@link PagedDataRows} are navigated. The resulting expression should return an int or long value.
+	 * {@link PagedDataRows} are navigated. The resulting expression should return an int or long value or a
+	 * {@link Future} of the value.
 	 * @return the {@link ValueExpression} to obtain the number of rows
 	 */
 	protected ValueExpression getRowCount() {
 		return getValueExpression(PropertyKeys.rowCount.toString());
 	}
 
+	/**
+	 * Returns the optional expression used to obtain the key of a row when using keyset pagination. The expression is
+	 * evaluated against the last row of each page, which is exposed using the request scoped {@link #getRowVar()
+	 * rowVar} variable.
+	 * The result should be {@link java.io.Serializable} and is made available to the next page using
+	 * {@link KeysetPageRequest#getLastRowKey()}.
+	 * @return the {@link ValueExpression} to obtain the key of a row
+	 */
+	protected ValueExpression getRowKey() {
+		return getValueExpression(PropertyKeys.rowKey.toString());
+	}
+
+	/**
+	 * Returns the key used to share rows between all users or <tt>null</tt> if rows should not be shared. When
+	 * specified rows are stored in the {@link PagedDataCache} bean and reused for any subsequent request for the same
+	 * page and key. The key is evaluated on each request and must uniquely identify the data returned by the
+	 * <tt>value</tt> and <tt>rowCount</tt> expressions, including any parameters that they use. Only specify a cache key
+	 * when the expressions return identical data for every user that evaluates the same key.
+	 * @return the cache key
+	 * @see PagedDataCache
+	 */
+	public String getCacheKey() {
+		return (String) getStateHelper().eval(PropertyKeys.cacheKey);
+	}
+
+	/**
+	 * Set the key used to share rows between all users.
+	 * @param cacheKey the cache key
+	 * @see #getCacheKey()
+	 */
+	public void setCacheKey(String cacheKey) {
+		getStateHelper().put(PropertyKeys.cacheKey, cacheKey);
+	}
+
 	/**
 	 * Return the initial page size for the {@link PagedDataRows}. If not specified the default value of 10 is used.
 	 * @return the page size
@@ -177,6 +290,105 @@ public class UIPagedData extends UIComponentBase {
 		getStateHelper().put(PropertyKeys.sortAscending, sortAscending);
 	}
 
+	/**
+	 * Returns the number of seconds that the total row count should be cached or <tt>0</tt> if the row count should be
+	 * calculated for each page. When cached the <tt>rowCount</tt> expression will not be called until the timeout
+	 * expires or the {@link PagedDataRows#setFilters(Map) filters} change. If not specified the row count is not
+	 * cached.
+	 * @return the row count cache timeout in seconds
+	 */
+	public int getRowCountCacheTimeout() {
+		return (Integer) getStateHelper().eval(PropertyKeys.rowCountCacheTimeout, 0);
+	}
+
+	/**
+	 * Set the number of seconds that the total row count should be cached.
+	 * @param rowCountCacheTimeout the row count cache timeout in seconds
+	 * @see #getRowCountCacheTimeout()
+	 */
+	public void setRowCountCacheTimeout(int rowCountCacheTimeout) {
+		Assert.isTrue(rowCountCacheTimeout >= 0, "RowCountCacheTimeout must not be negative");
+		getStateHelper().put(PropertyKeys.rowCountCacheTimeout, rowCountCacheTimeout);
+	}
+
+	/**
+	 * Returns if the <tt>rowCount</tt> expression should be evaluated before the <tt>value</tt> expression. This allows
+	 * a {@link Future} row count to run at the same time as the value expression. If not specified the value
+	 * expression is evaluated first.
+	 * @return if the row count is asynchronous
+	 */
+	public boolean isAsyncRowCount() {
+		return (Boolean) getStateHelper().eval(PropertyKeys.asyncRowCount, false);
+	}
+
+	/**
+	 * Set if the <tt>rowCount</tt> expression should be evaluated before the <tt>value</tt> expression.
+	 * @param asyncRowCount if the row count is asynchronous
+	 * @see #isAsyncRowCount()
+	 */
+	public void setAsyncRowCount(boolean asyncRowCount) {
+		getStateHelper().put(PropertyKeys.asyncRowCount, asyncRowCount);
+	}
+
+	/**
+	 * Returns the maximum number of seconds to wait for a {@link Future} row count. If the count is not available in
+	 * time the future is cancelled and the total row count is treated as unknown. If not specified the default value
+	 * of 30 seconds is used.
+	 * @return the row count timeout in seconds
+	 */
+	public int getRowCountTimeout() {
+		return (Integer) getStateHelper().eval(PropertyKeys.rowCountTimeout, DEFAULT_ROW_COUNT_TIMEOUT);
+	}
+
+	/**
+	 * Set the maximum number of seconds to wait for a {@link Future} row count.
+	 * @param rowCountTimeout the row count timeout in seconds
+	 * @see #getRowCountTimeout()
+	 */
+	public void setRowCountTimeout(int rowCountTimeout) {
+		Assert.isTrue(rowCountTimeout >= 0, "RowCountTimeout must not be negative");
+		getStateHelper().put(PropertyKeys.rowCountTimeout, rowCountTimeout);
+	}
+
+	/**
+	 * Returns the number of recently loaded pages that should be held with the component state so that they can be
+	 * reused when navigating between pages. If not specified recent pages are not held.
+	 * @return the row set cache size
+	 */
+	public int getRowSetCacheSize() {
+		return (Integer) getStateHelper().eval(PropertyKeys.rowSetCacheSize, 0);
+	}
+
+	/**
+	 * Set the number of recently loaded pages that should be held with the component state.
+	 * @param rowSetCacheSize the row set cache size
+	 * @see #getRowSetCacheSize()
+	 */
+	public void setRowSetCacheSize(int rowSetCacheSize) {
+		Assert.isTrue(rowSetCacheSize >= 0, "RowSetCacheSize must not be negative");
+		getStateHelper().put(PropertyKeys.rowSetCacheSize, rowSetCacheSize);
+	}
+
+	/**
+	 * Returns if the <tt>value</tt> expression should be evaluated for the next page as soon as the current page has
+	 * loaded. The result is held until the next page is requested, at least two pages are held regardless of the
+	 * {@link #getRowSetCacheSize() rowSetCacheSize}. If not specified pages are not prefetched.
+	 * @return if the next page is prefetched
+	 */
+	public boolean isPrefetch() {
+		return (Boolean) getStateHelper().eval(PropertyKeys.prefetch, false);
+	}
+
+	/**
+	 * Set if the <tt>value</tt> expression should be evaluated for the next page as soon as the current page has
+	 * loaded.
+	 * @param prefetch if the next page is prefetched
+	 * @see #isPrefetch()
+	 */
+	public void setPrefetch(boolean prefetch) {
+		getStateHelper().put(PropertyKeys.prefetch, prefetch);
+	}
+
 	@Override
 	public void restoreState(FacesContext context, Object state) {
 		super.restoreState(context, state);
@@ -237,12 +449,16 @@ public class UIPagedData extends UIComponentBase {
 	 * @see #getRowCountFromValue(Object)
 	 * @see #getContentFromValue(Object)
 	 */
-	protected DataModelRowSet<Object> getRows(PagedDataModelState state) {
+	protected DataModelRowSet<Object> getRows(final PagedDataModelState state) {
 		final PageRequest pageRequest = createPageRequest(state);
 		return FacesUtils.doWithRequestScopeVariable(getFacesContext(), PAGE_REQUEST_VARIABLE, pageRequest,
 				new Callable<DataModelRowSet<Object>>() {
 					public DataModelRowSet<Object> call() throws Exception {
-						return executeExpressionsToGetRows(pageRequest);
+						DataModelRowSet<Object> rows = getRecentOrCachedOrExecuteExpressionsToGetRows(state,
+								pageRequest);
+						recordLastRowKey(state, pageRequest, rows);
+						prefetchNextPage(state, pageRequest, rows);
+						return rows;
 					}
 				});
 	}
@@ -258,18 +474,160 @@ public class UIPagedData extends UIComponentBase {
 	}
 
 	/**
-	 * Executes the appropriate EL expression to obtain page and row count data.
+	 * Obtains rows from the {@link #getRowSetCacheSize() recently loaded} pages, falling back to
+	 * {@link #getCachedOrExecuteExpressionsToGetRows(PagedDataModelState, PageRequest) shared or newly loaded rows}.
+	 * @param state the state
+	 * @param pageRequest the page request
+	 * @return the data model rows
+	 * @throws ExecutionException if a {@link Future} value or row count fails
+	 * @throws InterruptedException if interrupted waiting for a {@link Future} value or row count
+	 */
+	@SuppressWarnings("unchecked")
+	private DataModelRowSet<Object> getRecentOrCachedOrExecuteExpressionsToGetRows(PagedDataModelState state,
+			PageRequest pageRequest) throws InterruptedException, ExecutionException {
+		RecentRowSets recentRowSets = getRecentRowSets();
+		if (recentRowSets == null) {
+			return getCachedOrExecuteExpressionsToGetRows(state, pageRequest);
+		}
+		DataModelRowSet<Object> rows = (DataModelRowSet<Object>) recentRowSets.getRows(pageRequest);
+		if (rows == null) {
+			rows = getCachedOrExecuteExpressionsToGetRows(state, pageRequest);
+			recentRowSets.putRows(pageRequest, rows);
+		}
+		return rows;
+	}
+
+	/**
+	 * Returns the {@link RecentRowSets} held with the component state or <tt>null</tt> if recent pages should not be
+	 * held.
+	 * @return the recent row sets or <tt>null</tt>
+	 */
+	private RecentRowSets getRecentRowSets() {
+		int size = getRowSetCacheSize();
+		if (isPrefetch()) {
+			size = Math.max(size, MIN_PREFETCH_ROW_SET_CACHE_SIZE);
+		}
+		if (size == 0) {
+			return null;
+		}
+		RecentRowSets recentRowSets = (RecentRowSets) getStateHelper().get(PropertyKeys.recentRowSets);
+		if (recentRowSets == null || recentRowSets.getMaxSize() != size) {
+			recentRowSets = new RecentRowSets(size);
+			getStateHelper().put(PropertyKeys.recentRowSets, recentRowSets);
+		}
+		return recentRowSets;
+	}
+
+	/**
+	 * Obtains rows from the {@link PagedDataCache} when a <tt>cacheKey</tt> has been specified, falling back to
+	 * {@link #executeExpressionsToGetRows(PagedDataModelState, PageRequest) executing the expressions}.
+	 * @param state the state
 	 * @param pageRequest the page request
 	 * @return the data model rows
+	 * @throws ExecutionException if a {@link Future} value or row count fails
+	 * @throws InterruptedException if interrupted waiting for a {@link Future} value or row count
 	 */
-	private DataModelRowSet<Object> executeExpressionsToGetRows(PageRequest pageRequest) {
+	@SuppressWarnings("unchecked")
+	private DataModelRowSet<Object> getCachedOrExecuteExpressionsToGetRows(PagedDataModelState state,
+			PageRequest pageRequest) throws InterruptedException, ExecutionException {
+		String cacheKey = getCacheKey();
+		if (cacheKey == null) {
+			return executeExpressionsToGetRows(state, pageRequest);
+		}
+		FacesContext context = getFacesContext();
+		PagedDataCache cache = getPagedDataCache(context);
+		Locale locale = FacesUtils.getLocale(context);
+		DataModelRowSet<Object> rows = (DataModelRowSet<Object>) cache.get(cacheKey, pageRequest, locale);
+		if (rows == null) {
+			rows = executeExpressionsToGetRows(state, pageRequest);
+			cache.put(cacheKey, pageRequest, locale, rows);
+		}
+		return rows;
+	}
+
+	private PagedDataCache getPagedDataCache(FacesContext context) {
+		ExternalContext externalContext = context.getExternalContext();
+		Assert.state(SpringFacesIntegration.isInstalled(externalContext),
+				"Unable to use the 'cacheKey' attribute without SpringFaces integration");
+		ApplicationContext applicationContext = SpringFacesIntegration.getCurrentInstance(externalContext)
+				.getApplicationContext();
+		try {
+			return BeanFactoryUtils.beanOfTypeIncludingAncestors(applicationContext, PagedDataCache.class);
+		} catch (NoSuchBeanDefinitionException e) {
+			throw new IllegalStateException("Unable to find a unique PagedDataCache bean, the 'cacheKey' attribute "
+					+ "requires a single PagedDataCache to be registered", e);
+		}
+	}
+
+	/**
+	 * Executes the appropriate EL expression to obtain page and row count data. The row count expression is called
+	 * after the value expression unless the row count is {@link #isAsyncRowCount() asynchronous}.
+	 * @param state the state
+	 * @param pageRequest the page request
+	 * @return the data model rows
+	 * @throws ExecutionException if a {@link Future} value or row count fails
+	 * @throws InterruptedException if interrupted waiting for a {@link Future} value or row count
+	 */
+	private DataModelRowSet<Object> executeExpressionsToGetRows(PagedDataModelState state, PageRequest pageRequest)
+			throws InterruptedException, ExecutionException {
 		ELContext context = getFacesContext().getELContext();
-		ValueExpression valueExpression = getValue();
-		ValueExpression rowCountExpression = getRowCount();
-		Object value = valueExpression.getValue(context);
+		long rowCountCacheTimeout = getRowCountCacheTimeout() * 1000L;
+		Object rowCount = (rowCountCacheTimeout > 0 ? state.getCachedTotalRowCount(rowCountCacheTimeout) : null);
+		boolean countRows = (rowCount == null);
+		boolean asyncRowCount = isAsyncRowCount();
+		if (countRows && asyncRowCount) {
+			rowCount = getRowCountExpressionValue(context);
+		}
+		Object value = getValueExpressionValue(context, pageRequest);
 		Assert.state(value != null, "UIPageData value returned null result");
-		Object rowCount = (rowCountExpression == null ? null : rowCountExpression.getValue(context));
-		return getRowsFromExpressionResults(pageRequest, value, rowCount);
+		if (countRows && !asyncRowCount) {
+			rowCount = getRowCountExpressionValue(context);
+		}
+		if (rowCount instanceof Future) {
+			rowCount = getFutureRowCount((Future<?>) rowCount);
+		}
+		DataModelRowSet<Object> rows = getRowsFromExpressionResults(pageRequest, value, rowCount);
+		if (rowCountCacheTimeout > 0 && rows.getTotalRowCount() != DataModelRowSet.UNKNOWN_TOTAL_ROW_COUNT
+				&& state.getCachedTotalRowCount(rowCountCacheTimeout) == null) {
+			state.setCachedTotalRowCount(rows.getTotalRowCount());
+		}
+		return rows;
+	}
+
+	private Object getValueExpressionValue(ELContext context, PageRequest pageRequest) throws InterruptedException,
+			ExecutionException {
+		RecentRowSets recentRowSets = getRecentRowSets();
+		Object value = (recentRowSets == null ? null : recentRowSets.takePrefetchedValue(pageRequest));
+		if (value == null) {
+			value = getValue().getValue(context);
+		}
+		if (value instanceof Future) {
+			value = getFutureValue((Future<?>) value);
+		}
+		return value;
+	}
+
+	private Object getFutureValue(Future<?> value) throws InterruptedException, ExecutionException {
+		try {
+			return value.get(VALUE_TIMEOUT, TimeUnit.SECONDS);
+		} catch (TimeoutException e) {
+			value.cancel(true);
+			throw new IllegalStateException("Timed out waiting for UIPageData value", e);
+		}
+	}
+
+	private Object getRowCountExpressionValue(ELContext context) {
+		ValueExpression rowCountExpression = getRowCount();
+		return (rowCountExpression == null ? null : rowCountExpression.getValue(context));
+	}
+
+	private Object getFutureRowCount(Future<?> rowCount) throws InterruptedException, ExecutionException {
+		try {
+			return rowCount.get(getRowCountTimeout(), TimeUnit.SECONDS);
+		} catch (TimeoutException e) {
+			rowCount.cancel(true);
+			return null;
+		}
 	}
 
 	/**
@@ -295,6 +653,92 @@ public class UIPagedData extends UIComponentBase {
 				pageRequest.getPageSize(), totalRowCount);
 	}
 
+	/**
+	 * Record the key of the last row of the page so that it can be used as the {@link KeysetPageRequest#getLastRowKey()
+	 * lastRowKey} of the next page.
+	 * @param state the state
+	 * @param pageRequest the page request
+	 * @param rows the rows of the page
+	 */
+	private void recordLastRowKey(PagedDataModelState state, PageRequest pageRequest, DataModelRowSet<Object> rows) {
+		final ValueExpression rowKeyExpression = getRowKey();
+		if (rowKeyExpression == null) {
+			return;
+		}
+		int lastRowIndex = pageRequest.getOffset() + pageRequest.getPageSize() - 1;
+		while (lastRowIndex >= pageRequest.getOffset() && !rows.isRowAvailable(lastRowIndex)) {
+			lastRowIndex--;
+		}
+		if (lastRowIndex < pageRequest.getOffset()) {
+			return;
+		}
+		final ELContext context = getFacesContext().getELContext();
+		Object lastRow = rows.getRowData(lastRowIndex);
+		Object lastRowKey = FacesUtils.doWithRequestScopeVariable(getFacesContext(), getRowVar(), lastRow,
+				new Callable<Object>() {
+					public Object call() throws Exception {
+						return rowKeyExpression.getValue(context);
+					}
+				});
+		state.setLastRowKey(pageRequest.getPageNumber(), lastRowKey);
+	}
+
+	/**
+	 * Evaluate the <tt>value</tt> expression for the page following the one just loaded when {@link #isPrefetch()
+	 * prefetch} is enabled. The result is held with the {@link RecentRowSets} until the page is requested.
+	 * @param state the state
+	 * @param pageRequest the page request that was just loaded
+	 * @param rows the rows of the page
+	 */
+	private void prefetchNextPage(PagedDataModelState state, PageRequest pageRequest, DataModelRowSet<Object> rows) {
+		if (!isPrefetch() || !hasNextPage(pageRequest, rows)) {
+			return;
+		}
+		final RecentRowSets recentRowSets = getRecentRowSets();
+		final PageRequest nextPageRequest = createPageRequest(createNextPageState(state, pageRequest));
+		if (recentRowSets.contains(nextPageRequest)) {
+			return;
+		}
+		final ELContext context = getFacesContext().getELContext();
+		FacesUtils.doWithRequestScopeVariable(getFacesContext(), PAGE_REQUEST_VARIABLE, nextPageRequest,
+				new Callable<Object>() {
+					public Object call() throws Exception {
+						Object value = getValue().getValue(context);
+						if (value != null) {
+							recentRowSets.putPrefetchedValue(nextPageRequest, value);
+						}
+						return value;
+					}
+				});
+	}
+
+	private boolean hasNextPage(PageRequest pageRequest, DataModelRowSet<Object> rows) {
+		int nextOffset = pageRequest.getOffset() + pageRequest.getPageSize();
+		if (rows.getTotalRowCount() == DataModelRowSet.UNKNOWN_TOTAL_ROW_COUNT) {
+			return rows.isRowAvailable(nextOffset - 1);
+		}
+		return nextOffset < rows.getTotalRowCount();
+	}
+
+	/**
+	 * Create a copy of the state positioned at the page following the page request. A copy is used so that the page
+	 * request remains valid should the prefetched value be loaded in the background.
+	 * @param state the state
+	 * @param pageRequest the page request
+	 * @return a new state for the next page
+	 */
+	private PagedDataModelState createNextPageState(PagedDataModelState state, PageRequest pageRequest) {
+		PagedDataModelState nextPageState = new PagedDataModelState(state.getPageSize());
+		nextPageState.setSortColumn(state.getSortColumn());
+		nextPageState.setSortAscending(state.isSortAscending());
+		if (state.getFilters() != null) {
+			nextPageState.setFilters(new HashMap<String, String>(state.getFilters()));
+		}
+		nextPageState.setLastRowKey(pageRequest.getPageNumber(), state.getLastRowKey(pageRequest.getPageNumber()));
+		nextPageState.setRowIndex(pageRequest.getOffset() + pageRequest.getPageSize());
+		return nextPageState;
+	}
+
 	/**
 	 * Strategy method used to obtain a count from the value EL result. This method is called when no rowCount EL
 	 * expression is specified. By default this method will deal with Spring Data <tt>Page</tt> results.
@@ -316,6 +760,7 @@ public class UIPagedData extends UIComponentBase {
 	}
 
 	private enum PropertyKeys {
-		value, rowCount, var, pageSize, sortColumn, sortAscending, dataModelstate
+		value, rowCount, var, pageSize, sortColumn, sortAscending, dataModelstate, rowCountCacheTimeout, rowKey, rowVar,
+		cacheKey, asyncRowCount, rowCountTimeout, rowSetCacheSize, prefetch, recentRowSets
 	}
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.selectitems;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.springframework.util.Assert;
+
+/**
+ * Base class for {@link SelectItemsSource}s that fetch values a page at a time. Only a single page of values is held
+ * in memory as values are iterated. Iteration stops when a page containing fewer than the
+ * {@link #getPageSize() page size} values is returned.
+ * 
+ * @author Phillip Webb
+ * @param <T> the value type
+ */
+public abstract class PagedSelectItemsSource<T> implements SelectItemsSource<T> {
+
+	private static final int DEFAULT_PAGE_SIZE = 100;
+
+	private int pageSize = DEFAULT_PAGE_SIZE;
+
+	public Iterator<T> iterator() {
+		return new PageIterator();
+	}
+
+	/**
+	 * Returns a single page of values.
+	 * @param pageNumber the page number (starting at 0)
+	 * @param pageSize the page size
+	 * @return the values for the page, containing fewer than <tt>pageSize</tt> values if this is the last page
+	 */
+	protected abstract List<T> getPage(int pageNumber, int pageSize);
+
+	/**
+	 * Returns the number of values fetched in a single page.
+	 * @return the page size
+	 */
+	public int getPageSize() {
+		return this.pageSize;
+	}
+
+	/**
+	 * Set the number of values fetched in a single page. If not specified a page size of 100 is used.
+	 * @param pageSize the page size
+	 */
+	public void setPageSize(int pageSize) {
+		Assert.isTrue(pageSize > 0, "PageSize must be positive");
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * Iterator that fetches pages as required.
+	 */
+	private class PageIterator implements Iterator<T> {
+
+		private final int pageSize = getPageSize();
+
+		private int pageNumber;
+
+		private Iterator<T> page = Collections.<T> emptyList().iterator();
+
+		private boolean lastPage;
+
+		public boolean hasNext() {
+			while (!this.page.hasNext() && !this.lastPage) {
+				List<T> values = getPage(this.pageNumber++, this.pageSize);
+				this.lastPage = (values == null || values.size() < this.pageSize);
+				this.page = (values == null ? Collections.<T> emptyList().iterator() : values.iterator());
+			}
+			return this.page.hasNext();
+		}
+
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return this.page.next();
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.selectitems;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SelectItemsSource} backed by a Spring Data {@link PagingAndSortingRepository}. Values are fetched a page at a
+ * time using {@link PagingAndSortingRepository#findAll(org.springframework.data.domain.Pageable)} and submitted values
+ * are found using {@link PagingAndSortingRepository#findOne(Serializable)}. The string value is converted to the ID
+ * type using a {@link ConversionService}.
+ * 
+ * @author Phillip Webb
+ * @param <T> the entity type
+ * @param <ID> the ID type
+ */
+public class RepositorySelectItemsSource<T, ID extends Serializable> extends PagedSelectItemsSource<T> {
+
+	private final PagingAndSortingRepository<T, ID> repository;
+
+	private final Class<ID> idType;
+
+	private Sort sort;
+
+	private ConversionService conversionService = new DefaultConversionService();
+
+	/**
+	 * Create a new {@link RepositorySelectItemsSource} instance.
+	 * @param repository the repository
+	 * @param idType the ID type
+	 */
+	public RepositorySelectItemsSource(PagingAndSortingRepository<T, ID> repository, Class<ID> idType) {
+		Assert.notNull(repository, "Repository must not be null");
+		Assert.notNull(idType, "IdType must not be null");
+		this.repository = repository;
+		this.idType = idType;
+	}
+
+	@Override
+	protected List<T> getPage(int pageNumber, int pageSize) {
+		return this.repository.findAll(new PageRequest(pageNumber, pageSize, this.sort)).getContent();
+	}
+
+	public T findValue(String stringValue) {
+		if (stringValue == null || stringValue.length() == 0) {
+			return null;
+		}
+		ID id;
+		try {
+			id = this.conversionService.convert(stringValue, this.idType);
+		} catch (ConversionException e) {
+			// The string value is not an ID so cannot match any value
+			return null;
+		}
+		return (id == null ? null : this.repository.findOne(id));
+	}
+
+	/**
+	 * Set the sort order used when fetching values.
+	 * @param sort the sort order or <tt>null</tt>
+	 */
+	public void setSort(Sort sort) {
+		this.sort = sort;
+	}
+
+	/**
+	 * Set the {@link ConversionService} used to convert string values to IDs. If not specified a
+	 * {@link DefaultConversionService} is used.
+	 * @param conversionService the conversion service
+	 */
+	public void setConversionService(ConversionService conversionService) {
+		Assert.notNull(conversionService, "ConversionService must not be null");
+		this.conversionService = conversionService;
+	}
+}
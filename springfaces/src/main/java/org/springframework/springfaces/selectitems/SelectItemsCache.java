@@ -0,0 +1,150 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.selectitems;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.faces.model.SelectItem;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.springfaces.util.ConcurrentCache;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Application wide cache of {@link SelectItem}s that have been built by the <tt>s:selectItems</tt> component. Items
+ * are only cached when the component specifies a <tt>cacheKey</tt> attribute and are stored against that key along
+ * with the locale and message source used to build them. The cache is bounded and is cleared when the application
+ * context is refreshed. Beans can use the {@link #evict(String)} and {@link #clear()} methods to invalidate items when
+ * the underlying data changes.
+ * <p>
+ * Caching should only be used for reference data (such as countries or currencies) that is identical for every
+ * request.
+ * 
+ * @author Phillip Webb
+ */
+public class SelectItemsCache implements ApplicationListener<ContextRefreshedEvent> {
+
+	private static final int DEFAULT_MAX_SIZE = 256;
+
+	private static final int MAX_VARIANTS = 32;
+
+	private final ConcurrentCache<String, ConcurrentCache<Variant, List<SelectItem>>> entries;
+
+	/**
+	 * Create a new {@link SelectItemsCache} instance.
+	 */
+	public SelectItemsCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Create a new {@link SelectItemsCache} instance.
+	 * @param maxSize the maximum number of cache keys that will be held
+	 */
+	public SelectItemsCache(int maxSize) {
+		this.entries = new ConcurrentCache<String, ConcurrentCache<Variant, List<SelectItem>>>(maxSize);
+	}
+
+	/**
+	 * Returns cached select items.
+	 * @param cacheKey the cache key
+	 * @param locale the locale used to build the items
+	 * @param source the source used to build the items (for example the message source) or <tt>null</tt>
+	 * @return the cached items or <tt>null</tt>
+	 */
+	public List<SelectItem> get(String cacheKey, Locale locale, Object source) {
+		Assert.notNull(cacheKey, "CacheKey must not be null");
+		ConcurrentCache<Variant, List<SelectItem>> variants = this.entries.get(cacheKey);
+		return (variants == null ? null : variants.get(new Variant(locale, source)));
+	}
+
+	/**
+	 * Add select items to the cache.
+	 * @param cacheKey the cache key
+	 * @param locale the locale used to build the items
+	 * @param source the source used to build the items (for example the message source) or <tt>null</tt>
+	 * @param selectItems the items to cache
+	 * @return an unmodifiable list of the cached items
+	 */
+	public List<SelectItem> put(String cacheKey, Locale locale, Object source, List<SelectItem> selectItems) {
+		Assert.notNull(cacheKey, "CacheKey must not be null");
+		Assert.notNull(selectItems, "SelectItems must not be null");
+		ConcurrentCache<Variant, List<SelectItem>> variants = this.entries.get(cacheKey);
+		if (variants == null) {
+			variants = this.entries.put(cacheKey, new ConcurrentCache<Variant, List<SelectItem>>(MAX_VARIANTS));
+		}
+		List<SelectItem> items = Collections.unmodifiableList(new ArrayList<SelectItem>(selectItems));
+		return variants.put(new Variant(locale, source), items);
+	}
+
+	/**
+	 * Remove all items cached against the specified key.
+	 * @param cacheKey the cache key
+	 */
+	public void evict(String cacheKey) {
+		Assert.notNull(cacheKey, "CacheKey must not be null");
+		this.entries.remove(cacheKey);
+	}
+
+	/**
+	 * Remove all cached items.
+	 */
+	public void clear() {
+		this.entries.clear();
+	}
+
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		clear();
+	}
+
+	/**
+	 * A variant of the items for a single cache key.
+	 */
+	private static class Variant {
+
+		private final Locale locale;
+
+		private final Object source;
+
+		public Variant(Locale locale, Object source) {
+			this.locale = locale;
+			this.source = source;
+		}
+
+		@Override
+		public int hashCode() {
+			return ObjectUtils.nullSafeHashCode(this.locale) * 31 + ObjectUtils.nullSafeHashCode(this.source);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (obj == null || obj.getClass() != getClass()) {
+				return false;
+			}
+			Variant other = (Variant) obj;
+			return ObjectUtils.nullSafeEquals(this.locale, other.locale)
+					&& ObjectUtils.nullSafeEquals(this.source, other.source);
+		}
+	}
+}
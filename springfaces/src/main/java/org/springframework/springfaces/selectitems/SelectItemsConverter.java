@@ -15,7 +15,12 @@
  */
 package org.springframework.springfaces.selectitems;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
 
 import javax.faces.component.UIComponent;
 import javax.faces.component.UISelectMany;
@@ -26,7 +31,6 @@ import javax.faces.model.SelectItem;
 
 import org.springframework.springfaces.selectitems.ui.SelectItemsIterator;
 import org.springframework.util.Assert;
-import org.springframework.util.ObjectUtils;
 
 /**
  * JSF {@link Converter} designed for use with {@link UISelectMany} or {@link UISelectOne} components. The
@@ -34,28 +38,62 @@ import org.springframework.util.ObjectUtils;
  * provide a unique <tt>String</tt> for each {@link SelectItem#getValue() SelectItem value}. Unlike most
  * {@link Converter}s the {@link #getAsObject(FacesContext, UIComponent, String) getAsObject} method does not return a
  * new <tt>Object</tt> instance but instead returns the value from the matching parent component {@link SelectItem}.
+ * Select items are indexed by their <tt>String</tt> value the first time that a component is converted during a
+ * request, subsequent conversions for the same component, client ID and request do not call <tt>getAsString</tt>.
  * 
  * @author Phillip Webb
  */
 public abstract class SelectItemsConverter implements Converter {
 
+	private static final String INDEX_ATTRIBUTE = SelectItemsConverter.class.getName() + ".INDEX";
+
 	public Object getAsObject(FacesContext context, UIComponent component, String value) {
-		SelectItem matchingSelectItem = null;
-		Iterator<SelectItem> iterator = getSelectItemsIterator(context, component);
-		while (iterator.hasNext()) {
-			SelectItem selectItem = iterator.next();
-			String stringValue = getAsString(context, component, selectItem.getValue());
-			if (ObjectUtils.nullSafeEquals(value, stringValue)) {
-				Assert.state(matchingSelectItem == null, "Multiple select items mapped to string value '" + stringValue
-						+ "' ensure that getAsString always returns a unique value");
-				matchingSelectItem = selectItem;
-			}
-		}
+		SelectItemsIndex index = getSelectItemsIndex(context, component);
+		Assert.state(!index.isDuplicate(value), "Multiple select items mapped to string value '" + value
+				+ "' ensure that getAsString always returns a unique value");
+		SelectItem matchingSelectItem = index.get(value);
 		Assert.state(matchingSelectItem != null, "No select item mapped to string value '" + value
 				+ "' ensure that getAsString always returns a consistent value");
 		return matchingSelectItem.getValue();
 	}
 
+	/**
+	 * Returns the index of select items for the component, building it if necessary. Indexes are stored as
+	 * {@link FacesContext#getAttributes() context attributes} so that they are built at most once per component per
+	 * request. Indexes are also keyed by {@link UIComponent#getClientId(FacesContext) client ID} since the same
+	 * component instance is reused for each row when nested inside an iterating component (such as a data table).
+	 * @param context the faces context
+	 * @param component the component
+	 * @return the index
+	 */
+	@SuppressWarnings("unchecked")
+	private SelectItemsIndex getSelectItemsIndex(FacesContext context, UIComponent component) {
+		Map<Object, Object> attributes = context.getAttributes();
+		Map<UIComponent, Map<String, SelectItemsIndex>> indexes = (Map<UIComponent, Map<String, SelectItemsIndex>>) attributes
+				.get(INDEX_ATTRIBUTE);
+		if (indexes == null) {
+			indexes = new IdentityHashMap<UIComponent, Map<String, SelectItemsIndex>>();
+			attributes.put(INDEX_ATTRIBUTE, indexes);
+		}
+		Map<String, SelectItemsIndex> componentIndexes = indexes.get(component);
+		if (componentIndexes == null) {
+			componentIndexes = new HashMap<String, SelectItemsIndex>();
+			indexes.put(component, componentIndexes);
+		}
+		String clientId = component.getClientId(context);
+		SelectItemsIndex index = componentIndexes.get(clientId);
+		if (index == null) {
+			index = new SelectItemsIndex();
+			Iterator<SelectItem> iterator = getSelectItemsIterator(context, component);
+			while (iterator.hasNext()) {
+				SelectItem selectItem = iterator.next();
+				index.add(getAsString(context, component, selectItem.getValue()), selectItem);
+			}
+			componentIndexes.put(clientId, index);
+		}
+		return index;
+	}
+
 	/**
 	 * Factory method used to provide an {@link Iterator} for the {@link SelectItem}s managed by the parent component.
 	 * By default a {@link SelectItemsIterator} is returned.
@@ -66,4 +104,30 @@ public abstract class SelectItemsConverter implements Converter {
 	protected Iterator<SelectItem> getSelectItemsIterator(FacesContext context, UIComponent component) {
 		return new SelectItemsIterator(context, component);
 	}
+
+	/**
+	 * Index of {@link SelectItem}s keyed by their <tt>String</tt> value.
+	 */
+	private static class SelectItemsIndex {
+
+		private final Map<String, SelectItem> selectItems = new HashMap<String, SelectItem>();
+
+		private final Set<String> duplicates = new HashSet<String>();
+
+		public void add(String stringValue, SelectItem selectItem) {
+			if (this.selectItems.containsKey(stringValue)) {
+				this.duplicates.add(stringValue);
+			} else {
+				this.selectItems.put(stringValue, selectItem);
+			}
+		}
+
+		public boolean isDuplicate(String stringValue) {
+			return this.duplicates.contains(stringValue);
+		}
+
+		public SelectItem get(String stringValue) {
+			return this.selectItems.get(stringValue);
+		}
+	}
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.selectitems;
+
+import java.util.Iterator;
+
+/**
+ * Source of values that can be used with the <tt>s:selectItems</tt> component when there are too many values to hold
+ * in memory. Values are {@link #iterator() iterated} as select items are rendered, implementations should fetch
+ * values lazily (for example a page at a time) rather than loading every value up front. Submitted values are
+ * converted using {@link #findValue(String)} so that the complete list need not be scanned.
+ * 
+ * @author Phillip Webb
+ * @param <T> the value type
+ * @see PagedSelectItemsSource
+ * @see RepositorySelectItemsSource
+ */
+public interface SelectItemsSource<T> extends Iterable<T> {
+
+	/**
+	 * Returns an iterator over all values. The iterator will be consumed as select items are rendered, implementations
+	 * should avoid loading all values into memory.
+	 * @return an iterator over all values
+	 */
+	Iterator<T> iterator();
+
+	/**
+	 * Find the value with the specified string value. The string value is the converted value of the item, by default
+	 * this is the <tt>@Id</tt> of a JPA <tt>@Entity</tt> or the <tt>toString()</tt> of any other object.
+	 * @param stringValue the string value
+	 * @return the matching value or <tt>null</tt> if the value cannot be found
+	 */
+	T findValue(String stringValue);
+}
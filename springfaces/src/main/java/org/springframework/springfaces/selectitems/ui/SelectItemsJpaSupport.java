@@ -15,38 +15,93 @@
  */
 package org.springframework.springfaces.selectitems.ui;
 
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
+import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.domain.Persistable;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
-import org.springframework.util.ReflectionUtils.FieldCallback;
-import org.springframework.util.ReflectionUtils.MethodCallback;
 
 /**
- * Support class that is used to dynamically enhance functionality when JPA is available.
+ * Support class that is used to dynamically enhance functionality when JPA is available. Entity IDs are obtained using
+ * an accessor that is resolved once per class. Accessors for classes loaded by the same (or a parent)
+ * <tt>ClassLoader</tt> as this class are held in a concurrent map. Accessors for other classes are held in a map with
+ * weak keys and soft values so that they outlive ordinary garbage collection while a redeployed application's classes
+ * can still be reclaimed.
  * 
  * @author Phillip Webb
  */
 abstract class SelectItemsJpaSupport {
 
+	private static final EntityIdAccessor NO_ID = new EntityIdAccessor() {
+		@Override
+		public Object getId(Object value) {
+			return null;
+		}
+	};
+
+	private final Map<Class<?>, EntityIdAccessor> accessors = new ConcurrentHashMap<Class<?>, EntityIdAccessor>();
+
+	private final Map<Class<?>, Reference<EntityIdAccessor>> foreignAccessors = Collections
+			.synchronizedMap(new WeakHashMap<Class<?>, Reference<EntityIdAccessor>>());
+
 	/**
 	 * Return the entity ID of the specified <tt>value</tt> or </tt>null</tt> if the value is not an entity or does not
 	 * contain an ID.
 	 * @param value the value to get the ID from
 	 * @return The entity ID or <tt>null</tt>
 	 */
-	public abstract Object getEntityId(Object value);
+	public Object getEntityId(Object value) {
+		return getEntityIdAccessor(value.getClass()).getId(value);
+	}
+
+	private EntityIdAccessor getEntityIdAccessor(Class<?> valueClass) {
+		EntityIdAccessor accessor = this.accessors.get(valueClass);
+		if (accessor != null) {
+			return accessor;
+		}
+		Reference<EntityIdAccessor> reference = this.foreignAccessors.get(valueClass);
+		accessor = (reference == null ? null : reference.get());
+		if (accessor == null) {
+			accessor = createEntityIdAccessor(valueClass);
+			if (ClassUtils.isCacheSafe(valueClass, SelectItemsJpaSupport.class.getClassLoader())) {
+				this.accessors.put(valueClass, accessor);
+			} else {
+				this.foreignAccessors.put(valueClass, new SoftReference<EntityIdAccessor>(accessor));
+			}
+		}
+		return accessor;
+	}
+
+	/**
+	 * Create the {@link EntityIdAccessor} for the specified class.
+	 * @param valueClass the value class
+	 * @return the accessor (never <tt>null</tt>)
+	 */
+	protected EntityIdAccessor createEntityIdAccessor(Class<?> valueClass) {
+		if (hasSpringData && PersistableIdAccessor.isPersistable(valueClass)) {
+			return new PersistableIdAccessor();
+		}
+		return NO_ID;
+	}
 
 	private static boolean hasJpa = ClassUtils.isPresent("javax.persistence.Entity",
 			SelectItemsJpaSupport.class.getClassLoader());
 
+	private static boolean hasSpringData = ClassUtils.isPresent("org.springframework.data.domain.Persistable",
+			SelectItemsJpaSupport.class.getClassLoader());
+
 	private static SelectItemsJpaSupport instance;
 
 	public static SelectItemsJpaSupport getInstance() {
@@ -65,68 +120,114 @@ abstract class SelectItemsJpaSupport {
 		instance = null;
 	}
 
+	/**
+	 * Strategy used to access the ID of an entity.
+	 */
+	static abstract class EntityIdAccessor {
+
+		/**
+		 * Return the ID of the specified value.
+		 * @param value the value
+		 * @return the ID or <tt>null</tt>
+		 */
+		public abstract Object getId(Object value);
+	}
+
 	private static class NoJpa extends SelectItemsJpaSupport {
-		@Override
-		public String getEntityId(Object value) {
-			return null;
-		}
 	}
 
 	private static class HasJpa extends SelectItemsJpaSupport {
 
-		private Map<Class<?>, Object> cache = new HashMap<Class<?>, Object>();
-
 		@Override
-		public Object getEntityId(Object value) {
-			try {
-				Class<? extends Object> valueClass = value.getClass();
-				if (AnnotationUtils.findAnnotation(valueClass, Entity.class) != null) {
-					addCacheOfMissing(valueClass);
-					Object fieldOrMethod = this.cache.get(valueClass);
-					if (fieldOrMethod instanceof Field) {
-						return ReflectionUtils.getField((Field) fieldOrMethod, value);
-					}
-					if (fieldOrMethod instanceof Method) {
-						return ReflectionUtils.invokeMethod((Method) fieldOrMethod, value);
+		protected EntityIdAccessor createEntityIdAccessor(Class<?> valueClass) {
+			EntityIdAccessor accessor = super.createEntityIdAccessor(valueClass);
+			if (accessor == NO_ID && AnnotationUtils.findAnnotation(valueClass, Entity.class) != null) {
+				Field field = findIdField(valueClass);
+				if (field != null) {
+					return new FieldIdAccessor(field);
+				}
+				Method method = findIdMethod(valueClass);
+				if (method != null) {
+					return new MethodIdAccessor(method);
+				}
+			}
+			return accessor;
+		}
+
+		private Field findIdField(Class<?> valueClass) {
+			Class<?> searchType = valueClass;
+			while (searchType != null && !Object.class.equals(searchType)) {
+				for (Field field : searchType.getDeclaredFields()) {
+					if (field.isAnnotationPresent(Id.class) || field.isAnnotationPresent(EmbeddedId.class)) {
+						return field;
 					}
 				}
-			} catch (Exception e) {
+				searchType = searchType.getSuperclass();
 			}
 			return null;
 		}
 
-		private void addCacheOfMissing(final Class<?> valueClass) {
-			if (!this.cache.containsKey(valueClass)) {
-				addIdFieldToCache(valueClass);
-			}
-			if (!this.cache.containsKey(valueClass)) {
-				addIdMethodToCache(valueClass);
-			}
-			if (!this.cache.containsKey(valueClass)) {
-				this.cache.put(valueClass, null);
+		private Method findIdMethod(Class<?> valueClass) {
+			for (Method method : ReflectionUtils.getAllDeclaredMethods(valueClass)) {
+				if (method.getParameterTypes().length == 0
+						&& (AnnotationUtils.getAnnotation(method, Id.class) != null || AnnotationUtils.getAnnotation(
+								method, EmbeddedId.class) != null)) {
+					return method;
+				}
 			}
+			return null;
 		}
+	}
 
-		private void addIdFieldToCache(final Class<?> valueClass) {
-			ReflectionUtils.doWithFields(valueClass, new FieldCallback() {
-				public void doWith(Field field) throws IllegalArgumentException, IllegalAccessException {
-					if (field.getAnnotation(Id.class) != null) {
-						field.setAccessible(true);
-						HasJpa.this.cache.put(valueClass, field);
-					}
-				}
-			});
+	/**
+	 * {@link EntityIdAccessor} for an <tt>@Id</tt> or <tt>@EmbeddedId</tt> field.
+	 */
+	private static class FieldIdAccessor extends EntityIdAccessor {
+
+		private final Field field;
+
+		public FieldIdAccessor(Field field) {
+			ReflectionUtils.makeAccessible(field);
+			this.field = field;
 		}
 
-		private void addIdMethodToCache(final Class<?> valueClass) {
-			ReflectionUtils.doWithMethods(valueClass, new MethodCallback() {
-				public void doWith(Method method) throws IllegalArgumentException, IllegalAccessException {
-					if (AnnotationUtils.getAnnotation(method, Id.class) != null) {
-						method.setAccessible(true);
-						HasJpa.this.cache.put(valueClass, method);
-					}
-				}
-			});
+		@Override
+		public Object getId(Object value) {
+			return ReflectionUtils.getField(this.field, value);
+		}
+	}
+
+	/**
+	 * {@link EntityIdAccessor} for an <tt>@Id</tt> or <tt>@EmbeddedId</tt> method.
+	 */
+	private static class MethodIdAccessor extends EntityIdAccessor {
+
+		private final Method method;
+
+		public MethodIdAccessor(Method method) {
+			ReflectionUtils.makeAccessible(method);
+			this.method = method;
+		}
+
+		@Override
+		public Object getId(Object value) {
+			return ReflectionUtils.invokeMethod(this.method, value);
+		}
+	}
+
+	/**
+	 * {@link EntityIdAccessor} for Spring Data {@link Persistable} objects. This class is only loaded when Spring Data
+	 * is available.
+	 */
+	private static class PersistableIdAccessor extends EntityIdAccessor {
+
+		public static boolean isPersistable(Class<?> valueClass) {
+			return Persistable.class.isAssignableFrom(valueClass);
+		}
+
+		@Override
+		public Object getId(Object value) {
+			return ((Persistable<?>) value).getId();
 		}
 	}
 }
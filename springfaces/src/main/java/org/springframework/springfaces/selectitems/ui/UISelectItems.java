@@ -15,15 +15,18 @@
  */
 package org.springframework.springfaces.selectitems.ui;
 
+import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.concurrent.Callable;
 
 import javax.el.ELContext;
@@ -39,6 +42,8 @@ import javax.faces.convert.Converter;
 import javax.faces.model.DataModel;
 import javax.faces.model.SelectItem;
 
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.MessageSource;
 import org.springframework.core.convert.TypeDescriptor;
@@ -47,7 +52,9 @@ import org.springframework.springfaces.expression.el.ELUtils;
 import org.springframework.springfaces.message.NoSuchObjectMessageException;
 import org.springframework.springfaces.message.ObjectMessageSource;
 import org.springframework.springfaces.message.ObjectMessageSourceUtils;
+import org.springframework.springfaces.selectitems.SelectItemsCache;
 import org.springframework.springfaces.selectitems.SelectItemsConverter;
+import org.springframework.springfaces.selectitems.SelectItemsSource;
 import org.springframework.springfaces.util.FacesUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
@@ -61,6 +68,7 @@ import org.springframework.util.ObjectUtils;
  * <li>An {@link Object} Array</li>
  * <li>A {@link String} containing a comma separated list of values</li>
  * <li>A {@link DataModel}</li>
+ * <li>A {@link SelectItemsSource}</li>
  * </ul>
  * In addition it is possible to omit the {@link #getValue() value} attribute entirely when the parent component is
  * bound to a value of the following type:
@@ -100,6 +108,14 @@ import org.springframework.util.ObjectUtils;
  * By default a {@link SelectItem#isNoSelectionOption() noSelectionOption} {@link SelectItem} will by added if the
  * parent is a {@link UISelectOne} component. The {@link #setIncludeNoSelectionOption(Boolean) includeNoSelectionOption}
  * attribute can be used to override this behavior.
+ * <p>
+ * Select items for reference data that does not change between requests can be cached by specifying a
+ * {@link #setCacheKey(String) cacheKey}. Cached items are held in the {@link SelectItemsCache} bean which can also be
+ * used to evict items.
+ * <p>
+ * Very large option lists can be bound to a {@link SelectItemsSource}. Values from the source are converted to
+ * {@link SelectItem}s in small batches as they are rendered rather than being held in a list, and submitted values are
+ * converted using {@link SelectItemsSource#findValue(String)}.
  * 
  * @author Phillip Webbb
  * @author Pedro Casagrande de Campos
@@ -135,6 +151,10 @@ public class UISelectItems extends UIComponentBase {
 
 	private static final Object[] BOOLEAN_VALUES = { true, false };
 
+	private static final int SOURCE_BATCH_SIZE = 100;
+
+	private static final String SELECT_ITEMS_CACHE_ATTRIBUTE = UISelectItems.class.getName() + ".SELECT_ITEMS_CACHE";
+
 	private ExposedUISelectItems exposedUISelectItems = new ExposedUISelectItems();
 
 	private UISelectItemsConverter converter = new UISelectItemsConverter();
@@ -184,25 +204,121 @@ public class UISelectItems extends UIComponentBase {
 	protected final List<SelectItem> getSelectItems() {
 		if (this.selectItems == null) {
 			FacesContext context = getFacesContext();
-			List<SelectItem> selectItems = new ArrayList<SelectItem>();
-			addNoSelectionOptionAsRequired(context, selectItems);
-			Iterable<Object> valueItems = getOrDeduceValues();
-			for (Object valueItem : valueItems) {
-				SelectItem selectItem = convertToSelectItem(context, valueItem);
-				selectItems.add(selectItem);
-			}
-			this.selectItems = selectItems;
+			String cacheKey = getCacheKey();
+			this.selectItems = (cacheKey == null ? buildSelectItems(context) : getCachedSelectItems(context, cacheKey));
 		}
 		return this.selectItems;
 
 	}
 
-	private void addNoSelectionOptionAsRequired(FacesContext context, List<SelectItem> selectItems) {
+	private List<SelectItem> buildSelectItems(FacesContext context) {
+		List<SelectItem> selectItems = new ArrayList<SelectItem>();
+		addNoSelectionOptionAsRequired(context, selectItems);
+		addValueSelectItems(context, selectItems);
+		return selectItems;
+	}
+
+	private void addValueSelectItems(FacesContext context, List<SelectItem> selectItems) {
+		List<Object> valueItems = getOrDeduceValueList();
+		ObjectMessageLabels labels = new ObjectMessageLabels(context, valueItems);
+		int index = 0;
+		for (Object valueItem : valueItems) {
+			SelectItem selectItem = convertToSelectItem(context, valueItem, labels, index++);
+			selectItems.add(selectItem);
+		}
+	}
+
+	private List<SelectItem> getCachedSelectItems(FacesContext context, String cacheKey) {
+		ApplicationContext applicationContext = getApplicationContext(context);
+		SelectItemsCache cache = getSelectItemsCache(context, applicationContext);
+		Locale locale = FacesUtils.getLocale(context);
+		MessageSource messageSource = getMessageSource();
+		Object source = (messageSource == null ? applicationContext : messageSource);
+		List<SelectItem> valueSelectItems = cache.get(cacheKey, locale, source);
+		if (valueSelectItems == null) {
+			valueSelectItems = new ArrayList<SelectItem>();
+			addValueSelectItems(context, valueSelectItems);
+			valueSelectItems = cache.put(cacheKey, locale, source, valueSelectItems);
+		}
+		if (!isNoSelectionOptionIncluded()) {
+			return valueSelectItems;
+		}
+		// The noSelectionOption depends on this component so is never cached
+		List<SelectItem> selectItems = new ArrayList<SelectItem>(valueSelectItems.size() + 1);
+		addNoSelectionOptionAsRequired(context, selectItems);
+		selectItems.addAll(valueSelectItems);
+		return selectItems;
+	}
+
+	private SelectItemsCache getSelectItemsCache(FacesContext context, ApplicationContext applicationContext) {
+		Assert.state(applicationContext != null, "Unable to use the 'cacheKey' attribute without SpringFaces integration");
+		ExternalContext externalContext = context.getExternalContext();
+		SpringFacesIntegration springFacesIntegration = SpringFacesIntegration.getCurrentInstance(externalContext);
+		Map<String, Object> applicationMap = externalContext.getApplicationMap();
+		SelectItemsCacheReference reference = (SelectItemsCacheReference) applicationMap
+				.get(SELECT_ITEMS_CACHE_ATTRIBUTE);
+		if (reference == null || !reference.isCurrent(springFacesIntegration)) {
+			try {
+				reference = new SelectItemsCacheReference(springFacesIntegration,
+						BeanFactoryUtils.beanOfTypeIncludingAncestors(applicationContext, SelectItemsCache.class));
+			} catch (NoSuchBeanDefinitionException e) {
+				throw new IllegalStateException("Unable to find a unique SelectItemsCache bean, the 'cacheKey' "
+						+ "attribute requires a single SelectItemsCache to be registered", e);
+			}
+			applicationMap.put(SELECT_ITEMS_CACHE_ATTRIBUTE, reference);
+		}
+		return reference.getCache();
+	}
+
+	/**
+	 * Returns the select items that are exposed to the parent component. Items from a {@link SelectItemsSource} are
+	 * streamed rather than held in a list.
+	 * @return the select items
+	 */
+	private Collection<SelectItem> getExposedSelectItems() {
+		SelectItemsSource<?> source = getStreamedSelectItemsSource();
+		if (source != null) {
+			return new SourceSelectItems(getFacesContext(), source);
+		}
+		return getSelectItems();
+	}
+
+	/**
+	 * Returns the {@link SelectItemsSource} that should be streamed or <tt>null</tt> if the value is not a source or
+	 * the items are cached.
+	 * @return the source or <tt>null</tt>
+	 */
+	private SelectItemsSource<?> getStreamedSelectItemsSource() {
+		Object value = getValue();
+		if (value instanceof SelectItemsSource && getCacheKey() == null) {
+			return (SelectItemsSource<?>) value;
+		}
+		return null;
+	}
+
+	private Object findSourceValue(FacesContext context, SelectItemsSource<?> source, String stringValue) {
+		if (isNoSelectionOptionIncluded() && ObjectUtils.nullSafeEquals(stringValue, getItemConverterStringValue(null))) {
+			return null;
+		}
+		Object valueItem = source.findValue(stringValue);
+		Object itemValue = (valueItem == null ? null : getItemValue(context, valueItem));
+		// The source may not understand custom itemConverterStringValues, check that the found value maps back
+		Assert.state(valueItem != null && stringValue.equals(getItemConverterStringValue(itemValue)),
+				"No select item mapped to string value '" + stringValue
+						+ "' ensure that getAsString always returns a consistent value");
+		return itemValue;
+	}
+
+	private boolean isNoSelectionOptionIncluded() {
 		Boolean includeNoSelectionOption = getIncludeNoSelectionOption();
 		if (includeNoSelectionOption == null) {
 			includeNoSelectionOption = (getParent() instanceof UISelectOne);
 		}
-		if (includeNoSelectionOption) {
+		return includeNoSelectionOption;
+	}
+
+	private void addNoSelectionOptionAsRequired(FacesContext context, List<SelectItem> selectItems) {
+		if (isNoSelectionOptionIncluded()) {
 			SelectItem item = createNoSelectionOption(context);
 			Assert.state(item != null, "No select item created");
 			selectItems.add(item);
@@ -222,6 +338,18 @@ public class UISelectItems extends UIComponentBase {
 		return new SelectItem(null, label, null, false, true, true);
 	}
 
+	private List<Object> getOrDeduceValueList() {
+		Iterable<Object> values = getOrDeduceValues();
+		if (values instanceof List) {
+			return (List<Object>) values;
+		}
+		List<Object> valueList = new ArrayList<Object>();
+		for (Object value : values) {
+			valueList.add(value);
+		}
+		return valueList;
+	}
+
 	@SuppressWarnings("unchecked")
 	private Iterable<Object> getOrDeduceValues() {
 		Object values = getValue();
@@ -287,7 +415,8 @@ public class UISelectItems extends UIComponentBase {
 		return null;
 	}
 
-	private SelectItem convertToSelectItem(final FacesContext context, final Object valueItem) {
+	private SelectItem convertToSelectItem(final FacesContext context, final Object valueItem,
+			final ObjectMessageLabels labels, final int index) {
 		if (valueItem instanceof SelectItem) {
 			return (SelectItem) valueItem;
 		}
@@ -298,7 +427,7 @@ public class UISelectItems extends UIComponentBase {
 				if (value == null) {
 					value = valueItem;
 				}
-				String label = getItemLabel(context, valueItem);
+				String label = getItemLabel(valueItem, labels, index);
 				String description = getItemDescription();
 				boolean disabled = isItemDisabled();
 				boolean escape = isItemLabelEscaped();
@@ -310,20 +439,27 @@ public class UISelectItems extends UIComponentBase {
 		});
 	}
 
+	private Object getItemValue(FacesContext context, final Object valueItem) {
+		if (valueItem instanceof SelectItem) {
+			return ((SelectItem) valueItem).getValue();
+		}
+		return FacesUtils.doWithRequestScopeVariable(context, getVar(DEFAULT_VAR), valueItem, new Callable<Object>() {
+			public Object call() throws Exception {
+				Object value = getItemValue();
+				return (value == null ? valueItem : value);
+			}
+		});
+	}
+
 	private String getVar(String defaultValue) {
 		String var = getVar();
 		return (var != null ? var : defaultValue);
 	}
 
-	private String getItemLabel(FacesContext context, Object value) {
+	private String getItemLabel(Object value, ObjectMessageLabels labels, int index) {
 		String itemLabel = getItemLabel();
 		if (itemLabel == null) {
-			ObjectMessageSource messageSource = getObjectMessageSource(context);
-			Locale locale = FacesUtils.getLocale(context);
-			try {
-				itemLabel = messageSource.getMessage(value, null, locale);
-			} catch (NoSuchObjectMessageException e) {
-			}
+			itemLabel = labels.get(index);
 		}
 		if (itemLabel == null) {
 			itemLabel = deduceItemLabel(value);
@@ -612,8 +748,30 @@ public class UISelectItems extends UIComponentBase {
 		getStateHelper().put(PropertyKeys.messageSource, messageSource);
 	}
 
+	/**
+	 * Returns the key used to cache the select items across requests or <tt>null</tt> if items should not be cached.
+	 * When specified items are built once and stored in the {@link SelectItemsCache} bean, keyed by the cache key, the
+	 * current locale and the message source. The value expression and item attributes are not evaluated for cached
+	 * items. Any {@link #getIncludeNoSelectionOption() noSelectionOption} item is not cached and is added by each
+	 * component.
+	 * @return the cache key
+	 * @see SelectItemsCache
+	 */
+	public String getCacheKey() {
+		return (String) getStateHelper().eval(PropertyKeys.cacheKey);
+	}
+
+	/**
+	 * Set the key used to cache the select items across requests.
+	 * @param cacheKey the cache key
+	 * @see #getCacheKey()
+	 */
+	public void setCacheKey(String cacheKey) {
+		getStateHelper().put(PropertyKeys.cacheKey, cacheKey);
+	}
+
 	private enum PropertyKeys {
-		value, var, itemValue, itemLabel, itemDescription, itemDisabled, itemLabelEscaped, itemConverterStringValue, noSelectionValue, includeNoSelectionOption, messageSource
+		value, var, itemValue, itemLabel, itemDescription, itemDisabled, itemLabelEscaped, itemConverterStringValue, noSelectionValue, includeNoSelectionOption, messageSource, cacheKey
 	}
 
 	/**
@@ -627,7 +785,7 @@ public class UISelectItems extends UIComponentBase {
 
 		@Override
 		public Object getValue() {
-			return UISelectItems.this.getSelectItems();
+			return UISelectItems.this.getExposedSelectItems();
 		}
 	}
 
@@ -636,6 +794,16 @@ public class UISelectItems extends UIComponentBase {
 	 */
 	public static class UISelectItemsConverter extends SelectItemsConverter {
 
+		@Override
+		public Object getAsObject(FacesContext context, UIComponent component, String value) {
+			UISelectItems selectItems = getUISelectItems(component);
+			SelectItemsSource<?> source = selectItems.getStreamedSelectItemsSource();
+			if (source != null) {
+				return selectItems.findSourceValue(context, source, value);
+			}
+			return super.getAsObject(context, component, value);
+		}
+
 		public String getAsString(FacesContext context, UIComponent component, Object value) {
 			return getUISelectItems(component).getItemConverterStringValue(value);
 		}
@@ -649,4 +817,164 @@ public class UISelectItems extends UIComponentBase {
 			throw new IllegalStateException("Unable to find UISelectItems in childen of " + component.getClientId());
 		}
 	}
+
+	/**
+	 * Labels for all value items, resolved from the {@link ObjectMessageSource} in a single batch when first needed.
+	 */
+	private class ObjectMessageLabels {
+
+		private final FacesContext context;
+
+		private final List<Object> values;
+
+		private List<String> labels;
+
+		public ObjectMessageLabels(FacesContext context, List<Object> values) {
+			this.context = context;
+			this.values = values;
+		}
+
+		public String get(int index) {
+			if (this.labels == null) {
+				ObjectMessageSource messageSource = getObjectMessageSource(this.context);
+				Locale locale = FacesUtils.getLocale(this.context);
+				this.labels = ObjectMessageSourceUtils.findMessages(messageSource, this.values, null, locale);
+			}
+			return this.labels.get(index);
+		}
+	}
+
+	/**
+	 * Select items streamed from a {@link SelectItemsSource}. Rendering only requires {@link #iterator()}, the
+	 * {@link #size()} is recorded when an iteration completes so that the source is walked at most once should the
+	 * size also be needed.
+	 */
+	private class SourceSelectItems extends AbstractCollection<SelectItem> {
+
+		private final FacesContext context;
+
+		private final SelectItemsSource<?> source;
+
+		private int size = -1;
+
+		public SourceSelectItems(FacesContext context, SelectItemsSource<?> source) {
+			this.context = context;
+			this.source = source;
+		}
+
+		@Override
+		public Iterator<SelectItem> iterator() {
+			return new SourceSelectItemsIterator(this.context, this.source.iterator(), this);
+		}
+
+		@Override
+		public boolean isEmpty() {
+			if (this.size != -1) {
+				return this.size == 0;
+			}
+			return !isNoSelectionOptionIncluded() && !this.source.iterator().hasNext();
+		}
+
+		@Override
+		public int size() {
+			if (this.size == -1) {
+				int size = (isNoSelectionOptionIncluded() ? 1 : 0);
+				for (Iterator<?> iterator = this.source.iterator(); iterator.hasNext(); iterator.next()) {
+					size++;
+				}
+				this.size = size;
+			}
+			return this.size;
+		}
+	}
+
+	/**
+	 * Iterator that converts values from a {@link SelectItemsSource} in batches so that labels can still be resolved
+	 * using a single {@link ObjectMessageSource} call per batch.
+	 */
+	private class SourceSelectItemsIterator implements Iterator<SelectItem> {
+
+		private final FacesContext context;
+
+		private final Iterator<?> values;
+
+		private final SourceSelectItems selectItems;
+
+		private Iterator<SelectItem> batch;
+
+		private int count;
+
+		public SourceSelectItemsIterator(FacesContext context, Iterator<?> values, SourceSelectItems selectItems) {
+			this.context = context;
+			this.values = values;
+			this.selectItems = selectItems;
+			List<SelectItem> noSelectionOption = new ArrayList<SelectItem>(1);
+			addNoSelectionOptionAsRequired(context, noSelectionOption);
+			this.batch = noSelectionOption.iterator();
+		}
+
+		public boolean hasNext() {
+			while (!this.batch.hasNext() && this.values.hasNext()) {
+				this.batch = nextBatch().iterator();
+			}
+			if (!this.batch.hasNext()) {
+				this.selectItems.size = this.count;
+				return false;
+			}
+			return true;
+		}
+
+		private List<SelectItem> nextBatch() {
+			List<Object> valueItems = new ArrayList<Object>(SOURCE_BATCH_SIZE);
+			while (valueItems.size() < SOURCE_BATCH_SIZE && this.values.hasNext()) {
+				valueItems.add(this.values.next());
+			}
+			ObjectMessageLabels labels = new ObjectMessageLabels(this.context, valueItems);
+			List<SelectItem> selectItems = new ArrayList<SelectItem>(valueItems.size());
+			for (int i = 0; i < valueItems.size(); i++) {
+				selectItems.add(convertToSelectItem(this.context, valueItems.get(i), labels, i));
+			}
+			return selectItems;
+		}
+
+		public SelectItem next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			this.count++;
+			return this.batch.next();
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	/**
+	 * Application scoped reference to the {@link SelectItemsCache} bean so that the bean is only looked up again when
+	 * the application context is refreshed.
+	 */
+	private static class SelectItemsCacheReference {
+
+		private final SpringFacesIntegration springFacesIntegration;
+
+		private final long generation;
+
+		private final SelectItemsCache cache;
+
+		public SelectItemsCacheReference(SpringFacesIntegration springFacesIntegration, SelectItemsCache cache) {
+			this.springFacesIntegration = springFacesIntegration;
+			this.generation = springFacesIntegration.getRefreshGeneration();
+			this.cache = cache;
+		}
+
+		public boolean isCurrent(SpringFacesIntegration springFacesIntegration) {
+			return this.springFacesIntegration == springFacesIntegration
+					&& springFacesIntegration.getRefreshGeneration() == this.generation;
+		}
+
+		public SelectItemsCache getCache() {
+			return this.cache;
+		}
+	}
 }
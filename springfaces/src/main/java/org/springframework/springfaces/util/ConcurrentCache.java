@@ -0,0 +1,118 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.util;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * A simple thread-safe cache with an upper bound on the number of entries. Reads never lock. When the cache is full
+ * arbitrary entries are evicted to make room for new ones, making the cache suitable for values that are cheap to
+ * recreate but expensive enough to be worth keeping. Neither keys nor values can be <tt>null</tt>.
+ * 
+ * @author Phillip Webb
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class ConcurrentCache<K, V> {
+
+	private final int maxSize;
+
+	private final ConcurrentMap<K, V> entries;
+
+	/**
+	 * Create a new {@link ConcurrentCache} instance.
+	 * @param maxSize the maximum number of entries to hold
+	 */
+	public ConcurrentCache(int maxSize) {
+		Assert.isTrue(maxSize > 0, "MaxSize must be greater than 0");
+		this.maxSize = maxSize;
+		this.entries = new ConcurrentHashMap<K, V>();
+	}
+
+	/**
+	 * Returns the cached value for the given key.
+	 * @param key the key
+	 * @return the cached value or <tt>null</tt>
+	 */
+	public V get(K key) {
+		return this.entries.get(key);
+	}
+
+	/**
+	 * Add a value to the cache, evicting other entries if the cache is full. If another thread has already added a
+	 * value for the key, the existing value is retained and returned.
+	 * @param key the key
+	 * @param value the value
+	 * @return the cached value
+	 */
+	public V put(K key, V value) {
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(value, "Value must not be null");
+		evictIfFull();
+		V existing = this.entries.putIfAbsent(key, value);
+		return (existing == null ? value : existing);
+	}
+
+	/**
+	 * Add a value to the cache, replacing any existing value for the key. Unlike {@link #put(Object, Object)} this
+	 * method can be used when an existing value is known to be stale.
+	 * @param key the key
+	 * @param value the value
+	 */
+	public void replace(K key, V value) {
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(value, "Value must not be null");
+		evictIfFull();
+		this.entries.put(key, value);
+	}
+
+	private void evictIfFull() {
+		if (this.entries.size() >= this.maxSize) {
+			Iterator<K> iterator = this.entries.keySet().iterator();
+			while (this.entries.size() >= this.maxSize && iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Remove a value from the cache.
+	 * @param key the key to remove
+	 */
+	public void remove(K key) {
+		this.entries.remove(key);
+	}
+
+	/**
+	 * Remove all values from the cache.
+	 */
+	public void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Returns the number of cached entries.
+	 * @return the size of the cache
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+}
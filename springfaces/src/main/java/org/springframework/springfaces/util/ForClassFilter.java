@@ -39,13 +39,29 @@ import org.springframework.util.Assert;
  * {@link #apply(Map, Class) maps} or {@link #match(Object, Class) single objects}. If not explicitly defined the
  * <tt>{@link ForClass#value() @ForClass.value}</tt> can be deduced either from a {@link #ForClassFilter(Class) generic}
  * or using a {@link #ForClassFilter(Deducer) custom} {@link Deducer}.
+ * <p>
+ * The annotation metadata and deduced classes for each object type are cached. For repeated lookups against the same
+ * set of objects an {@link #index(Map) index} can be created that memoizes the matches for each target class.
  * 
  * @author Phillip Webb
  */
 public class ForClassFilter {
 
+	/**
+	 * The maximum number of object types that will have a cached {@link Descriptor}.
+	 */
+	private static final int DESCRIPTOR_CACHE_SIZE = 1024;
+
+	/**
+	 * The maximum number of target classes that will be memoized by an {@link Index}.
+	 */
+	private static final int INDEX_CACHE_SIZE = 1024;
+
 	private Deducer deducer;
 
+	private final ConcurrentCache<Class<?>, Descriptor> descriptors = new ConcurrentCache<Class<?>, Descriptor>(
+			DESCRIPTOR_CACHE_SIZE);
+
 	/**
 	 * Create a new {@link ForClassFilter} instance. No deduction will be attempted if the {@link ForClass} annotation
 	 * does not define a value.
@@ -162,6 +178,18 @@ public class ForClassFilter {
 		};
 	}
 
+	/**
+	 * Create an {@link Index} that can be used to repeatedly filter the specified {@link Map}. The index takes a copy of
+	 * the map and memoizes the {@link #match(Object, Class) matching} values for each target class. Objects that
+	 * implement {@link ConditionalForClass} are still consulted each time the index is used.
+	 * @param map the map to index
+	 * @return an index of the map
+	 */
+	public <K, V> Index<K, V> index(Map<K, V> map) {
+		Assert.notNull(map, "Map must not be null");
+		return new Index<K, V>(this, map);
+	}
+
 	/**
 	 * Returns <tt>true</tt> if object is for the specified targetClass.
 	 * @param object the object to test (can be <tt>null</tt>)
@@ -173,31 +201,34 @@ public class ForClassFilter {
 		if (object == null) {
 			return false;
 		}
-		Set<Class<?>> classes = getForClasses(object);
-		boolean isForClass = isAssignableFromAny(targetClass, classes);
-
-		if (!(object instanceof ConditionalForClass)) {
-			return isForClass;
+		Descriptor descriptor = getDescriptor(object);
+		if (!descriptor.isCandidate(object, targetClass)) {
+			return false;
 		}
+		return !descriptor.isConditional() || ((ConditionalForClass) object).isForClass(targetClass);
+	}
 
-		ConditionalForClass conditionalForClass = (ConditionalForClass) object;
-		// Only call the conditional if we match one of the classes or there was no specific classes to match against
-		if (isForClass || classes.isEmpty()) {
-			return conditionalForClass.isForClass(targetClass);
+	/**
+	 * Returns the {@link Descriptor} for the given object, using a cached value when possible.
+	 * @param object the source object
+	 * @return the descriptor
+	 */
+	private Descriptor getDescriptor(Object object) {
+		Class<?> objectClass = object.getClass();
+		Descriptor descriptor = this.descriptors.get(objectClass);
+		if (descriptor == null) {
+			descriptor = this.descriptors.put(objectClass, new Descriptor(object));
 		}
-		return false;
+		return descriptor;
 	}
 
 	/**
 	 * Returns all classes (deduced or specified) that the object is "for".
 	 * @param object the source object
+	 * @param annotation the {@link ForClass} annotation (never <tt>null</tt>)
 	 * @return a set of classes
 	 */
-	private Set<Class<?>> getForClasses(Object object) {
-		ForClass annotation = AnnotationUtils.findAnnotation(object.getClass(), ForClass.class);
-		if (annotation == null) {
-			return Collections.emptySet();
-		}
+	private Set<Class<?>> getForClasses(Object object, ForClass annotation) {
 		Set<Class<?>> forClasses = new HashSet<Class<?>>();
 		forClasses.addAll(Arrays.asList(annotation.value()));
 		if (forClasses.isEmpty()) {
@@ -216,7 +247,7 @@ public class ForClassFilter {
 	 * @param candidates candidate types
 	 * @return <tt>true</tt> if the type is assignable from any of the candidates
 	 */
-	private boolean isAssignableFromAny(Class<?> type, Set<Class<?>> candidates) {
+	private static boolean isAssignableFromAny(Class<?> type, Set<Class<?>> candidates) {
 		if (candidates.contains(type)) {
 			return true;
 		}
@@ -228,6 +259,137 @@ public class ForClassFilter {
 		return false;
 	}
 
+	/**
+	 * Cached metadata for a specific object type.
+	 */
+	private class Descriptor {
+
+		/**
+		 * The classes that the object is for or <tt>null</tt> if the classes must be deduced for each object.
+		 */
+		private final Set<Class<?>> forClasses;
+
+		private final ForClass annotation;
+
+		private final boolean conditional;
+
+		public Descriptor(Object object) {
+			this.annotation = AnnotationUtils.findAnnotation(object.getClass(), ForClass.class);
+			this.conditional = object instanceof ConditionalForClass;
+			if (this.annotation == null) {
+				this.forClasses = Collections.emptySet();
+			} else if (this.annotation.value().length > 0 || isDeducedFromClass()) {
+				this.forClasses = Collections.unmodifiableSet(getForClasses(object, this.annotation));
+			} else {
+				this.forClasses = null;
+			}
+		}
+
+		private boolean isDeducedFromClass() {
+			Deducer deducer = ForClassFilter.this.deducer;
+			return (deducer instanceof NullForClassDeducer || deducer instanceof GenericTypeForClassDeducer);
+		}
+
+		/**
+		 * Determine if the object is a candidate for the target class, ignoring any {@link ConditionalForClass}
+		 * callback.
+		 * @param object the source object
+		 * @param targetClass the target class
+		 * @return <tt>true</tt> if the object is a candidate
+		 */
+		public boolean isCandidate(Object object, Class<?> targetClass) {
+			Set<Class<?>> classes = this.forClasses;
+			if (classes == null) {
+				classes = getForClasses(object, this.annotation);
+			}
+			boolean isForClass = isAssignableFromAny(targetClass, classes);
+			// Only call the conditional if we match one of the classes or there was no specific classes to match against
+			return isForClass || (this.conditional && classes.isEmpty());
+		}
+
+		public boolean isConditional() {
+			return this.conditional;
+		}
+	}
+
+	/**
+	 * A memoized index that can be used to repeatedly filter a {@link Map}.
+	 * @param <K> the key type
+	 * @param <V> the value type
+	 * @see ForClassFilter#index(Map)
+	 */
+	public static class Index<K, V> {
+
+		private final ForClassFilter filter;
+
+		private final Map<K, V> map;
+
+		private final ConcurrentCache<Class<?>, Matches<K, V>> matches = new ConcurrentCache<Class<?>, Matches<K, V>>(
+				INDEX_CACHE_SIZE);
+
+		Index(ForClassFilter filter, Map<K, V> map) {
+			this.filter = filter;
+			this.map = new LinkedHashMap<K, V>(map);
+		}
+
+		/**
+		 * Returns only {@link ForClassFilter#match(Object, Class) matching} values from the indexed map.
+		 * @param targetClass the target class to match
+		 * @return an unmodifiable filtered map
+		 */
+		public Map<K, V> apply(Class<?> targetClass) {
+			Assert.notNull(targetClass, "TargetClass must not be null");
+			Matches<K, V> matches = this.matches.get(targetClass);
+			if (matches == null) {
+				matches = this.matches.put(targetClass, new Matches<K, V>(this.filter, this.map, targetClass));
+			}
+			return matches.get(targetClass);
+		}
+	}
+
+	/**
+	 * Memoized matches for a single target class.
+	 * @param <K> the key type
+	 * @param <V> the value type
+	 */
+	private static class Matches<K, V> {
+
+		private final Map<K, V> candidates;
+
+		private final boolean hasConditional;
+
+		public Matches(ForClassFilter filter, Map<K, V> map, Class<?> targetClass) {
+			Map<K, V> candidates = new LinkedHashMap<K, V>();
+			boolean hasConditional = false;
+			for (Map.Entry<K, V> entry : map.entrySet()) {
+				V value = entry.getValue();
+				if (value != null) {
+					Descriptor descriptor = filter.getDescriptor(value);
+					if (descriptor.isCandidate(value, targetClass)) {
+						candidates.put(entry.getKey(), value);
+						hasConditional = hasConditional || descriptor.isConditional();
+					}
+				}
+			}
+			this.candidates = Collections.unmodifiableMap(candidates);
+			this.hasConditional = hasConditional;
+		}
+
+		public Map<K, V> get(Class<?> targetClass) {
+			if (!this.hasConditional) {
+				return this.candidates;
+			}
+			Map<K, V> matched = new LinkedHashMap<K, V>();
+			for (Map.Entry<K, V> entry : this.candidates.entrySet()) {
+				V value = entry.getValue();
+				if (!(value instanceof ConditionalForClass) || ((ConditionalForClass) value).isForClass(targetClass)) {
+					matched.put(entry.getKey(), value);
+				}
+			}
+			return Collections.unmodifiableMap(matched);
+		}
+	}
+
 	/**
 	 * Strategy interface that can be used to deduce the class that an object is "for".
 	 */
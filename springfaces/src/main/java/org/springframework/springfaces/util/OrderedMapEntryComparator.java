@@ -0,0 +1,36 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.util;
+
+import java.util.Map;
+
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.core.annotation.Order;
+
+/**
+ * {@link java.util.Comparator} implementation to sort {@link Map.Entry} values by
+ * {@link org.springframework.core.Ordered} as well as the {@link Order} annotation. Useful when sorting the entries of
+ * a map of beans whilst retaining the bean names.
+ * 
+ * @author Phillip Webb
+ */
+public class OrderedMapEntryComparator extends AnnotationAwareOrderComparator {
+
+	@Override
+	public int compare(Object o1, Object o2) {
+		return super.compare(((Map.Entry<?, ?>) o1).getValue(), ((Map.Entry<?, ?>) o2).getValue());
+	}
+}
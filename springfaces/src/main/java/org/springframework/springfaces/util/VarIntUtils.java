@@ -0,0 +1,94 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+/**
+ * Utility methods to read and write variable length integers, useful when writing compact
+ * {@link java.io.Serializable} state. Values are zig-zag encoded so that small negative numbers also use few bytes;
+ * values between <tt>-64</tt> and <tt>63</tt> are written as a single byte.
+ * 
+ * @author Phillip Webb
+ */
+public abstract class VarIntUtils {
+
+	private static final int MAX_LONG_BYTES = 10;
+
+	/**
+	 * Write a variable length <tt>int</tt>.
+	 * @param out the output
+	 * @param value the value to write
+	 * @throws IOException on write error
+	 * @see #readInt(DataInput)
+	 */
+	public static void writeInt(DataOutput out, int value) throws IOException {
+		writeLong(out, value);
+	}
+
+	/**
+	 * Write a variable length <tt>long</tt>.
+	 * @param out the output
+	 * @param value the value to write
+	 * @throws IOException on write error
+	 * @see #readLong(DataInput)
+	 */
+	public static void writeLong(DataOutput out, long value) throws IOException {
+		long encoded = (value << 1) ^ (value >> 63);
+		while ((encoded & ~0x7FL) != 0) {
+			out.writeByte((int) ((encoded & 0x7F) | 0x80));
+			encoded >>>= 7;
+		}
+		out.writeByte((int) encoded);
+	}
+
+	/**
+	 * Read a variable length <tt>int</tt>.
+	 * @param in the input
+	 * @return the value
+	 * @throws IOException on read error
+	 * @see #writeInt(DataOutput, int)
+	 */
+	public static int readInt(DataInput in) throws IOException {
+		long value = readLong(in);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw new StreamCorruptedException("Variable length int out of range");
+		}
+		return (int) value;
+	}
+
+	/**
+	 * Read a variable length <tt>long</tt>.
+	 * @param in the input
+	 * @return the value
+	 * @throws IOException on read error
+	 * @see #writeLong(DataOutput, long)
+	 */
+	public static long readLong(DataInput in) throws IOException {
+		long encoded = 0;
+		for (int i = 0; i < MAX_LONG_BYTES; i++) {
+			int b = in.readUnsignedByte();
+			encoded |= (long) (b & 0x7F) << (i * 7);
+			if ((b & 0x80) == 0) {
+				return (encoded >>> 1) ^ -(encoded & 1);
+			}
+		}
+		throw new StreamCorruptedException("Malformed variable length long");
+	}
+}
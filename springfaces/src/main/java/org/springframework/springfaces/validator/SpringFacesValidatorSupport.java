@@ -43,8 +43,8 @@ import org.springframework.springfaces.FacesWrapperFactory;
 import org.springframework.springfaces.bean.ConditionalForClass;
 import org.springframework.springfaces.bean.ForClass;
 import org.springframework.springfaces.component.SpringBeanPartialStateHolder;
+import org.springframework.springfaces.util.ConcurrentCache;
 import org.springframework.springfaces.util.ForClassFilter;
-import org.springframework.springfaces.util.StateHolders;
 
 /**
  * {@link FacesWrapperFactory} for JSF {@link Application}s that offers extended Spring validator support. All Spring
@@ -64,11 +64,16 @@ public class SpringFacesValidatorSupport implements FacesWrapperFactory<Applicat
 
 	private static final ForClassFilter FOR_CLASS_FILTER = new ForClassFilter(VALIDATOR_TYPE);
 
+	/**
+	 * The maximum number of value types that will have a cached {@link ValidatorChain}.
+	 */
+	private static final int VALIDATOR_CHAIN_CACHE_SIZE = 1024;
+
 	private ApplicationContext applicationContext;
 
 	private String beanName;
 
-	private HashMap<String, Object> validators;
+	private volatile ValidatorBeans validatorBeans;
 
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		this.applicationContext = applicationContext;
@@ -89,9 +94,10 @@ public class SpringFacesValidatorSupport implements FacesWrapperFactory<Applicat
 	 * Collects all relevant spring beans to the validators map.
 	 */
 	private void collectValidatorBeans() {
-		this.validators = new HashMap<String, Object>();
-		this.validators.putAll(beansOfType(this.applicationContext, FACES_VALIDATOR_TYPE));
-		this.validators.putAll(beansOfType(this.applicationContext, VALIDATOR_TYPE));
+		HashMap<String, Object> validators = new HashMap<String, Object>();
+		validators.putAll(beansOfType(this.applicationContext, FACES_VALIDATOR_TYPE));
+		validators.putAll(beansOfType(this.applicationContext, VALIDATOR_TYPE));
+		this.validatorBeans = new ValidatorBeans(validators);
 	}
 
 	/**
@@ -105,7 +111,7 @@ public class SpringFacesValidatorSupport implements FacesWrapperFactory<Applicat
 	}
 
 	protected final Collection<Validator> createValidatorBeans(Class<?> targetClass) {
-		Set<String> beanIds = FOR_CLASS_FILTER.apply(this.validators, targetClass).keySet();
+		Set<String> beanIds = this.validatorBeans.getValidatorsForClass(targetClass).keySet();
 		List<Validator> validators = new ArrayList<Validator>();
 		for (String beanId : beanIds) {
 			validators.add(createValidatorBean(beanId));
@@ -113,8 +119,17 @@ public class SpringFacesValidatorSupport implements FacesWrapperFactory<Applicat
 		return Collections.unmodifiableList(validators);
 	}
 
+	/**
+	 * Returns the {@link ValidatorChain} that should be used to validate values of the given type.
+	 * @param targetClass the value type
+	 * @return the validator chain
+	 */
+	final ValidatorChain getValidatorChain(Class<?> targetClass) {
+		return this.validatorBeans.getValidatorChain(targetClass);
+	}
+
 	private Validator createValidatorBean(String beanId) {
-		Object bean = this.validators.get(beanId);
+		Object bean = this.validatorBeans.get(beanId);
 		if (bean != null) {
 			if (VALIDATOR_TYPE.isInstance(bean)) {
 				return new SpringBeanValidator<Object>(FacesContext.getCurrentInstance(), beanId);
@@ -130,6 +145,107 @@ public class SpringFacesValidatorSupport implements FacesWrapperFactory<Applicat
 		return new ValidatorApplication(wrapped);
 	}
 
+	/**
+	 * The validator beans collected when the application context was last refreshed.
+	 */
+	private class ValidatorBeans {
+
+		private final Map<String, Object> beans;
+
+		private final ForClassFilter.Index<String, Object> beansForClass;
+
+		private final ConcurrentCache<Class<?>, ValidatorChain> chains = new ConcurrentCache<Class<?>, ValidatorChain>(
+				VALIDATOR_CHAIN_CACHE_SIZE);
+
+		public ValidatorBeans(Map<String, Object> beans) {
+			this.beans = beans;
+			this.beansForClass = FOR_CLASS_FILTER.index(beans);
+		}
+
+		public Object get(String beanId) {
+			return this.beans.get(beanId);
+		}
+
+		public Map<String, Object> getValidatorsForClass(Class<?> targetClass) {
+			return this.beansForClass.apply(targetClass);
+		}
+
+		public ValidatorChain getValidatorChain(Class<?> targetClass) {
+			Map<String, Object> beans = getValidatorsForClass(targetClass);
+			ValidatorChain chain = this.chains.get(targetClass);
+			if (chain == null || !chain.isFor(beans)) {
+				chain = new ValidatorChain(beans, SpringFacesValidatorSupport.this.applicationContext);
+				this.chains.replace(targetClass, chain);
+			}
+			return chain;
+		}
+	}
+
+	/**
+	 * An immutable chain of the validators that apply to a specific value type. Validators from singleton beans are
+	 * shared, validators from prototype beans are identified by their bean ID and must be created as required.
+	 */
+	static class ValidatorChain {
+
+		private final Map<String, Object> beans;
+
+		private final List<Object> validators;
+
+		ValidatorChain(Map<String, Object> beans, ApplicationContext applicationContext) {
+			this.beans = beans;
+			List<Object> validators = new ArrayList<Object>(beans.size());
+			for (Map.Entry<String, Object> entry : beans.entrySet()) {
+				validators.add(getValidator(entry.getKey(), entry.getValue(), applicationContext));
+			}
+			this.validators = Collections.unmodifiableList(validators);
+		}
+
+		@SuppressWarnings("unchecked")
+		private Object getValidator(String beanId, Object bean, ApplicationContext applicationContext) {
+			if (bean instanceof StateHolder || !applicationContext.isSingleton(beanId)) {
+				return beanId;
+			}
+			if (VALIDATOR_TYPE.isInstance(bean)) {
+				return new SharedValidator((org.springframework.springfaces.validator.Validator<Object>) bean);
+			}
+			return bean;
+		}
+
+		/**
+		 * Returns <tt>true</tt> if the chain was created from the specified beans.
+		 * @param beans the validator beans
+		 * @return if the chain is for the beans
+		 */
+		boolean isFor(Map<String, Object> beans) {
+			return (this.beans == beans || this.beans.keySet().equals(beans.keySet()));
+		}
+
+		/**
+		 * Returns the validators in the chain. Each element is either a shared {@link Validator} or the {@link String}
+		 * ID of a prototype bean.
+		 * @return the validators
+		 */
+		List<Object> getValidators() {
+			return this.validators;
+		}
+	}
+
+	/**
+	 * Stateless adapter used to share a singleton {@link org.springframework.springfaces.validator.Validator} bean.
+	 */
+	private static class SharedValidator implements Validator {
+
+		private final org.springframework.springfaces.validator.Validator<Object> bean;
+
+		public SharedValidator(org.springframework.springfaces.validator.Validator<Object> bean) {
+			this.bean = bean;
+		}
+
+		public void validate(FacesContext context, UIComponent component, Object value) throws ValidatorException {
+			this.bean.validate(context, component, value);
+		}
+	}
+
 	/**
 	 * {@link Application} wrapper that offers extended Spring validator support.
 	 */
@@ -171,7 +287,10 @@ public class SpringFacesValidatorSupport implements FacesWrapperFactory<Applicat
 
 		static String VALIDATOR_ID = "org.springframework.validator.default";
 
-		private StateHolders<StateHolder> validators;
+		/**
+		 * Validators created from prototype beans, keyed by bean ID.
+		 */
+		private Map<String, Validator> prototypeValidators;
 
 		/**
 		 * Constructor to satisfy the {@link StateHolder}. This constructor should not be used directly.
@@ -195,27 +314,25 @@ public class SpringFacesValidatorSupport implements FacesWrapperFactory<Applicat
 			if (value == null) {
 				return;
 			}
-			Class<?> targetClass = value.getClass();
-			Collection<Validator> validators = getValidators(targetClass);
-			for (Validator validator : validators) {
-				validator.validate(context, component, value);
-			}
-		}
-
-		private Collection<Validator> getValidators(Class<?> targetClass) {
-			if (this.validators == null) {
-				this.validators = new StateHolders<StateHolder>();
-				Collection<Validator> validatorBeans = getBean().createValidatorBeans(targetClass);
-				for (Validator validator : validatorBeans) {
-					this.validators.add((StateHolder) validator);
+			ValidatorChain chain = getBean().getValidatorChain(value.getClass());
+			for (Object validator : chain.getValidators()) {
+				if (validator instanceof String) {
+					validator = getPrototypeValidator((String) validator);
 				}
+				((Validator) validator).validate(context, component, value);
 			}
-			return asValidators(this.validators.asList());
 		}
 
-		@SuppressWarnings({ "unchecked", "rawtypes" })
-		private List<Validator> asValidators(List<StateHolder> stateHolders) {
-			return (List) stateHolders;
+		private Validator getPrototypeValidator(String beanId) {
+			if (this.prototypeValidators == null) {
+				this.prototypeValidators = new HashMap<String, Validator>();
+			}
+			Validator validator = this.prototypeValidators.get(beanId);
+			if (validator == null) {
+				validator = getBean().createValidatorBean(beanId);
+				this.prototypeValidators.put(beanId, validator);
+			}
+			return validator;
 		}
 	}
 
@@ -24,6 +24,7 @@ import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 import java.util.AbstractMap;
 import java.util.Date;
@@ -153,6 +154,69 @@ public class SpringFacesIntegrationTest {
 		assertThat(SpringFacesIntegration.getLastRefreshedDate(this.externalContext), is(greaterThan(initialDate)));
 	}
 
+	@Test
+	public void shouldHaveRefreshGenerationOnLoad() throws Exception {
+		createSpringFacesIntegration();
+		long generation = this.springFacesIntegration.getRefreshGeneration();
+		assertThat(SpringFacesIntegration.getRefreshGeneration(this.servletContext), is(generation));
+		assertThat(SpringFacesIntegration.getRefreshGeneration(this.externalContext), is(generation));
+	}
+
+	@Test
+	public void shouldThrowWithoutRefreshGeneration() throws Exception {
+		this.thrown.expect(IllegalStateException.class);
+		this.thrown.expectMessage("Unable to obtain the SpringFacesIntegration instance");
+		SpringFacesIntegration.getRefreshGeneration(this.servletContext);
+	}
+
+	@Test
+	public void shouldUpdateRefreshGenerationOnReload() throws Exception {
+		createSpringFacesIntegration();
+		long initialGeneration = this.springFacesIntegration.getRefreshGeneration();
+		this.springFacesIntegration.onApplicationEvent(mock(ContextRefreshedEvent.class));
+		assertThat(this.springFacesIntegration.getRefreshGeneration(), is(greaterThan(initialGeneration)));
+	}
+
+	@Test
+	public void shouldUpdateRefreshGenerationWhenReplaced() throws Exception {
+		createSpringFacesIntegration();
+		SpringFacesIntegration previous = this.springFacesIntegration;
+		long initialGeneration = previous.getRefreshGeneration();
+		createSpringFacesIntegration();
+		assertThat(previous.getRefreshGeneration(), is(greaterThan(initialGeneration)));
+		assertThat(this.springFacesIntegration.getRefreshGeneration(), is(not(previous.getRefreshGeneration())));
+	}
+
+	@Test
+	public void shouldNotifyRefreshListenersOnReload() throws Exception {
+		createSpringFacesIntegration();
+		SpringFacesRefreshListener listener = mock(SpringFacesRefreshListener.class);
+		this.springFacesIntegration.addRefreshListener(listener);
+		this.springFacesIntegration.addRefreshListener(listener);
+		this.springFacesIntegration.onApplicationEvent(mock(ContextRefreshedEvent.class));
+		verify(listener).onRefresh(this.springFacesIntegration);
+	}
+
+	@Test
+	public void shouldNotifyRefreshListenersWhenReplaced() throws Exception {
+		createSpringFacesIntegration();
+		SpringFacesIntegration previous = this.springFacesIntegration;
+		SpringFacesRefreshListener listener = mock(SpringFacesRefreshListener.class);
+		previous.addRefreshListener(listener);
+		createSpringFacesIntegration();
+		verify(listener).onRefresh(previous);
+	}
+
+	@Test
+	public void shouldNotNotifyRemovedRefreshListeners() throws Exception {
+		createSpringFacesIntegration();
+		SpringFacesRefreshListener listener = mock(SpringFacesRefreshListener.class);
+		this.springFacesIntegration.addRefreshListener(listener);
+		this.springFacesIntegration.removeRefreshListener(listener);
+		this.springFacesIntegration.onApplicationEvent(mock(ContextRefreshedEvent.class));
+		verifyZeroInteractions(listener);
+	}
+
 	@Test
 	public void shouldGetCurrentInstace() throws Exception {
 		createSpringFacesIntegration();
@@ -39,6 +39,8 @@ import org.springframework.springfaces.exceptionhandler.ObjectMessageExceptionHa
 import org.springframework.springfaces.exceptionhandler.SpringFacesExceptionHandlerSupport;
 import org.springframework.springfaces.expression.el.FacesStandardEvaluationContextPostProcessor;
 import org.springframework.springfaces.expression.spel.support.StandardEvaluationContextPostProcessorSupport;
+import org.springframework.springfaces.page.ui.PagedDataCache;
+import org.springframework.springfaces.selectitems.SelectItemsCache;
 import org.springframework.springfaces.validator.SpringFacesValidatorSupport;
 import org.w3c.dom.Element;
 
@@ -126,4 +128,20 @@ public class IntegrationBeanDefinitionParserTest {
 		assertThat(this.beanDefinitions.get(2).getBeanClassName(),
 				is(FacesStandardEvaluationContextPostProcessor.class.getName()));
 	}
+
+	@Test
+	public void shouldRegisterSelectItemsCache() throws Exception {
+		given(this.element.getAttribute("select-items-cache")).willReturn("true");
+		this.parser.parse(this.element, this.parserContext);
+		assertThat(this.beanDefinitions.size(), is(2));
+		assertThat(this.beanDefinitions.get(1).getBeanClassName(), is(SelectItemsCache.class.getName()));
+	}
+
+	@Test
+	public void shouldRegisterPagedDataCache() throws Exception {
+		given(this.element.getAttribute("paged-data-cache")).willReturn("true");
+		this.parser.parse(this.element, this.parserContext);
+		assertThat(this.beanDefinitions.size(), is(2));
+		assertThat(this.beanDefinitions.get(1).getBeanClassName(), is(PagedDataCache.class.getName()));
+	}
 }
@@ -30,6 +30,8 @@ import org.springframework.springfaces.exceptionhandler.ObjectMessageExceptionHa
 import org.springframework.springfaces.exceptionhandler.SpringFacesExceptionHandlerSupport;
 import org.springframework.springfaces.expression.el.FacesStandardEvaluationContextPostProcessor;
 import org.springframework.springfaces.expression.spel.support.StandardEvaluationContextPostProcessorSupport;
+import org.springframework.springfaces.page.ui.PagedDataCache;
+import org.springframework.springfaces.selectitems.SelectItemsCache;
 import org.springframework.springfaces.validator.SpringFacesValidatorSupport;
 
 /**
@@ -58,5 +60,7 @@ public class SpringFacesNamespaceHandlerTest {
 		assertThat(this.beanFactory.getBeansOfType(ObjectMessageExceptionHandler.class).size(), is(1));
 		assertThat(this.beanFactory.getBeansOfType(StandardEvaluationContextPostProcessorSupport.class).size(), is(1));
 		assertThat(this.beanFactory.getBeansOfType(FacesStandardEvaluationContextPostProcessor.class).size(), is(1));
+		assertThat(this.beanFactory.getBeansOfType(SelectItemsCache.class).size(), is(1));
+		assertThat(this.beanFactory.getBeansOfType(PagedDataCache.class).size(), is(1));
 	}
 }
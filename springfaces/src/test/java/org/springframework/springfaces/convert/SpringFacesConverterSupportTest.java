@@ -17,6 +17,7 @@ package org.springframework.springfaces.convert;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
@@ -38,6 +39,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.springfaces.FacesContextSetter;
 import org.springframework.springfaces.SpringFacesMocks;
+import org.springframework.springfaces.bean.ConditionalForClass;
 import org.springframework.springfaces.bean.ForClass;
 import org.springframework.web.context.support.StaticWebApplicationContext;
 
@@ -151,6 +153,34 @@ public class SpringFacesConverterSupportTest {
 		application.createConverter(Example.class);
 	}
 
+	@Test
+	public void shouldCreateConverterBySubclassFromSpring() throws Exception {
+		this.applicationContext.registerSingleton("bean", MockFacesConverterForClass.class);
+		Application application = createWrappedApplication();
+		Converter converter = application.createConverter(ExtendedExample.class);
+		assertThat(converter, is(instanceOf(SpringBeanFacesConverter.class)));
+		assertThat(application.createConverter(ExtendedExample.class), is(instanceOf(SpringBeanFacesConverter.class)));
+	}
+
+	@Test
+	public void shouldConsultConditionalConverterForEachCall() throws Exception {
+		this.applicationContext.registerSingleton("bean", MockConditionalConverter.class);
+		Application application = createWrappedApplication();
+		MockConditionalConverter bean = (MockConditionalConverter) this.applicationContext.getBean("bean");
+		assertThat(application.createConverter(Example.class), is(instanceOf(SpringBeanFacesConverter.class)));
+		bean.setForClass(false);
+		assertThat(application.createConverter(Example.class), is(nullValue()));
+	}
+
+	@Test
+	public void shouldRecollectConvertersOnRefresh() throws Exception {
+		Application application = createWrappedApplication();
+		assertThat(application.createConverter(Example.class), is(nullValue()));
+		this.applicationContext.registerSingleton("bean", MockFacesConverterForClass.class);
+		this.converterSupport.onApplicationEvent(new ContextRefreshedEvent(this.applicationContext));
+		assertThat(application.createConverter(Example.class), is(instanceOf(SpringBeanFacesConverter.class)));
+	}
+
 	private Object getWrapped(Converter converter) {
 		return ((FacesWrapper<?>) converter).getWrapped();
 	}
@@ -158,6 +188,9 @@ public class SpringFacesConverterSupportTest {
 	private static class Example {
 	}
 
+	private static class ExtendedExample extends Example {
+	}
+
 	private static class MockConverter implements org.springframework.springfaces.convert.Converter<Example> {
 		public Example getAsObject(FacesContext context, UIComponent component, String value) {
 			return null;
@@ -185,4 +218,17 @@ public class SpringFacesConverterSupportTest {
 	@ForClass(Example.class)
 	private static class MockFacesConverterForClass extends MockFacesConverter {
 	}
+
+	public static class MockConditionalConverter extends MockFacesConverter implements ConditionalForClass {
+
+		private boolean forClass = true;
+
+		public void setForClass(boolean forClass) {
+			this.forClass = forClass;
+		}
+
+		public boolean isForClass(Class<?> targetClass) {
+			return this.forClass;
+		}
+	}
 }
@@ -51,6 +51,7 @@ import org.mockito.stubbing.Answer;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.Ordered;
+import org.springframework.springfaces.exceptionhandler.SpringFacesExceptionHandlerSupport.HandlerStatistics;
 import org.springframework.springfaces.exceptionhandler.SpringFacesExceptionHandlerSupport.SpringFacesExceptionHandler;
 
 /**
@@ -70,6 +71,8 @@ public class SpringFacesExceptionHandlerSupportTest {
 	@Mock
 	private FacesContext facesContext;
 
+	private SpringFacesExceptionHandlerSupport support;
+
 	private SpringFacesExceptionHandler exceptionHandler;
 
 	private ExceptionHandler handler1 = mockExceptionHandler(1);
@@ -83,7 +86,7 @@ public class SpringFacesExceptionHandlerSupportTest {
 	@Before
 	public void setup() {
 		MockitoAnnotations.initMocks(this);
-		SpringFacesExceptionHandlerSupport support = new SpringFacesExceptionHandlerSupport();
+		this.support = new SpringFacesExceptionHandlerSupport();
 		ApplicationContext applicationContext = mock(ApplicationContext.class);
 		this.events = new ArrayList<ExceptionQueuedEvent>();
 		given(this.wrapped.getUnhandledExceptionQueuedEvents()).willReturn(this.events);
@@ -97,9 +100,10 @@ public class SpringFacesExceptionHandlerSupportTest {
 		beans.put("handler2", this.handler2);
 		beans.put("handler1", this.handler1);
 		given(applicationContext.getBeansOfType(ExceptionHandler.class, true, true)).willReturn(beans);
-		support.setApplicationContext(applicationContext);
-		support.onApplicationEvent(new ContextRefreshedEvent(applicationContext));
-		this.exceptionHandler = (SpringFacesExceptionHandler) support.newWrapper(ExceptionHandler.class, this.wrapped);
+		this.support.setApplicationContext(applicationContext);
+		this.support.onApplicationEvent(new ContextRefreshedEvent(applicationContext));
+		this.exceptionHandler = (SpringFacesExceptionHandler) this.support.newWrapper(ExceptionHandler.class,
+				this.wrapped);
 	}
 
 	private ExceptionHandler mockExceptionHandler(int order) {
@@ -182,4 +186,58 @@ public class SpringFacesExceptionHandlerSupportTest {
 		this.thrown.expectMessage("expected");
 		this.exceptionHandler.handle();
 	}
+
+	@Test
+	public void shouldOnlyCallHandlersForExceptionType() throws Exception {
+		SpringFacesExceptionHandlerSupport support = new SpringFacesExceptionHandlerSupport();
+		ApplicationContext applicationContext = mock(ApplicationContext.class);
+		Map<String, ExceptionHandler> beans = new LinkedHashMap<String, ExceptionHandler>();
+		IllegalStateExceptionHandler typedHandler = new IllegalStateExceptionHandler();
+		beans.put("typed", typedHandler);
+		beans.put("handler1", this.handler1);
+		given(applicationContext.getBeansOfType(ExceptionHandler.class, true, true)).willReturn(beans);
+		support.setApplicationContext(applicationContext);
+		support.onApplicationEvent(new ContextRefreshedEvent(applicationContext));
+		SpringFacesExceptionHandler exceptionHandler = (SpringFacesExceptionHandler) support.newWrapper(
+				ExceptionHandler.class, this.wrapped);
+		Exception exception1 = new IllegalArgumentException();
+		this.events.add(new ExceptionQueuedEvent(new ExceptionQueuedEventContext(this.facesContext, exception1)));
+		exceptionHandler.handle();
+		assertThat(typedHandler.getCalls(), is(0));
+		Exception exception2 = new IllegalStateException();
+		this.events.add(new ExceptionQueuedEvent(new ExceptionQueuedEventContext(this.facesContext, exception2)));
+		exceptionHandler.handle();
+		assertThat(typedHandler.getCalls(), is(1));
+	}
+
+	@Test
+	public void shouldCountHandlerCalls() throws Exception {
+		Exception exception = new Exception();
+		ExceptionQueuedEvent event = new ExceptionQueuedEvent(new ExceptionQueuedEventContext(this.facesContext,
+				exception));
+		this.events.add(event);
+		given(this.handler2.handle(exception, event)).willReturn(true);
+		this.exceptionHandler.handle();
+		Map<String, HandlerStatistics> statistics = this.support.getHandlerStatistics();
+		assertThat(new ArrayList<String>(statistics.keySet()).toString(), is("[handler1, handler2, handler3]"));
+		assertThat(statistics.get("handler1").getCallCount(), is(1L));
+		assertThat(statistics.get("handler1").getHandledCount(), is(0L));
+		assertThat(statistics.get("handler2").getCallCount(), is(1L));
+		assertThat(statistics.get("handler2").getHandledCount(), is(1L));
+		assertThat(statistics.get("handler3").getCallCount(), is(0L));
+	}
+
+	private static class IllegalStateExceptionHandler implements ExceptionHandler<IllegalStateException> {
+
+		private int calls;
+
+		public boolean handle(IllegalStateException exception, ExceptionQueuedEvent event) throws Exception {
+			this.calls++;
+			return true;
+		}
+
+		public int getCalls() {
+			return this.calls;
+		}
+	}
 }
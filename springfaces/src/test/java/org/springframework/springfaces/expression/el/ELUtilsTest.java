@@ -17,9 +17,12 @@ package org.springframework.springfaces.expression.el;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
@@ -32,6 +35,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.springframework.core.convert.Property;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.springfaces.model.LazyDataModelState;
+import org.springframework.util.FileCopyUtils;
 
 import com.sun.el.lang.ExpressionBuilder;
 import com.sun.faces.el.ELContextImpl;
@@ -44,7 +49,7 @@ import com.sun.faces.el.ELContextImpl;
 @SuppressWarnings("rawtypes")
 public class ELUtilsTest {
 
-	private Bean bean = new Bean();
+	private Object bean = new Bean();
 	private CompositeELResolver resolver;
 	private ELContextImpl context;
 
@@ -130,6 +135,48 @@ public class ELUtilsTest {
 		assertThat(property, is(nullValue()));
 	}
 
+	@Test
+	public void shouldCacheProperty() throws Exception {
+		ValueExpression valueExpression = newValueExpression("setOfLong", Object.class);
+		Property property = ELUtils.getProperty(valueExpression, this.context);
+		assertThat(ELUtils.getProperty(valueExpression, this.context), is(sameInstance(property)));
+		assertThat(ELUtils.getProperty(newValueExpression("setOfLong", Object.class), this.context),
+				is(sameInstance(property)));
+	}
+
+	@Test
+	public void shouldGetPropertyWhenBaseChanges() throws Exception {
+		ValueExpression valueExpression = newValueExpression("integer", Object.class);
+		assertThat(ELUtils.getProperty(valueExpression, this.context).getObjectType(),
+				is(equalTo((Class) Bean.class)));
+		this.bean = new ExtendedBean();
+		assertThat(ELUtils.getProperty(valueExpression, this.context).getObjectType(),
+				is(equalTo((Class) ExtendedBean.class)));
+	}
+
+	@Test
+	public void shouldGetPropertyForClassFromOtherClassLoader() throws Exception {
+		String className = LazyDataModelState.class.getName();
+		ClassLoader classLoader = new ChildFirstClassLoader(getClass().getClassLoader(), className);
+		Class<?> beanClass = classLoader.loadClass(className);
+		assertThat(beanClass, is(not(equalTo((Class) LazyDataModelState.class))));
+		this.bean = beanClass.newInstance();
+		ValueExpression valueExpression = newValueExpression("rowIndex", Object.class);
+		assertThat(ELUtils.getProperty(valueExpression, this.context).getObjectType(), is(equalTo((Class) beanClass)));
+		assertThat(ELUtils.getProperty(valueExpression, this.context).getObjectType(), is(equalTo((Class) beanClass)));
+	}
+
+	@Test
+	public void shouldKeepCachedPropertyForClassFromOtherClassLoaderAfterGarbageCollection() throws Exception {
+		String className = LazyDataModelState.class.getName();
+		ClassLoader classLoader = new ChildFirstClassLoader(getClass().getClassLoader(), className);
+		this.bean = classLoader.loadClass(className).newInstance();
+		ValueExpression valueExpression = newValueExpression("rowIndex", Object.class);
+		Property property = ELUtils.getProperty(valueExpression, this.context);
+		System.gc();
+		assertThat(ELUtils.getProperty(valueExpression, this.context), is(sameInstance(property)));
+	}
+
 	private ValueExpression newValueExpression(String propery, Class<?> expectedType) {
 		return new ExpressionBuilder("#{bean." + propery + "}", this.context).createValueExpression(expectedType);
 	}
@@ -144,6 +191,37 @@ public class ELUtilsTest {
 		}
 	}
 
+	/**
+	 * {@link ClassLoader} that defines a single class itself rather than delegating to the parent.
+	 */
+	private static class ChildFirstClassLoader extends ClassLoader {
+
+		private final String className;
+
+		public ChildFirstClassLoader(ClassLoader parent, String className) {
+			super(parent);
+			this.className = className;
+		}
+
+		@Override
+		protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (!this.className.equals(name)) {
+				return super.loadClass(name, resolve);
+			}
+			Class<?> loaded = findLoadedClass(name);
+			if (loaded == null) {
+				try {
+					byte[] bytes = FileCopyUtils.copyToByteArray(getParent().getResourceAsStream(
+							name.replace('.', '/') + ".class"));
+					loaded = defineClass(name, bytes, 0, bytes.length);
+				} catch (IOException e) {
+					throw new ClassNotFoundException(name, e);
+				}
+			}
+			return loaded;
+		}
+	}
+
 	public static class Bean {
 		private Integer integer;
 		private String[] arrayOfString;
@@ -193,6 +271,9 @@ public class ELUtilsTest {
 
 	}
 
+	public static class ExtendedBean extends Bean {
+	}
+
 	public static class NestedBean {
 		private Collection<Integer> collectionOfInteger;
 
@@ -18,6 +18,10 @@ package org.springframework.springfaces.message;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.Arrays;
 import java.util.List;
@@ -27,6 +31,9 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.context.support.StaticMessageSource;
 
 /**
@@ -121,6 +128,20 @@ public class DefaultObjectMessageSourceTest {
 		assertThat(actual, is("collection 1,2,3,4"));
 	}
 
+	@Test
+	public void shouldGetMessageWithExpandedArgumentsForEachObject() throws Exception {
+		String actual = this.messageSource.getMessage(new MappedArguments("x", NumberEnum.ONE, true), null, LOCALE);
+		assertThat(actual, is("a x b 1 c Yes"));
+		actual = this.messageSource.getMessage(new MappedArguments("y", NumberEnum.ONE, false), null, LOCALE);
+		assertThat(actual, is("a y b 1 c No"));
+	}
+
+	@Test
+	public void shouldGetMessageWithExpandedArgumentContainingReplacementCharacters() throws Exception {
+		String actual = this.messageSource.getMessage(new MappedArguments("$1\\", NumberEnum.ONE, true), null, LOCALE);
+		assertThat(actual, is("a $1\\ b 1 c Yes"));
+	}
+
 	@Test
 	public void shouldLeaveUnmachedParameters() throws Exception {
 		String actual = this.messageSource.getMessage(new MappedWithMissingParameters(), null, LOCALE);
@@ -135,12 +156,71 @@ public class DefaultObjectMessageSourceTest {
 		this.messageSource.getMessage(new NotMapped(), null, LOCALE);
 	}
 
+	@Test
+	public void shouldFindMessage() throws Exception {
+		assertThat(this.messageSource.findMessage(new Mapped(), null, LOCALE), is("mapped"));
+	}
+
+	@Test
+	public void shouldFindNullMessageIfNotMapped() throws Exception {
+		assertThat(this.messageSource.findMessage(new NotMapped(), null, LOCALE), is(nullValue()));
+	}
+
+	@Test
+	public void shouldCacheMissesUntilRefreshed() throws Exception {
+		assertThat(this.messageSource.findMessage(new NotMapped(), null, LOCALE), is(nullValue()));
+		addMessageToParent(INNER + "NotMapped", "notmapped");
+		assertThat(this.messageSource.findMessage(new NotMapped(), null, LOCALE), is(nullValue()));
+		this.messageSource.onApplicationEvent(new ContextRefreshedEvent(new StaticApplicationContext()));
+		assertThat(this.messageSource.findMessage(new NotMapped(), null, LOCALE), is("notmapped"));
+	}
+
+	@Test
+	public void shouldCacheMissesPerLocale() throws Exception {
+		assertThat(this.messageSource.findMessage(new NotMapped(), null, Locale.FRANCE), is(nullValue()));
+		addMessageToParent(INNER + "NotMapped", "notmapped");
+		assertThat(this.messageSource.findMessage(new NotMapped(), null, LOCALE), is("notmapped"));
+	}
+
 	@Test
 	public void shouldResolveMessageWithArguments() throws Exception {
 		String actual = this.messageSource.getMessage(new MappedWithArguments(), new Object[] { 1, 2 }, LOCALE);
 		assertThat(actual, is("mapped args 2 1"));
 	}
 
+	@Test
+	public void shouldFindMessages() throws Exception {
+		List<String> actual = this.messageSource.findMessages(
+				Arrays.asList(new Mapped(), null, new NotMapped(), new MappedArguments("x", NumberEnum.ONE, false)),
+				null, LOCALE);
+		assertThat(actual, is(Arrays.asList("mapped", null, null, "a x b 1 c No")));
+	}
+
+	@Test
+	public void shouldResolveEachCodeOnceWhenFindingMessages() throws Exception {
+		MessageSource parent = mock(MessageSource.class);
+		given(parent.getMessage(INNER + "Mapped", null, LOCALE)).willReturn("mapped");
+		this.messageSource.setParentMessageSource(parent);
+		List<String> actual = this.messageSource.findMessages(Arrays.asList(new Mapped(), new Mapped(), new Mapped()),
+				null, LOCALE);
+		assertThat(actual, is(Arrays.asList("mapped", "mapped", "mapped")));
+		verify(parent, times(1)).getMessage(INNER + "Mapped", null, LOCALE);
+	}
+
+	@Test
+	public void shouldUseOverriddenResolveMessageWhenFindingMessages() throws Exception {
+		this.messageSource = new DefaultObjectMessageSource(this.parent) {
+			@Override
+			protected String resolveMessage(Object object, Object[] args, Locale locale) {
+				return (object instanceof Mapped ? "custom " + ((Mapped) object).hashCode() : null);
+			}
+		};
+		Mapped mapped1 = new Mapped();
+		Mapped mapped2 = new Mapped();
+		List<String> actual = this.messageSource.findMessages(Arrays.asList(mapped1, mapped2), null, LOCALE);
+		assertThat(actual, is(Arrays.asList("custom " + mapped1.hashCode(), "custom " + mapped2.hashCode())));
+	}
+
 	static class NotMapped {
 	}
 
@@ -16,20 +16,36 @@
 package org.springframework.springfaces.message;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 
+import javax.faces.context.FacesContext;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.MessageSource;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.springfaces.FacesContextSetter;
+import org.springframework.springfaces.SpringFacesIntegration;
+import org.springframework.springfaces.SpringFacesMocks;
 
 /**
  * Tests for {@link ObjectMessageSourceUtils}.
@@ -67,6 +83,90 @@ public class ObjectMessageSourceUtilsTest {
 		verify(messageSource).getMessage(this.code, this.args, this.locale);
 	}
 
+	@Test
+	public void shouldShareDefaultObjectMessageSourceForSameMessageSource() throws Exception {
+		MessageSource messageSource = mock(MessageSource.class);
+		ObjectMessageSource objectMessageSource = ObjectMessageSourceUtils.getObjectMessageSource(messageSource);
+		assertThat(ObjectMessageSourceUtils.getObjectMessageSource(messageSource),
+				is(sameInstance(objectMessageSource)));
+		assertThat(ObjectMessageSourceUtils.getObjectMessageSource(mock(MessageSource.class)),
+				is(not(sameInstance(objectMessageSource))));
+	}
+
+	@Test
+	public void shouldCacheMissesInSharedDefaultObjectMessageSourceUntilRefreshed() throws Exception {
+		FacesContext facesContext = mock(FacesContext.class);
+		ApplicationContext applicationContext = mock(ApplicationContext.class);
+		SpringFacesMocks.setupSpringFacesIntegration(facesContext, applicationContext);
+		FacesContextSetter.setCurrentInstance(facesContext);
+		try {
+			MessageSource messageSource = mock(MessageSource.class);
+			ObjectMessageSource objectMessageSource = ObjectMessageSourceUtils.getObjectMessageSource(messageSource);
+			String code = Object.class.getName();
+			given(messageSource.getMessage(code, null, this.locale)).willThrow(new NoSuchMessageException(code));
+			assertThat(ObjectMessageSourceUtils.findMessage(objectMessageSource, new Object(), null, this.locale),
+					is(nullValue()));
+			willReturn("message").given(messageSource).getMessage(code, null, this.locale);
+			assertThat(ObjectMessageSourceUtils.findMessage(objectMessageSource, new Object(), null, this.locale),
+					is(nullValue()));
+			SpringFacesIntegration.getCurrentInstance(facesContext.getExternalContext()).onApplicationEvent(
+					new ContextRefreshedEvent(applicationContext));
+			assertThat(objectMessageSource.getMessage(new Object(), null, this.locale), is("message"));
+		} finally {
+			FacesContextSetter.setCurrentInstance(null);
+		}
+	}
+
+	@Test
+	public void shouldFindMessageFromObjectMessageSource() throws Exception {
+		ObjectMessageSource messageSource = mock(ObjectMessageSource.class);
+		Object object = new Object();
+		given(messageSource.getMessage(object, this.args, this.locale)).willReturn("message");
+		assertThat(ObjectMessageSourceUtils.findMessage(messageSource, object, this.args, this.locale), is("message"));
+	}
+
+	@Test
+	public void shouldFindNullMessageWhenObjectMessageSourceThrows() throws Exception {
+		ObjectMessageSource messageSource = mock(ObjectMessageSource.class);
+		Object object = new Object();
+		given(messageSource.getMessage(object, this.args, this.locale)).willThrow(
+				new NoSuchObjectMessageException(object, this.locale));
+		assertThat(ObjectMessageSourceUtils.findMessage(messageSource, object, this.args, this.locale),
+				is(nullValue()));
+	}
+
+	@Test
+	public void shouldFindMessageWithoutExceptionFromDefaultObjectMessageSource() throws Exception {
+		DefaultObjectMessageSource messageSource = spy(new DefaultObjectMessageSource(new StaticMessageSource()));
+		Object object = new Object();
+		assertThat(ObjectMessageSourceUtils.findMessage(messageSource, object, this.args, this.locale),
+				is(nullValue()));
+		verify(messageSource, never()).getMessage(object, this.args, this.locale);
+	}
+
+	@Test
+	public void shouldFindMessagesFromObjectMessageSource() throws Exception {
+		ObjectMessageSource messageSource = mock(ObjectMessageSource.class);
+		Object found = new Object();
+		Object missing = new Object();
+		given(messageSource.getMessage(found, this.args, this.locale)).willReturn("message");
+		given(messageSource.getMessage(missing, this.args, this.locale)).willThrow(
+				new NoSuchObjectMessageException(missing, this.locale));
+		List<String> messages = ObjectMessageSourceUtils.findMessages(messageSource, Arrays.asList(found, missing),
+				this.args, this.locale);
+		assertThat(messages, is(Arrays.asList("message", null)));
+	}
+
+	@Test
+	public void shouldFindMessagesWithoutExceptionFromDefaultObjectMessageSource() throws Exception {
+		DefaultObjectMessageSource messageSource = spy(new DefaultObjectMessageSource(new StaticMessageSource()));
+		Object object = new Object();
+		List<String> messages = ObjectMessageSourceUtils.findMessages(messageSource,
+				Collections.singletonList(object), this.args, this.locale);
+		assertThat(messages, is(Collections.<String> singletonList(null)));
+		verify(messageSource, never()).getMessage(object, this.args, this.locale);
+	}
+
 	@Test
 	public void shouldUseMessageSourceBean() throws Exception {
 		ApplicationContext applicationContext = mock(ApplicationContext.class);
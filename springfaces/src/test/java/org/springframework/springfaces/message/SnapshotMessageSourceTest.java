@@ -0,0 +1,153 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.message;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Locale;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.context.support.StaticMessageSource;
+
+/**
+ * Tests for {@link SnapshotMessageSource}.
+ * 
+ * @author Phillip Webb
+ */
+public class SnapshotMessageSourceTest {
+
+	private static final String BASENAME = "classpath:org/springframework/springfaces/message/snapshot";
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private SnapshotMessageSource messageSource;
+
+	@Before
+	public void setup() {
+		this.messageSource = new SnapshotMessageSource();
+		this.messageSource.setBasename(BASENAME);
+		this.messageSource.setFallbackToSystemLocale(false);
+	}
+
+	@Test
+	public void shouldGetMessage() throws Exception {
+		assertThat(this.messageSource.getMessage("greeting", null, Locale.UK), is("Hello"));
+	}
+
+	@Test
+	public void shouldGetMessageWithArguments() throws Exception {
+		assertThat(this.messageSource.getMessage("welcome", new Object[] { "Phil" }, Locale.UK), is("Welcome Phil"));
+	}
+
+	@Test
+	public void shouldLeavePlaceholdersWhenNoArguments() throws Exception {
+		assertThat(this.messageSource.getMessage("welcome", null, Locale.UK), is("Welcome {0}"));
+	}
+
+	@Test
+	public void shouldUseMostSpecificLocale() throws Exception {
+		assertThat(this.messageSource.getMessage("greeting", null, Locale.FRENCH), is("Bonjour"));
+		assertThat(this.messageSource.getMessage("greeting", null, Locale.CANADA_FRENCH), is("Allo"));
+		assertThat(this.messageSource.getMessage("welcome", new Object[] { "Phil" }, Locale.CANADA_FRENCH),
+				is("Bienvenue Phil"));
+		assertThat(this.messageSource.getMessage("onlydefault", null, Locale.CANADA_FRENCH), is("Default"));
+	}
+
+	@Test
+	public void shouldSearchBasenamesInOrder() throws Exception {
+		this.messageSource.setBasenames(new String[] { BASENAME, BASENAME + "-extra" });
+		assertThat(this.messageSource.getMessage("greeting", null, Locale.UK), is("Hello"));
+		assertThat(this.messageSource.getMessage("extra", null, Locale.UK), is("Extra"));
+	}
+
+	@Test
+	public void shouldThrowOnMissingMessage() throws Exception {
+		this.thrown.expect(NoSuchMessageException.class);
+		this.messageSource.getMessage("missing", null, Locale.UK);
+	}
+
+	@Test
+	public void shouldUseParentForMissingMessage() throws Exception {
+		StaticMessageSource parent = new StaticMessageSource();
+		parent.addMessage("missing", Locale.UK, "Parent");
+		this.messageSource.setParentMessageSource(parent);
+		assertThat(this.messageSource.getMessage("missing", null, Locale.UK), is("Parent"));
+	}
+
+	@Test
+	public void shouldGetObjectMessage() throws Exception {
+		assertThat(this.messageSource.getMessage(new Named(), null, Locale.UK), is("Named Phil"));
+	}
+
+	@Test
+	public void shouldFindNullObjectMessageIfNotMapped() throws Exception {
+		assertThat(this.messageSource.findMessage(new Object(), null, Locale.UK), is(nullValue()));
+	}
+
+	@Test
+	public void shouldNotSeeChangesUntilRefreshed() throws Exception {
+		File file = this.temporaryFolder.newFile("messages.properties");
+		write(file, "greeting=One");
+		this.messageSource.setBasename(file.toURI().toString().replace(".properties", ""));
+		assertThat(this.messageSource.getMessage("greeting", null, Locale.UK), is("One"));
+		write(file, "greeting=Two");
+		assertThat(this.messageSource.getMessage("greeting", null, Locale.UK), is("One"));
+		this.messageSource.onApplicationEvent(new ContextRefreshedEvent(new StaticApplicationContext()));
+		assertThat(this.messageSource.getMessage("greeting", null, Locale.UK), is("Two"));
+	}
+
+	@Test
+	public void shouldReadUsingDefaultEncoding() throws Exception {
+		File file = this.temporaryFolder.newFile("encoded.properties");
+		write(file, "greeting=\u00e9t\u00e9");
+		this.messageSource.setBasename(file.toURI().toString().replace(".properties", ""));
+		this.messageSource.setDefaultEncoding("UTF-8");
+		assertThat(this.messageSource.getMessage("greeting", null, Locale.UK), is("\u00e9t\u00e9"));
+	}
+
+	private void write(File file, String content) throws IOException {
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			writer.write(content);
+		} finally {
+			writer.close();
+		}
+	}
+
+	public static class Named {
+		public String getName() {
+			return "Phil";
+		}
+	}
+}
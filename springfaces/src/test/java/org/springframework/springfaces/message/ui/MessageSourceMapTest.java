@@ -17,18 +17,25 @@ package org.springframework.springfaces.message.ui;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -36,8 +43,10 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatcher;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.MessageSource;
 import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.support.StaticMessageSource;
 import org.springframework.springfaces.message.DefaultObjectMessageSource;
 import org.springframework.springfaces.message.NoSuchObjectMessageException;
@@ -245,6 +254,78 @@ public class MessageSourceMapTest {
 		assertThat(value, is(String.class));
 	}
 
+	@Test
+	public void shouldReuseCompiledPrefixCodes() throws Exception {
+		MessageSourceMap map = new TestMessageSourceMap(new StaticMessageSource(), new String[] { "a.", "b." });
+		MessageSourceResolvable value1 = (MessageSourceResolvable) map.get("x");
+		MessageSourceResolvable value2 = (MessageSourceResolvable) map.get("x", "y");
+		assertThat(value2.getCodes(), is(sameInstance(value1.getCodes())));
+	}
+
+	@Test
+	public void shouldCountPlaceholdersOncePerLocale() throws Exception {
+		MessageSource messageSource = mock(MessageSource.class);
+		given(messageSource.getMessage(any(MessageSourceResolvable.class), nullLocale())).willReturn("test {0}");
+		TestMessageSourceMap map = new TestMessageSourceMap(messageSource);
+		map.setReturnStringWhenPossible(true);
+		map.get("test", "x");
+		map.get("test", "y");
+		verify(messageSource, times(1)).getMessage(argThat(new NoArgumentsMatcher()), nullLocale());
+		verify(messageSource, times(2)).getMessage(argThat(not(new NoArgumentsMatcher())), nullLocale());
+	}
+
+	@Test
+	public void shouldRecountPlaceholdersWhenLocaleChanges() throws Exception {
+		StaticMessageSource messageSource = new StaticMessageSource();
+		messageSource.addMessage("test", Locale.UK, "test {0}");
+		messageSource.addMessage("test", Locale.FRANCE, "test {0} {1}");
+		final AtomicReference<Locale> locale = new AtomicReference<Locale>(Locale.UK);
+		TestMessageSourceMap map = new TestMessageSourceMap(messageSource) {
+			@Override
+			protected Locale getLocale() {
+				return locale.get();
+			}
+		};
+		map.setReturnStringWhenPossible(true);
+		assertThat(map.get("test", "x"), is((Object) "test x"));
+		locale.set(Locale.FRANCE);
+		assertThat(map.get("test", "x"), is(not(instanceOf(String.class))));
+		assertThat(map.get("test", "x", "y"), is((Object) "test x y"));
+	}
+
+	@Test
+	public void shouldCountPlaceholdersOnceForEachLocale() throws Exception {
+		MessageSource messageSource = mock(MessageSource.class);
+		given(messageSource.getMessage(any(MessageSourceResolvable.class), any(Locale.class))).willReturn("test {0}");
+		final AtomicReference<Locale> locale = new AtomicReference<Locale>(Locale.UK);
+		TestMessageSourceMap map = new TestMessageSourceMap(messageSource) {
+			@Override
+			protected Locale getLocale() {
+				return locale.get();
+			}
+		};
+		map.setReturnStringWhenPossible(true);
+		map.get("test", "x");
+		locale.set(Locale.FRANCE);
+		map.get("test", "x");
+		locale.set(Locale.UK);
+		map.get("test", "x");
+		verify(messageSource, times(1)).getMessage(argThat(new NoArgumentsMatcher()), eq(Locale.UK));
+		verify(messageSource, times(1)).getMessage(argThat(new NoArgumentsMatcher()), eq(Locale.FRANCE));
+	}
+
+	@Test
+	public void shouldRecountPlaceholdersWhenRefreshed() throws Exception {
+		MessageSource messageSource = mock(MessageSource.class);
+		given(messageSource.getMessage(any(MessageSourceResolvable.class), nullLocale())).willReturn("test {0}");
+		TestMessageSourceMap map = new TestMessageSourceMap(messageSource);
+		map.setReturnStringWhenPossible(true);
+		map.get("test", "x");
+		map.onApplicationEvent(new ContextRefreshedEvent(mock(ApplicationContext.class)));
+		map.get("test", "x");
+		verify(messageSource, times(2)).getMessage(argThat(new NoArgumentsMatcher()), nullLocale());
+	}
+
 	private Locale nullLocale() {
 		return (Locale) isNull();
 	}
@@ -297,6 +378,14 @@ public class MessageSourceMapTest {
 		}
 	}
 
+	private static class NoArgumentsMatcher extends ArgumentMatcher<MessageSourceResolvable> {
+
+		@Override
+		public boolean matches(Object argument) {
+			return ((MessageSourceResolvable) argument).getArguments().length == 0;
+		}
+	}
+
 	static class ObjectResolvable {
 		@Override
 		public String toString() {
@@ -26,6 +26,7 @@ import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
@@ -52,7 +53,9 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.context.MessageSource;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.springfaces.FacesContextSetter;
+import org.springframework.springfaces.SpringFacesIntegration;
 import org.springframework.springfaces.SpringFacesMocks;
 import org.springframework.web.context.WebApplicationContext;
 
@@ -249,6 +252,94 @@ public class UIMessageSourceTest {
 		assertCodes("test", new String[] { "pages.example.page.test", "test" });
 	}
 
+	@Test
+	public void shouldCacheMessagesWhenInProduction() throws Exception {
+		this.uiMessageSource.setCacheMessages(true);
+		given(this.viewRoot.getViewId()).willReturn("/WEB-INF/pages/example/cached.xhtml");
+		given(this.facesContext.isProjectStage(ProjectStage.Production)).willReturn(true);
+		given(this.applicationContext.getMessage((MessageSourceResolvable) any(), (Locale) any())).willReturn("test");
+		assertThat(callSetParent().get("test").toString(), is("test"));
+		assertThat(callSetParent().get("test").toString(), is("test"));
+		verify(this.applicationContext, times(1)).getMessage((MessageSourceResolvable) any(), (Locale) any());
+	}
+
+	@Test
+	public void shouldCacheMessagesPerLocale() throws Exception {
+		this.uiMessageSource.setCacheMessages(true);
+		given(this.viewRoot.getViewId()).willReturn("/WEB-INF/pages/example/cached.xhtml");
+		given(this.facesContext.isProjectStage(ProjectStage.Production)).willReturn(true);
+		given(this.applicationContext.getMessage((MessageSourceResolvable) any(), eq(Locale.UK))).willReturn("uk");
+		given(this.applicationContext.getMessage((MessageSourceResolvable) any(), eq(Locale.FRANCE))).willReturn("fr");
+		given(this.viewRoot.getLocale()).willReturn(Locale.UK);
+		assertThat(callSetParent().get("test").toString(), is("uk"));
+		given(this.viewRoot.getLocale()).willReturn(Locale.FRANCE);
+		assertThat(callSetParent().get("test").toString(), is("fr"));
+		given(this.viewRoot.getLocale()).willReturn(Locale.UK);
+		assertThat(callSetParent().get("test").toString(), is("uk"));
+		verify(this.applicationContext, times(1)).getMessage((MessageSourceResolvable) any(), eq(Locale.UK));
+	}
+
+	@Test
+	public void shouldNotCacheMessagesWhenNotInProduction() throws Exception {
+		this.uiMessageSource.setCacheMessages(true);
+		given(this.viewRoot.getViewId()).willReturn("/WEB-INF/pages/example/cached.xhtml");
+		given(this.facesContext.isProjectStage(ProjectStage.Production)).willReturn(false);
+		given(this.applicationContext.getMessage((MessageSourceResolvable) any(), (Locale) any())).willReturn("test");
+		callSetParent().get("test").toString();
+		callSetParent().get("test").toString();
+		verify(this.applicationContext, times(2)).getMessage((MessageSourceResolvable) any(), (Locale) any());
+	}
+
+	@Test
+	public void shouldNotCacheMessagesByDefault() throws Exception {
+		given(this.viewRoot.getViewId()).willReturn("/WEB-INF/pages/example/cached.xhtml");
+		given(this.facesContext.isProjectStage(ProjectStage.Production)).willReturn(true);
+		given(this.applicationContext.getMessage((MessageSourceResolvable) any(), (Locale) any())).willReturn("test");
+		assertThat(this.uiMessageSource.isCacheMessages(), is(false));
+		callSetParent().get("test").toString();
+		callSetParent().get("test").toString();
+		verify(this.applicationContext, times(2)).getMessage((MessageSourceResolvable) any(), (Locale) any());
+	}
+
+	@Test
+	public void shouldClearCachedMessagesOnRefresh() throws Exception {
+		this.uiMessageSource.setCacheMessages(true);
+		given(this.viewRoot.getViewId()).willReturn("/WEB-INF/pages/example/cached.xhtml");
+		given(this.facesContext.isProjectStage(ProjectStage.Production)).willReturn(true);
+		given(this.applicationContext.getMessage((MessageSourceResolvable) any(), (Locale) any())).willReturn("test");
+		callSetParent().get("test").toString();
+		SpringFacesIntegration.getCurrentInstance(this.facesContext.getExternalContext()).onApplicationEvent(
+				new ContextRefreshedEvent(this.applicationContext));
+		callSetParent().get("test").toString();
+		verify(this.applicationContext, times(2)).getMessage((MessageSourceResolvable) any(), (Locale) any());
+	}
+
+	@Test
+	public void shouldHoldCachedMessagesInApplicationScope() throws Exception {
+		this.uiMessageSource.setCacheMessages(true);
+		given(this.viewRoot.getViewId()).willReturn("/WEB-INF/pages/example/cached.xhtml");
+		given(this.facesContext.isProjectStage(ProjectStage.Production)).willReturn(true);
+		given(this.applicationContext.getMessage((MessageSourceResolvable) any(), (Locale) any())).willReturn("test");
+		Map<String, Object> otherApplicationMap = new HashMap<String, Object>(this.facesContext.getExternalContext()
+				.getApplicationMap());
+		callSetParent().get("test").toString();
+		callSetParent().get("test").toString();
+		given(this.facesContext.getExternalContext().getApplicationMap()).willReturn(otherApplicationMap);
+		callSetParent().get("test").toString();
+		verify(this.applicationContext, times(2)).getMessage((MessageSourceResolvable) any(), (Locale) any());
+	}
+
+	@Test
+	public void shouldNotCacheMessagesWithArguments() throws Exception {
+		this.uiMessageSource.setCacheMessages(true);
+		given(this.viewRoot.getViewId()).willReturn("/WEB-INF/pages/example/cached.xhtml");
+		given(this.facesContext.isProjectStage(ProjectStage.Production)).willReturn(true);
+		given(this.applicationContext.getMessage((MessageSourceResolvable) any(), (Locale) any())).willReturn("test");
+		callSetParent().get("test", "a").toString();
+		callSetParent().get("test", "a").toString();
+		verify(this.applicationContext, times(2)).getMessage((MessageSourceResolvable) any(), (Locale) any());
+	}
+
 	private MessageSourceMap callSetParent() throws IOException {
 		this.uiMessageSource.setParent(this.parent);
 		MessageSourceMap msg = (MessageSourceMap) this.requestMap.get("msg");
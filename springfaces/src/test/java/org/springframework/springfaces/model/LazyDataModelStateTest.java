@@ -16,8 +16,14 @@
 package org.springframework.springfaces.model;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
 import org.junit.Test;
 
 /**
@@ -39,4 +45,50 @@ public class LazyDataModelStateTest {
 		state.setRowIndex(10);
 		assertThat(state.getRowIndex(), is(10));
 	}
+
+	@Test
+	public void shouldSerialize() throws Exception {
+		LazyDataModelState state = new LazyDataModelState();
+		state.setRowIndex(10);
+		state.setLastLoadedTotalRowCount(100L);
+		LazyDataModelState copy = serializeAndDeserialize(state);
+		assertThat(copy.getRowIndex(), is(10));
+		assertThat(copy.getLastLoadedTotalRowCount(), is(100L));
+	}
+
+	@Test
+	public void shouldSerializeDefaults() throws Exception {
+		LazyDataModelState copy = serializeAndDeserialize(new LazyDataModelState());
+		assertThat(copy.getRowIndex(), is(-1));
+		assertThat(copy.getLastLoadedTotalRowCount(), is(nullValue()));
+	}
+
+	@Test
+	public void shouldSerializeSubclassFields() throws Exception {
+		ExtendedLazyDataModelState state = new ExtendedLazyDataModelState("extra");
+		state.setRowIndex(10);
+		ExtendedLazyDataModelState copy = (ExtendedLazyDataModelState) serializeAndDeserialize(state);
+		assertThat(copy.getRowIndex(), is(10));
+		assertThat(copy.extra, is("extra"));
+	}
+
+	private LazyDataModelState serializeAndDeserialize(LazyDataModelState state) throws Exception {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		ObjectOutputStream oos = new ObjectOutputStream(bos);
+		oos.writeObject(state);
+		oos.flush();
+		ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()));
+		return (LazyDataModelState) ois.readObject();
+	}
+
+	private static class ExtendedLazyDataModelState extends LazyDataModelState {
+
+		private static final long serialVersionUID = 1L;
+
+		private String extra;
+
+		public ExtendedLazyDataModelState(String extra) {
+			this.extra = extra;
+		}
+	}
 }
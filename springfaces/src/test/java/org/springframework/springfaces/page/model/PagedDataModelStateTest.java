@@ -19,6 +19,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertThat;
 
 import java.io.ByteArrayInputStream;
@@ -78,6 +79,59 @@ public class PagedDataModelStateTest {
 		assertThat(object, is(instanceOf(PagedDataModelState.class)));
 	}
 
+	@Test
+	public void shouldSerializeDefaults() throws Exception {
+		PagedDataModelState copy = serializeAndDeserialize(this.state);
+		assertThat(copy.getPageSize(), is(10));
+		assertThat(copy.getRowIndex(), is(-1));
+		assertThat(copy.isSortAscending(), is(true));
+		assertThat(copy.getSortColumn(), is(nullValue()));
+		assertThat(copy.getFilters().isEmpty(), is(true));
+		assertThat(copy.getCachedTotalRowCount(Long.MAX_VALUE), is(nullValue()));
+		assertThat(copy.getLastRowKey(0), is(nullValue()));
+	}
+
+	@Test
+	public void shouldSerializeAllValues() throws Exception {
+		this.state.setRowIndex(300);
+		this.state.setLastLoadedTotalRowCount(1000L);
+		this.state.setPageSize(50);
+		this.state.setSortAscending(false);
+		this.state.setSortColumn("column");
+		this.state.setFilters(Collections.singletonMap("a", "b"));
+		this.state.setCachedTotalRowCount(1000L);
+		this.state.setLastRowKey(5, "key");
+		PagedDataModelState copy = serializeAndDeserialize(this.state);
+		assertThat(copy.getRowIndex(), is(300));
+		assertThat(copy.getLastLoadedTotalRowCount(), is(1000L));
+		assertThat(copy.getPageSize(), is(50));
+		assertThat(copy.isSortAscending(), is(false));
+		assertThat(copy.getSortColumn(), is("column"));
+		assertThat(copy.getFilters(), is(equalTo(Collections.singletonMap("a", "b"))));
+		assertThat(copy.getCachedTotalRowCount(Long.MAX_VALUE), is(1000L));
+		assertThat(copy.getLastRowKey(5), is(equalTo((Object) "key")));
+	}
+
+	@Test
+	public void shouldSerializeCompactly() throws Exception {
+		this.state.setRowIndex(20);
+		byte[] bytes = serialize(this.state);
+		assertThat(bytes.length, is(lessThan(200)));
+	}
+
+	private byte[] serialize(PagedDataModelState state) throws Exception {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		ObjectOutputStream oos = new ObjectOutputStream(bos);
+		oos.writeObject(state);
+		oos.flush();
+		return bos.toByteArray();
+	}
+
+	private PagedDataModelState serializeAndDeserialize(PagedDataModelState state) throws Exception {
+		ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(serialize(state)));
+		return (PagedDataModelState) ois.readObject();
+	}
+
 	@Test
 	public void shouldGetSetPageSize() throws Exception {
 		int pageSize = 100;
@@ -113,4 +167,56 @@ public class PagedDataModelStateTest {
 		assertThat(this.state.getFilters(), is(equalTo(filters)));
 	}
 
+	@Test
+	public void shouldGetCachedTotalRowCount() throws Exception {
+		this.state.setCachedTotalRowCount(100L);
+		assertThat(this.state.getCachedTotalRowCount(60000), is(100L));
+	}
+
+	@Test
+	public void shouldNotGetExpiredCachedTotalRowCount() throws Exception {
+		this.state.setCachedTotalRowCount(100L);
+		assertThat(this.state.getCachedTotalRowCount(0), is(nullValue()));
+	}
+
+	@Test
+	public void shouldNotGetClearedCachedTotalRowCount() throws Exception {
+		this.state.setCachedTotalRowCount(100L);
+		this.state.setCachedTotalRowCount(null);
+		assertThat(this.state.getCachedTotalRowCount(60000), is(nullValue()));
+	}
+
+	@Test
+	public void shouldGetSetLastRowKey() throws Exception {
+		assertThat(this.state.getLastRowKey(0), is(nullValue()));
+		this.state.setLastRowKey(0, "a");
+		assertThat(this.state.getLastRowKey(0), is(equalTo((Object) "a")));
+		this.state.setLastRowKey(0, null);
+		assertThat(this.state.getLastRowKey(0), is(nullValue()));
+	}
+
+	@Test
+	public void shouldOnlyKeepLastRowKeysNearestToMostRecentPage() throws Exception {
+		for (int i = 0; i < 20; i++) {
+			this.state.setLastRowKey(i, "k" + i);
+		}
+		assertThat(this.state.getLastRowKey(0), is(nullValue()));
+		assertThat(this.state.getLastRowKey(11), is(nullValue()));
+		assertThat(this.state.getLastRowKey(12), is(equalTo((Object) "k12")));
+		assertThat(this.state.getLastRowKey(19), is(equalTo((Object) "k19")));
+		this.state.setLastRowKey(5, "k5");
+		assertThat(this.state.getLastRowKey(5), is(equalTo((Object) "k5")));
+		assertThat(this.state.getLastRowKey(19), is(nullValue()));
+		assertThat(this.state.getLastRowKey(18), is(equalTo((Object) "k18")));
+	}
+
+	@Test
+	public void shouldClearLastRowKeys() throws Exception {
+		this.state.setLastRowKey(0, "a");
+		this.state.setLastRowKey(1, "b");
+		this.state.clearLastRowKeys();
+		assertThat(this.state.getLastRowKey(0), is(nullValue()));
+		assertThat(this.state.getLastRowKey(1), is(nullValue()));
+	}
+
 }
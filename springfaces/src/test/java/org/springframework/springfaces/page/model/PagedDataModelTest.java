@@ -16,6 +16,7 @@
 package org.springframework.springfaces.page.model;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 import java.util.Collections;
@@ -39,9 +40,12 @@ public class PagedDataModelTest extends LazyDataModelTest {
 
 	private boolean reset;
 
+	private PagedDataModelState state;
+
 	@Override
 	protected LazyDataModelState newLazyDataModelState() {
-		return new PagedDataModelState(10);
+		this.state = new PagedDataModelState(10);
+		return this.state;
 	}
 
 	@Override
@@ -151,4 +155,32 @@ public class PagedDataModelTest extends LazyDataModelTest {
 		assertThat(getDataModel().getRowIndex(), is(-1));
 		assertThat(this.reset, is(true));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void shouldClearCachedTotalRowCountOnFiltersChange() throws Exception {
+		this.state.setCachedTotalRowCount(100L);
+		getDataModel().setFilters(Collections.singletonMap("a", "b"));
+		assertThat(this.state.getCachedTotalRowCount(Long.MAX_VALUE), is(nullValue()));
+	}
+
+	@Test
+	public void shouldClearLastRowKeysOnSortChange() throws Exception {
+		this.state.setLastRowKey(0, "a");
+		getDataModel().setSortColumn("b");
+		assertThat(this.state.getLastRowKey(0), is(nullValue()));
+	}
+
+	@Test
+	public void shouldClearCachedTotalRowCount() throws Exception {
+		this.state.setCachedTotalRowCount(100L);
+		getDataModel().clearCachedTotalRowCount();
+		assertThat(this.state.getCachedTotalRowCount(Long.MAX_VALUE), is(nullValue()));
+	}
+
+	@Test
+	public void shouldNotClearCachedTotalRowCountWhenClearingCachedRowCount() throws Exception {
+		this.state.setCachedTotalRowCount(100L);
+		getDataModel().clearCachedRowCount(10);
+		assertThat(this.state.getCachedTotalRowCount(Long.MAX_VALUE), is(100L));
+	}
+}
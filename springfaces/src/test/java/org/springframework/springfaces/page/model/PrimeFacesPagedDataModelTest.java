@@ -16,6 +16,7 @@
 package org.springframework.springfaces.page.model;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
@@ -35,6 +36,7 @@ import org.junit.rules.ExpectedException;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.primefaces.model.SortOrder;
+import org.springframework.springfaces.model.LazyDataLoader;
 
 /**
  * Tests for {@link PrimeFacesPagedDataModel}
@@ -229,4 +231,19 @@ public class PrimeFacesPagedDataModelTest {
 		verify(this.delegate).setFilters(filters);
 		verify(this.delegate).clearCachedRowCount(first);
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldKeepCachedTotalRowCountWhenLoadChangesPage() throws Exception {
+		PagedDataModelState state = new PagedDataModelState(10);
+		state.setCachedTotalRowCount(100L);
+		PagedDataModel<Object> delegate = new PagedDataModel<Object>(mock(LazyDataLoader.class), state);
+		PrimeFacesPagedDataModel<Object> dataModel = new PrimeFacesPagedDataModel<Object>(delegate);
+		Map<String, String> filters = Collections.emptyMap();
+		dataModel.load(10, 10, null, SortOrder.UNSORTED, filters);
+		dataModel.load(20, 10, null, SortOrder.UNSORTED, filters);
+		assertThat(state.getCachedTotalRowCount(Long.MAX_VALUE), is(100L));
+		dataModel.load(30, 10, null, SortOrder.UNSORTED, Collections.singletonMap("a", "b"));
+		assertThat(state.getCachedTotalRowCount(Long.MAX_VALUE), is(nullValue()));
+	}
 }
@@ -17,6 +17,7 @@ package org.springframework.springfaces.page.ui;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 import java.util.Collections;
@@ -92,4 +93,18 @@ public class PageRequestAdapterTest {
 		this.state.setFilters(filters);
 		assertThat(this.adapter.getFilters(), is(equalTo(filters)));
 	}
+
+	@Test
+	public void shouldGetLastRowKeyFromPreviousPage() throws Exception {
+		this.state.setLastRowKey(0, "a");
+		this.state.setLastRowKey(1, "b");
+		this.state.setRowIndex(0);
+		assertThat(this.adapter.getLastRowKey(), is(nullValue()));
+		this.state.setRowIndex(3);
+		assertThat(this.adapter.getLastRowKey(), is(equalTo((Object) "a")));
+		this.state.setRowIndex(6);
+		assertThat(this.adapter.getLastRowKey(), is(equalTo((Object) "b")));
+		this.state.setRowIndex(9);
+		assertThat(this.adapter.getLastRowKey(), is(nullValue()));
+	}
 }
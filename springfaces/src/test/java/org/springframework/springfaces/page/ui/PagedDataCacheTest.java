@@ -0,0 +1,182 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.page.ui;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Collections;
+import java.util.Locale;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.springfaces.model.DataModelRowSet;
+import org.springframework.springfaces.model.DefaultDataModelRowSet;
+import org.springframework.springfaces.page.model.PagedDataModelState;
+
+/**
+ * Tests for {@link PagedDataCache}.
+ * 
+ * @author Phillip Webb
+ */
+public class PagedDataCacheTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private PagedDataCache cache = new PagedDataCache();
+
+	private PagedDataModelState state = new PagedDataModelState(10);
+
+	private PageRequest pageRequest = new PageRequestAdapter(this.state);
+
+	private DataModelRowSet<String> rows = new DefaultDataModelRowSet<String>(Collections.singletonList("a"));
+
+	@Test
+	public void shouldGetNullWhenNotCached() throws Exception {
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK), is(nullValue()));
+	}
+
+	@Test
+	public void shouldPutAndGet() throws Exception {
+		this.cache.put("key", this.pageRequest, Locale.UK, this.rows);
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK),
+				is(sameInstance((Object) this.rows)));
+	}
+
+	@Test
+	public void shouldKeyByPageRequest() throws Exception {
+		this.cache.put("key", this.pageRequest, Locale.UK, this.rows);
+		this.state.setRowIndex(10);
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK), is(nullValue()));
+		this.state.setRowIndex(0);
+		this.state.setSortColumn("column");
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK), is(nullValue()));
+		this.state.setSortColumn(null);
+		this.state.setFilters(Collections.singletonMap("a", "b"));
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK), is(nullValue()));
+	}
+
+	@Test
+	public void shouldKeyByLocaleAndCacheKey() throws Exception {
+		this.cache.put("key", this.pageRequest, Locale.UK, this.rows);
+		assertThat(this.cache.get("key", this.pageRequest, Locale.FRANCE), is(nullValue()));
+		assertThat(this.cache.get("other", this.pageRequest, Locale.UK), is(nullValue()));
+	}
+
+	@Test
+	public void shouldExpireAfterTimeToLive() throws Exception {
+		this.cache.setTimeToLive(1);
+		this.cache.put("key", this.pageRequest, Locale.UK, this.rows);
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK),
+				is(sameInstance((Object) this.rows)));
+		Thread.sleep(1100);
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK), is(nullValue()));
+	}
+
+	@Test
+	public void shouldNeedNonNegativeTimeToLive() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("TimeToLive must not be negative");
+		this.cache.setTimeToLive(-1);
+	}
+
+	@Test
+	public void shouldEvict() throws Exception {
+		this.cache.put("key", this.pageRequest, Locale.UK, this.rows);
+		this.cache.put("other", this.pageRequest, Locale.UK, this.rows);
+		this.cache.evict("key");
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK), is(nullValue()));
+		assertThat(this.cache.get("other", this.pageRequest, Locale.UK),
+				is(sameInstance((Object) this.rows)));
+		this.cache.put("key", this.pageRequest, Locale.UK, this.rows);
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK),
+				is(sameInstance((Object) this.rows)));
+	}
+
+	@Test
+	public void shouldClearWhenTooManyKeysEvicted() throws Exception {
+		this.cache.put("key", this.pageRequest, Locale.UK, this.rows);
+		for (int i = 0; i < 1024; i++) {
+			this.cache.evict("other" + i);
+		}
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK),
+				is(sameInstance((Object) this.rows)));
+		this.cache.evict("another");
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK), is(nullValue()));
+	}
+
+	@Test
+	public void shouldNotReuseEvictedGenerationsAfterClear() throws Exception {
+		ConcurrentMapCache springCache = new ConcurrentMapCache("custom") {
+			@Override
+			public void clear() {
+			}
+		};
+		this.cache.setCache(springCache);
+		this.cache.evict("key");
+		this.cache.put("key", this.pageRequest, Locale.UK, this.rows);
+		this.cache.clear();
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK), is(nullValue()));
+		this.cache.evict("key");
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK), is(nullValue()));
+	}
+
+	@Test
+	public void shouldEvictOnEvent() throws Exception {
+		this.cache.put("key", this.pageRequest, Locale.UK, this.rows);
+		this.cache.onApplicationEvent(new PagedDataCacheEvictEvent(this, "key"));
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK), is(nullValue()));
+	}
+
+	@Test
+	public void shouldClearOnEvent() throws Exception {
+		this.cache.put("key", this.pageRequest, Locale.UK, this.rows);
+		this.cache.onApplicationEvent(new PagedDataCacheEvictEvent(this));
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK), is(nullValue()));
+	}
+
+	@Test
+	public void shouldClearOnContextRefresh() throws Exception {
+		this.cache.put("key", this.pageRequest, Locale.UK, this.rows);
+		this.cache.onApplicationEvent(new ContextRefreshedEvent(new StaticApplicationContext()));
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK), is(nullValue()));
+	}
+
+	@Test
+	public void shouldBoundSize() throws Exception {
+		this.cache = new PagedDataCache(1);
+		this.cache.put("key", this.pageRequest, Locale.UK, this.rows);
+		this.cache.put("other", this.pageRequest, Locale.UK, this.rows);
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK), is(nullValue()));
+	}
+
+	@Test
+	public void shouldUseCustomCache() throws Exception {
+		ConcurrentMapCache springCache = new ConcurrentMapCache("custom");
+		this.cache.setCache(springCache);
+		this.cache.put("key", this.pageRequest, Locale.UK, this.rows);
+		assertThat(springCache.getNativeCache().size(), is(1));
+		assertThat(this.cache.get("key", this.pageRequest, Locale.UK),
+				is(sameInstance((Object) this.rows)));
+	}
+}
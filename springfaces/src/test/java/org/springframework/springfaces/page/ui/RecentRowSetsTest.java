@@ -0,0 +1,131 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.page.ui;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.springframework.springfaces.model.DataModelRowSet;
+import org.springframework.springfaces.model.DefaultDataModelRowSet;
+import org.springframework.springfaces.page.model.PagedDataModelState;
+
+/**
+ * Tests for {@link RecentRowSets}.
+ * 
+ * @author Phillip Webb
+ */
+public class RecentRowSetsTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private RecentRowSets recentRowSets = new RecentRowSets(2);
+
+	private PagedDataModelState state = new PagedDataModelState(10);
+
+	private PageRequest pageRequest = new PageRequestAdapter(this.state);
+
+	private DataModelRowSet<String> rows = new DefaultDataModelRowSet<String>(Collections.singletonList("a"));
+
+	@Test
+	public void shouldNeedPositiveMaxSize() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("MaxSize must be a positive number");
+		new RecentRowSets(0);
+	}
+
+	@Test
+	public void shouldPutAndGetRows() throws Exception {
+		this.recentRowSets.putRows(this.pageRequest, this.rows);
+		assertThat(this.recentRowSets.getRows(this.pageRequest), is(sameInstance((Object) this.rows)));
+	}
+
+	@Test
+	public void shouldKeyByPageRequest() throws Exception {
+		this.recentRowSets.putRows(this.pageRequest, this.rows);
+		this.state.setRowIndex(10);
+		assertThat(this.recentRowSets.getRows(this.pageRequest), is(nullValue()));
+		this.state.setRowIndex(0);
+		this.state.setSortColumn("column");
+		assertThat(this.recentRowSets.getRows(this.pageRequest), is(nullValue()));
+		this.state.setSortColumn(null);
+		this.state.setFilters(Collections.singletonMap("a", "b"));
+		assertThat(this.recentRowSets.getRows(this.pageRequest), is(nullValue()));
+	}
+
+	@Test
+	public void shouldRemoveLeastRecentlyUsed() throws Exception {
+		this.recentRowSets.putRows(this.pageRequest, this.rows);
+		this.state.setRowIndex(10);
+		this.recentRowSets.putRows(this.pageRequest, this.rows);
+		this.state.setRowIndex(0);
+		this.recentRowSets.getRows(this.pageRequest);
+		this.state.setRowIndex(20);
+		this.recentRowSets.putRows(this.pageRequest, this.rows);
+		this.state.setRowIndex(10);
+		assertThat(this.recentRowSets.contains(this.pageRequest), is(false));
+		this.state.setRowIndex(0);
+		assertThat(this.recentRowSets.contains(this.pageRequest), is(true));
+	}
+
+	@Test
+	public void shouldTakePrefetchedValueOnce() throws Exception {
+		Object value = Collections.singletonList("a");
+		this.recentRowSets.putPrefetchedValue(this.pageRequest, value);
+		assertThat(this.recentRowSets.contains(this.pageRequest), is(true));
+		assertThat(this.recentRowSets.getRows(this.pageRequest), is(nullValue()));
+		assertThat(this.recentRowSets.takePrefetchedValue(this.pageRequest), is(sameInstance(value)));
+		assertThat(this.recentRowSets.takePrefetchedValue(this.pageRequest), is(nullValue()));
+	}
+
+	@Test
+	public void shouldNotTakeRowsAsPrefetchedValue() throws Exception {
+		this.recentRowSets.putRows(this.pageRequest, this.rows);
+		assertThat(this.recentRowSets.takePrefetchedValue(this.pageRequest), is(nullValue()));
+		assertThat(this.recentRowSets.getRows(this.pageRequest), is(sameInstance((Object) this.rows)));
+	}
+
+	@Test
+	public void shouldClear() throws Exception {
+		this.recentRowSets.putRows(this.pageRequest, this.rows);
+		this.recentRowSets.clear();
+		assertThat(this.recentRowSets.contains(this.pageRequest), is(false));
+	}
+
+	@Test
+	public void shouldNotSerializeEntries() throws Exception {
+		this.recentRowSets.putRows(this.pageRequest, this.rows);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(this.recentRowSets);
+		out.close();
+		ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		RecentRowSets deserialized = (RecentRowSets) in.readObject();
+		assertThat(deserialized.getMaxSize(), is(2));
+		assertThat(deserialized.contains(this.pageRequest), is(false));
+	}
+}
@@ -19,6 +19,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 import java.util.Collections;
 import java.util.Iterator;
@@ -93,6 +94,19 @@ public class SpringDataPageRequestTest {
 
 	}
 
+	@Test
+	public void shouldDelegateGetLastRowKey() throws Exception {
+		KeysetPageRequest delegate = mock(KeysetPageRequest.class);
+		Object lastRowKey = "key";
+		given(delegate.getLastRowKey()).willReturn(lastRowKey);
+		assertThat(new SpringDataPageRequest(delegate).getLastRowKey(), is(lastRowKey));
+	}
+
+	@Test
+	public void shouldNotHaveLastRowKeyWhenDelegateIsNotKeysetPageRequest() throws Exception {
+		assertThat(this.request.getLastRowKey(), is(nullValue()));
+	}
+
 	@Test
 	public void shouldBuildSpringDataSortFromSortColumnAndSortAscending() throws Exception {
 		given(this.delegate.getSortColumn()).willReturn("column");
@@ -24,13 +24,20 @@ import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import javax.el.ELContext;
 import javax.el.ValueExpression;
@@ -42,11 +49,15 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.InOrder;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationContext;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.AsyncResult;
 import org.springframework.springfaces.FacesContextSetter;
+import org.springframework.springfaces.SpringFacesMocks;
 import org.springframework.springfaces.page.model.PagedDataRows;
 import org.springframework.springfaces.page.model.PrimeFacesPagedDataModel;
 
@@ -231,6 +242,294 @@ public class UIPagedDataTest {
 		assertThat(rows, is(PrimeFacesPagedDataModel.class));
 	}
 
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void shouldSupportFutureRowCount() throws Exception {
+		this.uiPagedData.setValueExpression("value", mockExpression(Collections.singletonList("a")));
+		this.uiPagedData.setValueExpression("rowCount", mockExpression(new AsyncResult<Long>(100L)));
+		this.uiPagedData.encodeEnd(this.context);
+		PagedDataRows rows = (PagedDataRows) this.requestMap.get("pagedData");
+		assertThat(rows.getRowCount(), is(equalTo(100)));
+	}
+
+	@Test
+	public void shouldEvaluateValueBeforeRowCountByDefault() throws Exception {
+		ValueExpression value = mockExpression(Collections.singletonList("a"));
+		ValueExpression rowCount = mockExpression(100);
+		this.uiPagedData.setValueExpression("value", value);
+		this.uiPagedData.setValueExpression("rowCount", rowCount);
+		this.uiPagedData.encodeEnd(this.context);
+		((PagedDataRows<?>) this.requestMap.get("pagedData")).getRowCount();
+		InOrder ordered = inOrder(value, rowCount);
+		ordered.verify(value).getValue(any(ELContext.class));
+		ordered.verify(rowCount).getValue(any(ELContext.class));
+	}
+
+	@Test
+	public void shouldEvaluateRowCountBeforeValueWhenAsync() throws Exception {
+		ValueExpression value = mockExpression(Collections.singletonList("a"));
+		ValueExpression rowCount = mockExpression(new AsyncResult<Long>(100L));
+		this.uiPagedData.setValueExpression("value", value);
+		this.uiPagedData.setValueExpression("rowCount", rowCount);
+		this.uiPagedData.setAsyncRowCount(true);
+		this.uiPagedData.encodeEnd(this.context);
+		assertThat(((PagedDataRows<?>) this.requestMap.get("pagedData")).getRowCount(), is(equalTo(100)));
+		InOrder ordered = inOrder(value, rowCount);
+		ordered.verify(rowCount).getValue(any(ELContext.class));
+		ordered.verify(value).getValue(any(ELContext.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldCancelFutureRowCountAfterTimeout() throws Exception {
+		Future<Long> future = mock(Future.class);
+		given(future.get(5, TimeUnit.SECONDS)).willThrow(new TimeoutException());
+		this.uiPagedData.setValueExpression("value", mockExpression(Collections.singletonList("a")));
+		this.uiPagedData.setValueExpression("rowCount", mockExpression(future));
+		this.uiPagedData.setRowCountTimeout(5);
+		this.uiPagedData.encodeEnd(this.context);
+		assertThat(((PagedDataRows<?>) this.requestMap.get("pagedData")).getRowCount(), is(equalTo(-1)));
+		verify(future).cancel(true);
+	}
+
+	@Test
+	public void shouldCountRowsForEachPageByDefault() throws Exception {
+		ValueExpression rowCount = mockExpression(100);
+		this.uiPagedData.setValueExpression("rowCount", rowCount);
+		navigateTwoPages();
+		verify(rowCount, times(2)).getValue(any(ELContext.class));
+	}
+
+	@Test
+	public void shouldCacheRowCount() throws Exception {
+		ValueExpression rowCount = mockExpression(100);
+		this.uiPagedData.setValueExpression("rowCount", rowCount);
+		this.uiPagedData.setRowCountCacheTimeout(60);
+		PagedDataRows<?> rows = navigateTwoPages();
+		verify(rowCount, times(1)).getValue(any(ELContext.class));
+		assertThat(rows.getRowCount(), is(equalTo(100)));
+	}
+
+	@Test
+	public void shouldRecountCachedRowCountWhenFiltersChange() throws Exception {
+		ValueExpression rowCount = mockExpression(100);
+		this.uiPagedData.setValueExpression("rowCount", rowCount);
+		this.uiPagedData.setRowCountCacheTimeout(60);
+		PagedDataRows<?> rows = navigateTwoPages();
+		rows.setFilters(Collections.singletonMap("a", "b"));
+		rows.setRowIndex(0);
+		rows.getRowData();
+		verify(rowCount, times(2)).getValue(any(ELContext.class));
+	}
+
+	@Test
+	public void shouldExposeLastRowKeyOfPreviousPage() throws Exception {
+		final List<Object> lastRowKeys = new ArrayList<Object>();
+		ValueExpression value = mock(ValueExpression.class);
+		given(value.getValue(any(ELContext.class))).willAnswer(new Answer<Object>() {
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				KeysetPageRequest pageRequest = (KeysetPageRequest) UIPagedDataTest.this.requestMap.get("pageRequest");
+				lastRowKeys.add(pageRequest.getLastRowKey());
+				return Arrays.asList("a" + pageRequest.getPageNumber(), "b" + pageRequest.getPageNumber());
+			}
+		});
+		ValueExpression rowKey = mock(ValueExpression.class);
+		given(rowKey.getValue(any(ELContext.class))).willAnswer(new Answer<Object>() {
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				return "key-" + UIPagedDataTest.this.requestMap.get("row");
+			}
+		});
+		this.uiPagedData.setPageSize(2);
+		this.uiPagedData.setValueExpression("value", value);
+		this.uiPagedData.setValueExpression("rowKey", rowKey);
+		this.uiPagedData.encodeEnd(this.context);
+		PagedDataRows<?> rows = (PagedDataRows<?>) this.requestMap.get("pagedData");
+		rows.setRowIndex(0);
+		rows.getRowData();
+		rows.setRowIndex(2);
+		rows.getRowData();
+		assertThat(lastRowKeys, is(equalTo(Arrays.<Object> asList(null, "key-b0"))));
+		assertThat(this.requestMap, not(hasKey("row")));
+	}
+
+	@Test
+	public void shouldNotExposeLastRowKeyWithoutRowKeyExpression() throws Exception {
+		navigateTwoPages();
+		assertThat(((KeysetPageRequest) this.pageRequest).getLastRowKey(), is(nullValue()));
+	}
+
+	@Test
+	public void shouldExposeLastRowUsingRowVar() throws Exception {
+		final List<Object> lastRows = new ArrayList<Object>();
+		this.requestMap.put("row", "bean");
+		ValueExpression rowKey = mock(ValueExpression.class);
+		given(rowKey.getValue(any(ELContext.class))).willAnswer(new Answer<Object>() {
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				lastRows.add(UIPagedDataTest.this.requestMap.get("lastRow"));
+				return "key";
+			}
+		});
+		this.uiPagedData.setRowVar("lastRow");
+		this.uiPagedData.setValueExpression("value", mockExpression(Arrays.asList("a", "b")));
+		this.uiPagedData.setValueExpression("rowKey", rowKey);
+		this.uiPagedData.encodeEnd(this.context);
+		PagedDataRows<?> rows = (PagedDataRows<?>) this.requestMap.get("pagedData");
+		rows.setRowIndex(0);
+		rows.getRowData();
+		assertThat(lastRows, is(equalTo(Arrays.<Object> asList("b"))));
+		assertThat(this.requestMap.get("row"), is(equalTo((Object) "bean")));
+		assertThat(this.requestMap, not(hasKey("lastRow")));
+	}
+
+	@Test
+	public void shouldDefaultRowVar() throws Exception {
+		assertThat(this.uiPagedData.getRowVar(), is("row"));
+	}
+
+	@Test
+	public void shouldShareRowsWhenHasCacheKey() throws Exception {
+		mockPagedDataCache();
+		ValueExpression value = mockExpression(Collections.singletonList("a"));
+		for (int i = 0; i < 2; i++) {
+			UIPagedData uiPagedData = new UIPagedData();
+			uiPagedData.setCacheKey("key");
+			uiPagedData.setValueExpression("value", value);
+			uiPagedData.encodeEnd(this.context);
+			PagedDataRows<?> rows = (PagedDataRows<?>) this.requestMap.get("pagedData");
+			rows.setRowIndex(0);
+			assertThat(rows.getRowData(), is(equalTo((Object) "a")));
+		}
+		verify(value, times(1)).getValue(any(ELContext.class));
+	}
+
+	@Test
+	public void shouldEvaluateCacheKeyForEachRequest() throws Exception {
+		mockPagedDataCache();
+		ValueExpression value = mockExpression(Collections.singletonList("a"));
+		for (String city : new String[] { "london", "paris", "london" }) {
+			UIPagedData uiPagedData = new UIPagedData();
+			uiPagedData.setValueExpression("cacheKey", mockExpression("hotels-" + city));
+			uiPagedData.setValueExpression("value", value);
+			uiPagedData.encodeEnd(this.context);
+			PagedDataRows<?> rows = (PagedDataRows<?>) this.requestMap.get("pagedData");
+			rows.setRowIndex(0);
+			rows.getRowData();
+		}
+		verify(value, times(2)).getValue(any(ELContext.class));
+	}
+
+	@Test
+	public void shouldNotShareRowsWithoutCacheKey() throws Exception {
+		mockPagedDataCache();
+		ValueExpression value = mockExpression(Collections.singletonList("a"));
+		for (int i = 0; i < 2; i++) {
+			UIPagedData uiPagedData = new UIPagedData();
+			uiPagedData.setValueExpression("value", value);
+			uiPagedData.encodeEnd(this.context);
+			PagedDataRows<?> rows = (PagedDataRows<?>) this.requestMap.get("pagedData");
+			rows.setRowIndex(0);
+			rows.getRowData();
+		}
+		verify(value, times(2)).getValue(any(ELContext.class));
+	}
+
+	@Test
+	public void shouldNeedPagedDataCacheBeanWhenHasCacheKey() throws Exception {
+		SpringFacesMocks.setupSpringFacesIntegration(this.context, mock(ApplicationContext.class));
+		given(this.context.getExternalContext().getRequestMap()).willReturn(this.requestMap);
+		this.uiPagedData.setCacheKey("key");
+		this.uiPagedData.setValueExpression("value", mockExpression(Collections.singletonList("a")));
+		this.uiPagedData.encodeEnd(this.context);
+		PagedDataRows<?> rows = (PagedDataRows<?>) this.requestMap.get("pagedData");
+		rows.setRowIndex(0);
+		this.thrown.expect(IllegalStateException.class);
+		this.thrown.expectMessage("Unable to find a unique PagedDataCache bean");
+		rows.getRowData();
+	}
+
+	@Test
+	public void shouldReloadPreviousPageByDefault() throws Exception {
+		PagedDataRows<?> rows = navigateTwoPages();
+		rows.setRowIndex(0);
+		rows.getRowData();
+		verify(this.uiPagedData.getValueExpression("value"), times(3)).getValue(any(ELContext.class));
+	}
+
+	@Test
+	public void shouldReuseRecentRowSetsWhenNavigatingBack() throws Exception {
+		this.uiPagedData.setRowSetCacheSize(2);
+		PagedDataRows<?> rows = navigateTwoPages();
+		rows.setRowIndex(0);
+		assertThat(rows.getRowData(), is(equalTo((Object) "a")));
+		verify(this.uiPagedData.getValueExpression("value"), times(2)).getValue(any(ELContext.class));
+	}
+
+	@Test
+	public void shouldNeedNonNegativeRowSetCacheSize() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("RowSetCacheSize must not be negative");
+		this.uiPagedData.setRowSetCacheSize(-1);
+	}
+
+	@Test
+	public void shouldSupportFutureValue() throws Exception {
+		this.uiPagedData.setValueExpression("value",
+				mockExpression(new AsyncResult<List<String>>(Collections.singletonList("a"))));
+		this.uiPagedData.encodeEnd(this.context);
+		PagedDataRows<?> rows = (PagedDataRows<?>) this.requestMap.get("pagedData");
+		rows.setRowIndex(0);
+		assertThat(rows.getRowData(), is(equalTo((Object) "a")));
+	}
+
+	@Test
+	public void shouldPrefetchNextPage() throws Exception {
+		final List<PageRequest> pageRequests = new ArrayList<PageRequest>();
+		ValueExpression value = mock(ValueExpression.class);
+		given(value.getValue(any(ELContext.class))).willAnswer(new Answer<Object>() {
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				PageRequest pageRequest = (PageRequest) UIPagedDataTest.this.requestMap.get("pageRequest");
+				pageRequests.add(pageRequest);
+				return new AsyncResult<List<String>>(Collections.singletonList("p" + pageRequest.getPageNumber()));
+			}
+		});
+		this.uiPagedData.setPageSize(1);
+		this.uiPagedData.setPrefetch(true);
+		this.uiPagedData.setValueExpression("value", value);
+		this.uiPagedData.setValueExpression("rowCount", mockExpression(3));
+		this.uiPagedData.encodeEnd(this.context);
+		PagedDataRows<?> rows = (PagedDataRows<?>) this.requestMap.get("pagedData");
+		rows.setRowIndex(0);
+		assertThat(rows.getRowData(), is(equalTo((Object) "p0")));
+		assertThat(pageRequests.size(), is(2));
+		rows.setRowIndex(1);
+		assertThat(rows.getRowData(), is(equalTo((Object) "p1")));
+		rows.setRowIndex(2);
+		assertThat(rows.getRowData(), is(equalTo((Object) "p2")));
+		verify(value, times(3)).getValue(any(ELContext.class));
+		assertThat(pageRequests.get(1).getOffset(), is(1));
+		assertThat(pageRequests.get(2).getOffset(), is(2));
+	}
+
+	@Test
+	public void shouldNotPrefetchAfterLastPage() throws Exception {
+		ValueExpression value = mockExpression(Collections.singletonList("a"));
+		this.uiPagedData.setPrefetch(true);
+		this.uiPagedData.setValueExpression("value", value);
+		this.uiPagedData.setValueExpression("rowCount", mockExpression(1));
+		this.uiPagedData.encodeEnd(this.context);
+		PagedDataRows<?> rows = (PagedDataRows<?>) this.requestMap.get("pagedData");
+		rows.setRowIndex(0);
+		rows.getRowData();
+		verify(value, times(1)).getValue(any(ELContext.class));
+	}
+
+	@Test
+	public void shouldNeedNonNegativeRowCountCacheTimeout() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("RowCountCacheTimeout must not be negative");
+		this.uiPagedData.setRowCountCacheTimeout(-1);
+	}
+
 	@Test
 	public void shouldNeedPositivePageSize() throws Exception {
 		this.thrown.expect(IllegalArgumentException.class);
@@ -285,6 +584,28 @@ public class UIPagedDataTest {
 		rows.getRowData();
 	}
 
+	private PagedDataRows<?> navigateTwoPages() throws Exception {
+		this.uiPagedData.setPageSize(1);
+		this.uiPagedData.setValueExpression("value", mockExpression(Collections.singletonList("a")));
+		this.uiPagedData.encodeEnd(this.context);
+		PagedDataRows<?> rows = (PagedDataRows<?>) this.requestMap.get("pagedData");
+		rows.setRowIndex(0);
+		rows.getRowData();
+		rows.setRowIndex(1);
+		rows.getRowData();
+		return rows;
+	}
+
+	private PagedDataCache mockPagedDataCache() {
+		PagedDataCache cache = new PagedDataCache();
+		ApplicationContext applicationContext = mock(ApplicationContext.class);
+		given(applicationContext.getBeansOfType(PagedDataCache.class)).willReturn(
+				Collections.singletonMap("pagedDataCache", cache));
+		SpringFacesMocks.setupSpringFacesIntegration(this.context, applicationContext);
+		given(this.context.getExternalContext().getRequestMap()).willReturn(this.requestMap);
+		return cache;
+	}
+
 	private ValueExpression mockExpression(final Object result) {
 		ValueExpression binding = mock(ValueExpression.class);
 		given(binding.getValue(any(ELContext.class))).willAnswer(new Answer<Object>() {
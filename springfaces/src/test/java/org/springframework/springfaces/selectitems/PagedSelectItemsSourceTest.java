@@ -0,0 +1,124 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.selectitems;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link PagedSelectItemsSource}.
+ * 
+ * @author Phillip Webb
+ */
+public class PagedSelectItemsSourceTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	@Test
+	public void shouldIterateAllPages() throws Exception {
+		TestPagedSelectItemsSource source = new TestPagedSelectItemsSource(1, 2, 3, 4, 5);
+		source.setPageSize(2);
+		List<Integer> values = new ArrayList<Integer>();
+		for (Integer value : source) {
+			values.add(value);
+		}
+		assertThat(values, is(Arrays.asList(1, 2, 3, 4, 5)));
+		assertThat(source.pageRequests, is(Arrays.asList("0/2", "1/2", "2/2")));
+	}
+
+	@Test
+	public void shouldFetchPagesLazily() throws Exception {
+		TestPagedSelectItemsSource source = new TestPagedSelectItemsSource(1, 2, 3, 4, 5);
+		source.setPageSize(2);
+		Iterator<Integer> iterator = source.iterator();
+		assertThat(source.pageRequests.size(), is(0));
+		iterator.next();
+		iterator.next();
+		assertThat(source.pageRequests.size(), is(1));
+		iterator.next();
+		assertThat(source.pageRequests.size(), is(2));
+	}
+
+	@Test
+	public void shouldStopAfterEmptyPageWhenExactMultipleOfPageSize() throws Exception {
+		TestPagedSelectItemsSource source = new TestPagedSelectItemsSource(1, 2, 3, 4);
+		source.setPageSize(2);
+		Iterator<Integer> iterator = source.iterator();
+		for (int i = 0; i < 4; i++) {
+			iterator.next();
+		}
+		assertThat(iterator.hasNext(), is(false));
+		assertThat(source.pageRequests.size(), is(3));
+	}
+
+	@Test
+	public void shouldSupportNoValues() throws Exception {
+		TestPagedSelectItemsSource source = new TestPagedSelectItemsSource();
+		Iterator<Integer> iterator = source.iterator();
+		assertThat(iterator.hasNext(), is(false));
+		this.thrown.expect(NoSuchElementException.class);
+		iterator.next();
+	}
+
+	@Test
+	public void shouldUseDefaultPageSize() throws Exception {
+		assertThat(new TestPagedSelectItemsSource().getPageSize(), is(100));
+	}
+
+	@Test
+	public void shouldNeedPositivePageSize() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("PageSize must be positive");
+		new TestPagedSelectItemsSource().setPageSize(0);
+	}
+
+	private static class TestPagedSelectItemsSource extends PagedSelectItemsSource<Integer> {
+
+		private List<Integer> values;
+
+		private List<String> pageRequests = new ArrayList<String>();
+
+		public TestPagedSelectItemsSource(Integer... values) {
+			this.values = Arrays.asList(values);
+		}
+
+		@Override
+		protected List<Integer> getPage(int pageNumber, int pageSize) {
+			this.pageRequests.add(pageNumber + "/" + pageSize);
+			int start = pageNumber * pageSize;
+			if (start >= this.values.size()) {
+				return Collections.emptyList();
+			}
+			return this.values.subList(start, Math.min(start + pageSize, this.values.size()));
+		}
+
+		public Integer findValue(String stringValue) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.selectitems;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.PagingAndSortingRepository;
+
+/**
+ * Tests for {@link RepositorySelectItemsSource}.
+ * 
+ * @author Phillip Webb
+ */
+public class RepositorySelectItemsSourceTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	@Mock
+	private PagingAndSortingRepository<String, Long> repository;
+
+	private RepositorySelectItemsSource<String, Long> source;
+
+	@Before
+	public void setup() {
+		MockitoAnnotations.initMocks(this);
+		this.source = new RepositorySelectItemsSource<String, Long>(this.repository, Long.class);
+	}
+
+	@Test
+	public void shouldNeedRepository() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("Repository must not be null");
+		new RepositorySelectItemsSource<String, Long>(null, Long.class);
+	}
+
+	@Test
+	public void shouldNeedIdType() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("IdType must not be null");
+		new RepositorySelectItemsSource<String, Long>(this.repository, null);
+	}
+
+	@Test
+	public void shouldIteratePagesFromRepository() throws Exception {
+		Sort sort = new Sort("name");
+		this.source.setSort(sort);
+		this.source.setPageSize(2);
+		given(this.repository.findAll(any(Pageable.class))).willReturn(new PageImpl<String>(Arrays.asList("a")));
+		Iterator<String> iterator = this.source.iterator();
+		assertThat(iterator.next(), is("a"));
+		assertThat(iterator.hasNext(), is(false));
+		ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+		verify(this.repository).findAll(pageable.capture());
+		assertThat(pageable.getValue().getPageNumber(), is(0));
+		assertThat(pageable.getValue().getPageSize(), is(2));
+		assertThat(pageable.getValue().getSort(), is(sort));
+	}
+
+	@Test
+	public void shouldFindValueUsingConvertedId() throws Exception {
+		given(this.repository.findOne(123L)).willReturn("a");
+		assertThat(this.source.findValue("123"), is("a"));
+	}
+
+	@Test
+	public void shouldFindNullValueForEmptyString() throws Exception {
+		assertThat(this.source.findValue(""), is(nullValue()));
+		verifyZeroInteractions(this.repository);
+	}
+
+	@Test
+	public void shouldFindNullValueForStringThatIsNotAnId() throws Exception {
+		assertThat(this.source.findValue("abc"), is(nullValue()));
+		verifyZeroInteractions(this.repository);
+	}
+}
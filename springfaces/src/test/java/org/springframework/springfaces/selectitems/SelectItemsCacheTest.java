@@ -0,0 +1,126 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.selectitems;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.faces.model.SelectItem;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.StaticApplicationContext;
+
+/**
+ * Tests for {@link SelectItemsCache}.
+ * 
+ * @author Phillip Webb
+ */
+public class SelectItemsCacheTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private SelectItemsCache cache = new SelectItemsCache();
+
+	private Object source = new Object();
+
+	@Test
+	public void shouldGetNullWhenNotCached() throws Exception {
+		assertThat(this.cache.get("key", Locale.UK, this.source), is(nullValue()));
+	}
+
+	@Test
+	public void shouldPutAndGet() throws Exception {
+		List<SelectItem> items = createItems();
+		List<SelectItem> cached = this.cache.put("key", Locale.UK, this.source, items);
+		assertThat(cached, is(items));
+		assertThat(this.cache.get("key", Locale.UK, this.source), is(items));
+	}
+
+	@Test
+	public void shouldReturnUnmodifiableItems() throws Exception {
+		List<SelectItem> cached = this.cache.put("key", Locale.UK, this.source, createItems());
+		this.thrown.expect(UnsupportedOperationException.class);
+		cached.clear();
+	}
+
+	@Test
+	public void shouldNotBeAffectedByChangesToOriginalItems() throws Exception {
+		List<SelectItem> items = createItems();
+		this.cache.put("key", Locale.UK, this.source, items);
+		items.clear();
+		assertThat(this.cache.get("key", Locale.UK, this.source).size(), is(1));
+	}
+
+	@Test
+	public void shouldCachePerLocale() throws Exception {
+		this.cache.put("key", Locale.UK, this.source, createItems());
+		assertThat(this.cache.get("key", Locale.FRENCH, this.source), is(nullValue()));
+	}
+
+	@Test
+	public void shouldCachePerSource() throws Exception {
+		this.cache.put("key", Locale.UK, this.source, createItems());
+		assertThat(this.cache.get("key", Locale.UK, new Object()), is(nullValue()));
+		assertThat(this.cache.get("key", Locale.UK, null), is(nullValue()));
+	}
+
+	@Test
+	public void shouldEvict() throws Exception {
+		this.cache.put("key", Locale.UK, this.source, createItems());
+		this.cache.put("key", Locale.FRENCH, this.source, createItems());
+		this.cache.put("other", Locale.UK, this.source, createItems());
+		this.cache.evict("key");
+		assertThat(this.cache.get("key", Locale.UK, this.source), is(nullValue()));
+		assertThat(this.cache.get("key", Locale.FRENCH, this.source), is(nullValue()));
+		assertThat(this.cache.get("other", Locale.UK, this.source).size(), is(1));
+	}
+
+	@Test
+	public void shouldClear() throws Exception {
+		this.cache.put("key", Locale.UK, this.source, createItems());
+		this.cache.clear();
+		assertThat(this.cache.get("key", Locale.UK, this.source), is(nullValue()));
+	}
+
+	@Test
+	public void shouldClearOnRefresh() throws Exception {
+		this.cache.put("key", Locale.UK, this.source, createItems());
+		this.cache.onApplicationEvent(new ContextRefreshedEvent(new StaticApplicationContext()));
+		assertThat(this.cache.get("key", Locale.UK, this.source), is(nullValue()));
+	}
+
+	@Test
+	public void shouldNeedCacheKey() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("CacheKey must not be null");
+		this.cache.get(null, Locale.UK, this.source);
+	}
+
+	private List<SelectItem> createItems() {
+		List<SelectItem> items = new ArrayList<SelectItem>();
+		items.add(new SelectItem("value", "label"));
+		return items;
+	}
+}
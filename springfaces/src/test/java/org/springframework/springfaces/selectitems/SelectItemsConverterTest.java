@@ -19,8 +19,11 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 
 import javax.faces.component.UIComponent;
 import javax.faces.component.UISelectItem;
@@ -101,6 +104,42 @@ public class SelectItemsConverterTest {
 		assertThat(object, is(nullValue()));
 	}
 
+	@Test
+	public void shouldOnlyConvertSelectItemsOncePerRequest() throws Exception {
+		given(this.context.getAttributes()).willReturn(new HashMap<Object, Object>());
+		this.children.add(newSelectItem(1));
+		this.children.add(newSelectItem(2));
+		this.children.add(newSelectItem(3));
+		assertThat(this.converter.getAsObject(this.context, this.component, "1"), is((Object) 1));
+		assertThat(this.converter.getAsObject(this.context, this.component, "3"), is((Object) 3));
+		assertThat(this.converter.getAsStringCount, is(3));
+	}
+
+	@Test
+	public void shouldIndexEachComponentSeparately() throws Exception {
+		given(this.context.getAttributes()).willReturn(new HashMap<Object, Object>());
+		this.children.add(newSelectItem(1));
+		UIComponent other = mock(UIComponent.class);
+		given(other.getChildren()).willReturn(Collections.singletonList(newSelectItem(2)));
+		assertThat(this.converter.getAsObject(this.context, this.component, "1"), is((Object) 1));
+		assertThat(this.converter.getAsObject(this.context, other, "2"), is((Object) 2));
+	}
+
+	@Test
+	public void shouldIndexEachClientIdSeparately() throws Exception {
+		given(this.context.getAttributes()).willReturn(new HashMap<Object, Object>());
+		given(this.component.getClientId(this.context)).willReturn("table:0:select");
+		this.children.add(newSelectItem(1));
+		assertThat(this.converter.getAsObject(this.context, this.component, "1"), is((Object) 1));
+		given(this.component.getClientId(this.context)).willReturn("table:1:select");
+		this.children.clear();
+		this.children.add(newSelectItem(2));
+		assertThat(this.converter.getAsObject(this.context, this.component, "2"), is((Object) 2));
+		given(this.component.getClientId(this.context)).willReturn("table:0:select");
+		assertThat(this.converter.getAsObject(this.context, this.component, "1"), is((Object) 1));
+		assertThat(this.converter.getAsStringCount, is(2));
+	}
+
 	private UIComponent newSelectItem(Integer value) {
 		UISelectItem uiSelectItem = new UISelectItem();
 		SelectItem selectItem = new SelectItem(value);
@@ -109,7 +148,11 @@ public class SelectItemsConverterTest {
 	}
 
 	private static class TestSelectItemsConverter extends SelectItemsConverter {
+
+		private int getAsStringCount;
+
 		public String getAsString(FacesContext context, UIComponent component, Object value) {
+			this.getAsStringCount++;
 			return value == null ? "" : value.toString();
 		}
 	}
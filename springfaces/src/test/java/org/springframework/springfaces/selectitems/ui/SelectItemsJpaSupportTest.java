@@ -20,11 +20,15 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 
+import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 
 import org.junit.After;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.springframework.data.domain.Persistable;
 
 /**
  * Tests for {@link SelectItemsJpaSupport}.
@@ -33,6 +37,9 @@ import org.junit.Test;
  */
 public class SelectItemsJpaSupportTest {
 
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
 	@After
 	public void resetHasJpa() {
 		SelectItemsJpaSupport.setHasJpa(true);
@@ -66,6 +73,43 @@ public class SelectItemsJpaSupportTest {
 		assertThat(entityId, is(equalTo((Object) 100)));
 	}
 
+	@Test
+	public void shouldReturnEmbeddedIdField() throws Exception {
+		Object value = new EntityWithEmbeddedIdField();
+		Object entityId = SelectItemsJpaSupport.getInstance().getEntityId(value);
+		assertThat(entityId, is(equalTo((Object) "embedded")));
+	}
+
+	@Test
+	public void shouldReturnIdFieldFromSuperclass() throws Exception {
+		Object value = new EntityExtendingEntityWithIdField();
+		Object entityId = SelectItemsJpaSupport.getInstance().getEntityId(value);
+		assertThat(entityId, is(equalTo((Object) 100L)));
+	}
+
+	@Test
+	public void shouldReturnPersistableId() throws Exception {
+		Object value = new PersistableValue();
+		Object entityId = SelectItemsJpaSupport.getInstance().getEntityId(value);
+		assertThat(entityId, is(equalTo((Object) 200L)));
+	}
+
+	@Test
+	public void shouldReturnPersistableIdIfNoJpa() throws Exception {
+		Object value = new PersistableValue();
+		SelectItemsJpaSupport.setHasJpa(false);
+		Object entityId = SelectItemsJpaSupport.getInstance().getEntityId(value);
+		assertThat(entityId, is(equalTo((Object) 200L)));
+	}
+
+	@Test
+	public void shouldNotSwallowIdMethodExceptions() throws Exception {
+		Object value = new EntityWithFailingIdMethod();
+		this.thrown.expect(IllegalStateException.class);
+		this.thrown.expectMessage("Failed");
+		SelectItemsJpaSupport.getInstance().getEntityId(value);
+	}
+
 	@Test
 	public void shouldReturnNullIfNoJpa() throws Exception {
 		Object value = new EntityWithIdField();
@@ -97,4 +141,34 @@ public class SelectItemsJpaSupportTest {
 
 	}
 
+	@Entity
+	static class EntityWithEmbeddedIdField {
+		@EmbeddedId
+		@SuppressWarnings("unused")
+		private String id = "embedded";
+	}
+
+	@Entity
+	static class EntityExtendingEntityWithIdField extends EntityWithIdField {
+	}
+
+	@Entity
+	static class EntityWithFailingIdMethod {
+		@Id
+		public int getId() {
+			throw new IllegalStateException("Failed");
+		}
+	}
+
+	static class PersistableValue implements Persistable<Long> {
+
+		public Long getId() {
+			return 200L;
+		}
+
+		public boolean isNew() {
+			return false;
+		}
+	}
+
 }
@@ -25,9 +25,11 @@ import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -53,7 +55,9 @@ import javax.persistence.Id;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
@@ -67,6 +71,8 @@ import org.springframework.springfaces.FacesContextSetter;
 import org.springframework.springfaces.SpringFacesMocks;
 import org.springframework.springfaces.message.NoSuchObjectMessageException;
 import org.springframework.springfaces.message.ObjectMessageSource;
+import org.springframework.springfaces.selectitems.PagedSelectItemsSource;
+import org.springframework.springfaces.selectitems.SelectItemsCache;
 import org.springframework.springfaces.selectitems.ui.UISelectItems.ExposedUISelectItems;
 import org.springframework.springfaces.selectitems.ui.UISelectItems.UISelectItemsConverter;
 
@@ -78,6 +84,9 @@ import org.springframework.springfaces.selectitems.ui.UISelectItems.UISelectItem
  */
 public class UISelectItemsTest {
 
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
 	private UISelectItems selectItems;
 
 	@Captor
@@ -228,6 +237,157 @@ public class UISelectItemsTest {
 		assertThat(actual, is(equalTo((Collection<SelectItem>) Collections.singletonList(selectItem))));
 	}
 
+	@Test
+	public void shouldAddSelectItemsToCacheWhenHasCacheKey() throws Exception {
+		SelectItemsCache cache = mockSelectItemsCache();
+		this.selectItems.setParent(mockParent(UISelectMany.class));
+		this.selectItems.setValue("1, 2");
+		this.selectItems.setCacheKey("numbers");
+		List<SelectItem> actual = this.selectItems.getSelectItems();
+		assertThat(actual.size(), is(2));
+		assertThat(cache.get("numbers", this.locale, this.applicationContext), is(actual));
+	}
+
+	@Test
+	public void shouldUseCachedSelectItemsWhenHasCacheKey() throws Exception {
+		SelectItemsCache cache = mockSelectItemsCache();
+		List<SelectItem> cached = cache.put("numbers", this.locale, this.applicationContext,
+				Collections.singletonList(new SelectItem("1")));
+		this.selectItems.setParent(mockParent(UISelectMany.class));
+		this.selectItems.setValue("1, 2");
+		this.selectItems.setCacheKey("numbers");
+		assertThat(this.selectItems.getSelectItems(), is(cached));
+	}
+
+	@Test
+	public void shouldNotCacheNoSelectionOption() throws Exception {
+		SelectItemsCache cache = mockSelectItemsCache();
+		this.selectItems.setParent(mockParent(UISelectOne.class));
+		this.selectItems.setValue("1, 2");
+		this.selectItems.setCacheKey("numbers");
+		List<SelectItem> actual = this.selectItems.getSelectItems();
+		assertThat(actual.size(), is(3));
+		assertThat(actual.get(0).isNoSelectionOption(), is(true));
+		List<SelectItem> cached = cache.get("numbers", this.locale, this.applicationContext);
+		assertThat(cached.size(), is(2));
+		assertThat(actual.subList(1, 3), is(cached));
+	}
+
+	@Test
+	public void shouldLookupSelectItemsCacheBeanOnce() throws Exception {
+		mockSelectItemsCache();
+		this.selectItems.setParent(mockParent(UISelectMany.class));
+		this.selectItems.setValue("1, 2");
+		this.selectItems.setCacheKey("numbers");
+		this.selectItems.getSelectItems();
+		UISelectItems other = new UISelectItems();
+		other.setParent(mockParent(UISelectMany.class));
+		other.setValue("1, 2");
+		other.setCacheKey("numbers");
+		other.getSelectItems();
+		verify(this.applicationContext, times(1)).getBeansOfType(SelectItemsCache.class);
+	}
+
+	@Test
+	public void shouldNeedSelectItemsCacheBeanWhenHasCacheKey() throws Exception {
+		this.selectItems.setParent(mockParent(UISelectMany.class));
+		this.selectItems.setValue("1, 2");
+		this.selectItems.setCacheKey("numbers");
+		this.thrown.expect(IllegalStateException.class);
+		this.thrown.expectMessage("Unable to find a unique SelectItemsCache bean");
+		this.selectItems.getSelectItems();
+	}
+
+	@Test
+	public void shouldStreamSelectItemsFromSource() throws Exception {
+		UISelectMany parent = mockParent(UISelectMany.class);
+		this.selectItems.setParent(parent);
+		String[] values = new String[250];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = String.valueOf(i);
+		}
+		TestSelectItemsSource source = new TestSelectItemsSource(values);
+		this.selectItems.setValue(source);
+		Object value = ((ExposedUISelectItems) parent.getChildren().get(0)).getValue();
+		assertThat(value instanceof List, is(false));
+		Iterator<SelectItem> iterator = ((Collection<SelectItem>) value).iterator();
+		assertThat(iterator.next().getLabel(), is("0"));
+		assertThat(source.pagesFetched, is(1));
+		int count = 1;
+		while (iterator.hasNext()) {
+			assertThat(iterator.next().getLabel(), is(String.valueOf(count++)));
+		}
+		assertThat(count, is(250));
+		assertThat(source.pagesFetched, is(3));
+		assertThat(((Collection<SelectItem>) value).size(), is(250));
+		assertThat(source.pagesFetched, is(3));
+	}
+
+	@Test
+	public void shouldOnlyWalkSourceOnceForSize() throws Exception {
+		UISelectMany parent = mockParent(UISelectMany.class);
+		this.selectItems.setParent(parent);
+		String[] values = new String[250];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = String.valueOf(i);
+		}
+		TestSelectItemsSource source = new TestSelectItemsSource(values);
+		this.selectItems.setValue(source);
+		Collection<SelectItem> value = (Collection<SelectItem>) ((ExposedUISelectItems) parent.getChildren().get(0))
+				.getValue();
+		assertThat(value.isEmpty(), is(false));
+		assertThat(source.pagesFetched, is(1));
+		assertThat(value.size(), is(250));
+		assertThat(value.size(), is(250));
+		assertThat(value.isEmpty(), is(false));
+		assertThat(source.pagesFetched, is(4));
+	}
+
+	@Test
+	public void shouldConvertUsingSourceFindValue() throws Exception {
+		UISelectMany parent = mockParent(UISelectMany.class);
+		this.selectItems.setParent(parent);
+		verify(parent).setConverter(this.converterCaptor.capture());
+		TestSelectItemsSource source = new TestSelectItemsSource("1", "2", "3");
+		this.selectItems.setValue(source);
+		Object value = this.converterCaptor.getValue().getAsObject(this.facesContext, parent, "2");
+		assertThat(value, is((Object) "2"));
+		assertThat(source.pagesFetched, is(0));
+	}
+
+	@Test
+	public void shouldConvertNoSelectionOptionFromSource() throws Exception {
+		UISelectOne parent = mockParent(UISelectOne.class);
+		this.selectItems.setParent(parent);
+		verify(parent).setConverter(this.converterCaptor.capture());
+		this.selectItems.setValue(new TestSelectItemsSource("1", "2", "3"));
+		Object value = this.converterCaptor.getValue().getAsObject(this.facesContext, parent, "");
+		assertThat(value, is(nullValue()));
+	}
+
+	@Test
+	public void shouldFailToConvertMissingValueFromSource() throws Exception {
+		UISelectMany parent = mockParent(UISelectMany.class);
+		this.selectItems.setParent(parent);
+		verify(parent).setConverter(this.converterCaptor.capture());
+		this.selectItems.setValue(new TestSelectItemsSource("1", "2", "3"));
+		this.thrown.expect(IllegalStateException.class);
+		this.thrown.expectMessage("No select item mapped to string value '4'");
+		this.converterCaptor.getValue().getAsObject(this.facesContext, parent, "4");
+	}
+
+	@Test
+	public void shouldFailToConvertValueFromSourceThatDoesNotMapBack() throws Exception {
+		UISelectMany parent = mockParent(UISelectMany.class);
+		this.selectItems.setParent(parent);
+		verify(parent).setConverter(this.converterCaptor.capture());
+		this.selectItems.setValue(new TestSelectItemsSource("1", "2", "3"));
+		this.selectItems.setItemConverterStringValue("x");
+		this.thrown.expect(IllegalStateException.class);
+		this.thrown.expectMessage("No select item mapped to string value '2'");
+		this.converterCaptor.getValue().getAsObject(this.facesContext, parent, "2");
+	}
+
 	@Test
 	public void shouldDeduceSelectItemsFromEnum() throws Exception {
 		UIComponent parent = mockParent(UISelectMany.class);
@@ -506,6 +666,13 @@ public class UISelectItemsTest {
 		return valueExpression;
 	}
 
+	private SelectItemsCache mockSelectItemsCache() {
+		SelectItemsCache cache = new SelectItemsCache();
+		given(this.applicationContext.getBeansOfType(SelectItemsCache.class)).willReturn(
+				Collections.singletonMap("selectItemsCache", cache));
+		return cache;
+	}
+
 	private <T extends UIComponent> T mockParent(Class<T> componentClass) {
 		T parent = mock(componentClass);
 		List<UIComponent> children = new ArrayList<UIComponent>();
@@ -537,4 +704,26 @@ public class UISelectItemsTest {
 	private static interface RunnableAsserts {
 		public void run() throws Exception;
 	}
+
+	private static class TestSelectItemsSource extends PagedSelectItemsSource<String> {
+
+		private List<String> values;
+
+		private int pagesFetched;
+
+		public TestSelectItemsSource(String... values) {
+			this.values = Arrays.asList(values);
+		}
+
+		@Override
+		protected List<String> getPage(int pageNumber, int pageSize) {
+			this.pagesFetched++;
+			int start = Math.min(pageNumber * pageSize, this.values.size());
+			return this.values.subList(start, Math.min(start + pageSize, this.values.size()));
+		}
+
+		public String findValue(String stringValue) {
+			return (this.values.contains(stringValue) ? stringValue : null);
+		}
+	}
 }
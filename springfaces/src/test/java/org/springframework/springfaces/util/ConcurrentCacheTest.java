@@ -0,0 +1,118 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link ConcurrentCache}.
+ * 
+ * @author Phillip Webb
+ */
+public class ConcurrentCacheTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private ConcurrentCache<String, String> cache = new ConcurrentCache<String, String>(3);
+
+	@Test
+	public void shouldNeedPositiveMaxSize() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("MaxSize must be greater than 0");
+		new ConcurrentCache<String, String>(0);
+	}
+
+	@Test
+	public void shouldNotPutNullKey() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("Key must not be null");
+		this.cache.put(null, "v");
+	}
+
+	@Test
+	public void shouldNotPutNullValue() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("Value must not be null");
+		this.cache.put("k", null);
+	}
+
+	@Test
+	public void shouldPutAndGet() throws Exception {
+		assertThat(this.cache.get("k"), is(nullValue()));
+		assertThat(this.cache.put("k", "v"), is("v"));
+		assertThat(this.cache.get("k"), is("v"));
+	}
+
+	@Test
+	public void shouldKeepExistingValue() throws Exception {
+		this.cache.put("k", "v1");
+		assertThat(this.cache.put("k", "v2"), is("v1"));
+		assertThat(this.cache.get("k"), is("v1"));
+	}
+
+	@Test
+	public void shouldReplaceExistingValue() throws Exception {
+		this.cache.put("k", "v1");
+		this.cache.replace("k", "v2");
+		assertThat(this.cache.get("k"), is("v2"));
+	}
+
+	@Test
+	public void shouldNotReplaceWithNullValue() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("Value must not be null");
+		this.cache.replace("k", null);
+	}
+
+	@Test
+	public void shouldBeBoundedWhenReplacing() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			this.cache.replace("k" + i, "v" + i);
+		}
+		assertThat(this.cache.size(), is(3));
+	}
+
+	@Test
+	public void shouldBeBounded() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			this.cache.put("k" + i, "v" + i);
+			assertThat(this.cache.get("k" + i), is("v" + i));
+		}
+		assertThat(this.cache.size(), is(3));
+	}
+
+	@Test
+	public void shouldRemove() throws Exception {
+		this.cache.put("k", "v");
+		this.cache.remove("k");
+		assertThat(this.cache.get("k"), is(nullValue()));
+	}
+
+	@Test
+	public void shouldClear() throws Exception {
+		this.cache.put("k1", "v");
+		this.cache.put("k2", "v");
+		this.cache.clear();
+		assertThat(this.cache.size(), is(0));
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.springfaces.util;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
@@ -216,7 +217,46 @@ public class ForClassFilterTest {
 		assertThat(conditional.getTargetClass(), is(equalTo((Class) Dog.class)));
 	}
 
+	@Test
+	public void shouldFilterUsingIndex() throws Exception {
+		this.beans.remove("DeducedForDog");
+		this.beans.remove("ForDogFromMultiGeneric");
+		ForClassFilter filter = new ForClassFilter(Generic.class);
+		ForClassFilter.Index<String, Object> index = filter.index(this.beans);
+		assertThat(index.apply(Dog.class).keySet(),
+				is(equalToSetOf("ForAnimals", "ForDog", "ForDogAndCat", "ForAnimalFromGeneric")));
+		assertThat(index.apply(Dog.class), is(sameInstance(index.apply(Dog.class))));
+		assertThat(index.apply(String.class).isEmpty(), is(true));
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void shouldUseConditionalForClassInterfaceFromIndex() throws Exception {
+		this.beans.remove("ForAnimalFromGeneric");
+		this.beans.remove("ForDogFromMultiGeneric");
+		this.beans.remove("DeducedForDog");
+		Conditional conditional = new Conditional();
+		ConditionalForDog conditionalForDog = new ConditionalForDog();
+		this.beans.put("Conditional", conditional);
+		this.beans.put("ConditionalForDog", conditionalForDog);
+		ForClassFilter.Index<String, Object> index = new ForClassFilter().index(this.beans);
+		assertThat(index.apply(Cat.class).keySet(), is(equalToSetOf("ForAnimals", "ForCat", "ForDogAndCat",
+				"Conditional")));
+		assertThat(conditionalForDog.getTargetClass(), is(nullValue()));
+		assertThat(index.apply(Dog.class).containsKey("ConditionalForDog"), is(true));
+		assertThat(conditionalForDog.getTargetClass(), is(equalTo((Class) Dog.class)));
+		assertThat(conditional.getTargetClass(), is(equalTo((Class) Dog.class)));
+	}
+
+	@Test
+	public void shouldNotIndexNullMap() throws Exception {
+		this.thrown.expect(IllegalArgumentException.class);
+		this.thrown.expectMessage("Map must not be null");
+		new ForClassFilter().index(null);
+	}
+
 	private void testFilter(ForClassFilter filter, Class<?> targetClass, String... expected) {
+		testFilterIndex(filter, targetClass, expected);
 		testFilterCollection(filter, targetClass, expected);
 		testFilterCollectionOfMapEntry(filter, targetClass, expected);
 		testFilterMap(filter, targetClass, expected);
@@ -225,6 +265,11 @@ public class ForClassFilterTest {
 		testFilterObject(filter, targetClass, expected);
 	}
 
+	private void testFilterIndex(ForClassFilter filter, Class<?> targetClass, String... expected) {
+		Map<String, Object> actual = filter.index(this.beans).apply(targetClass);
+		assertThat(actual.keySet(), is(equalToSetOf(expected)));
+	}
+
 	private void testFilterCollection(ForClassFilter filter, Class<?> targetClass, String... expected) {
 		Collection<Object> actual = filter.apply(this.beans.values(), targetClass);
 		Set<String> actualNames = new HashSet<String>();
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.util;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Tests for {@link OrderedMapEntryComparator}.
+ * 
+ * @author Phillip Webb
+ */
+public class OrderedMapEntryComparatorTest {
+
+	@Test
+	public void shouldSortEntriesByValue() throws Exception {
+		Map<String, Object> map = new LinkedHashMap<String, Object>();
+		map.put("unordered", new Object());
+		map.put("annotated", new Annotated());
+		map.put("ordered", new OrderedObject());
+		List<Map.Entry<String, Object>> entries = new ArrayList<Map.Entry<String, Object>>(map.entrySet());
+		Collections.sort(entries, new OrderedMapEntryComparator());
+		List<String> names = new ArrayList<String>();
+		for (Map.Entry<String, Object> entry : entries) {
+			names.add(entry.getKey());
+		}
+		assertThat(names, is(equalTo(Arrays.asList("ordered", "annotated", "unordered"))));
+	}
+
+	@Order(2)
+	private static class Annotated {
+	}
+
+	private static class OrderedObject implements Ordered {
+		public int getOrder() {
+			return 1;
+		}
+	}
+}
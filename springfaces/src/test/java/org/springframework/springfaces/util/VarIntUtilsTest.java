@@ -0,0 +1,95 @@
+/*
+ * Copyright 2010-2012 the original author or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.springfaces.util;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Tests for {@link VarIntUtils}.
+ * 
+ * @author Phillip Webb
+ */
+public class VarIntUtilsTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	@Test
+	public void shouldWriteSmallValuesAsSingleByte() throws Exception {
+		assertThat(writeLong(0).length, is(1));
+		assertThat(writeLong(-1).length, is(1));
+		assertThat(writeLong(63).length, is(1));
+		assertThat(writeLong(-64).length, is(1));
+		assertThat(writeLong(64).length, is(2));
+	}
+
+	@Test
+	public void shouldReadWrittenLongs() throws Exception {
+		long[] values = { 0, 1, -1, 127, 128, -129, 300, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE,
+				Long.MIN_VALUE };
+		for (long value : values) {
+			assertThat(VarIntUtils.readLong(input(writeLong(value))), is(value));
+		}
+	}
+
+	@Test
+	public void shouldReadWrittenInts() throws Exception {
+		int[] values = { 0, 1, -1, 1000, Integer.MAX_VALUE, Integer.MIN_VALUE };
+		for (int value : values) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			VarIntUtils.writeInt(new DataOutputStream(bytes), value);
+			assertThat(VarIntUtils.readInt(input(bytes.toByteArray())), is(value));
+		}
+	}
+
+	@Test
+	public void shouldFailToReadIntOutOfRange() throws Exception {
+		this.thrown.expect(StreamCorruptedException.class);
+		VarIntUtils.readInt(input(writeLong(Long.MAX_VALUE)));
+	}
+
+	@Test
+	public void shouldFailToReadMalformedValue() throws Exception {
+		byte[] bytes = new byte[11];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) 0xFF;
+		}
+		this.thrown.expect(StreamCorruptedException.class);
+		VarIntUtils.readLong(input(bytes));
+	}
+
+	private byte[] writeLong(long value) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		VarIntUtils.writeLong(new DataOutputStream(bytes), value);
+		return bytes.toByteArray();
+	}
+
+	private DataInputStream input(byte[] bytes) {
+		return new DataInputStream(new ByteArrayInputStream(bytes));
+	}
+}
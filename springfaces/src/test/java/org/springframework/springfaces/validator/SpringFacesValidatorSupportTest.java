@@ -40,6 +40,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.springfaces.FacesContextSetter;
 import org.springframework.springfaces.SpringFacesMocks;
+import org.springframework.springfaces.bean.ConditionalForClass;
 import org.springframework.springfaces.bean.ForClass;
 import org.springframework.web.context.support.StaticWebApplicationContext;
 
@@ -148,6 +149,65 @@ public class SpringFacesValidatorSupportTest {
 		assertThat(((MockFacesValidatorForClass) this.applicationContext.getBean("b2")).isValidated(), is(true));
 	}
 
+	@Test
+	public void shouldUseForClassValidatorsForEachValueType() throws Exception {
+		this.applicationContext.registerSingleton("b1", MockValidatorForClass.class);
+		this.applicationContext.registerSingleton("b2", MockFacesValidatorForOtherClass.class);
+		Application application = createWrappedApplication();
+		Validator validator = application.createValidator(SpringFacesValidatorSupport.DefaultValidator.VALIDATOR_ID);
+		UIComponent component = mock(UIComponent.class);
+		validator.validate(this.facesContext, component, new Example());
+		assertThat(((MockValidatorForClass) this.applicationContext.getBean("b1")).isValidated(), is(true));
+		assertThat(((MockFacesValidatorForOtherClass) this.applicationContext.getBean("b2")).isValidated(), is(false));
+		validator.validate(this.facesContext, component, new OtherExample());
+		assertThat(((MockFacesValidatorForOtherClass) this.applicationContext.getBean("b2")).isValidated(), is(true));
+	}
+
+	@Test
+	public void shouldCacheValidatorChain() throws Exception {
+		this.applicationContext.registerSingleton("b1", MockValidatorForClass.class);
+		this.applicationContext.registerSingleton("b2", MockFacesValidatorForClass.class);
+		createWrappedApplication();
+		SpringFacesValidatorSupport.ValidatorChain chain = this.validatorSupport.getValidatorChain(Example.class);
+		assertThat(chain.getValidators().size(), is(2));
+		assertThat(this.validatorSupport.getValidatorChain(Example.class), is(sameInstance(chain)));
+		assertThat(chain.getValidators().contains(this.applicationContext.getBean("b2")), is(true));
+	}
+
+	@Test
+	public void shouldRecreateValidatorChainOnRefresh() throws Exception {
+		createWrappedApplication();
+		SpringFacesValidatorSupport.ValidatorChain chain = this.validatorSupport.getValidatorChain(Example.class);
+		assertThat(chain.getValidators().size(), is(0));
+		this.applicationContext.registerSingleton("b1", MockValidatorForClass.class);
+		this.validatorSupport.onApplicationEvent(new ContextRefreshedEvent(this.applicationContext));
+		assertThat(this.validatorSupport.getValidatorChain(Example.class).getValidators().size(), is(1));
+	}
+
+	@Test
+	public void shouldReplaceStaleValidatorChain() throws Exception {
+		this.applicationContext.registerSingleton("b1", MockConditionalValidator.class);
+		createWrappedApplication();
+		MockConditionalValidator bean = (MockConditionalValidator) this.applicationContext.getBean("b1");
+		assertThat(this.validatorSupport.getValidatorChain(Example.class).getValidators().size(), is(1));
+		bean.setForClass(false);
+		SpringFacesValidatorSupport.ValidatorChain chain = this.validatorSupport.getValidatorChain(Example.class);
+		assertThat(chain.getValidators().size(), is(0));
+		assertThat(this.validatorSupport.getValidatorChain(Example.class), is(sameInstance(chain)));
+	}
+
+	@Test
+	public void shouldUsePrototypeForClassValidators() throws Exception {
+		this.applicationContext.registerPrototype("b1", MockFacesValidatorForClass.class);
+		Application application = createWrappedApplication();
+		SpringFacesValidatorSupport.ValidatorChain chain = this.validatorSupport.getValidatorChain(Example.class);
+		assertThat(chain.getValidators().get(0), is((Object) "b1"));
+		Validator validator = application.createValidator(SpringFacesValidatorSupport.DefaultValidator.VALIDATOR_ID);
+		UIComponent component = mock(UIComponent.class);
+		validator.validate(this.facesContext, component, new Example());
+		validator.validate(this.facesContext, component, new Example());
+	}
+
 	@Test
 	public void shouldDefaultValidateNull() throws Exception {
 		Application application = createWrappedApplication();
@@ -164,6 +224,9 @@ public class SpringFacesValidatorSupportTest {
 	private static class Example {
 	}
 
+	private static class OtherExample {
+	}
+
 	private static class MockValidator implements org.springframework.springfaces.validator.Validator<Example> {
 		private boolean validated;
 
@@ -192,7 +255,24 @@ public class SpringFacesValidatorSupportTest {
 	private static class MockValidatorForClass extends MockValidator {
 	}
 
+	private static class MockConditionalValidator extends MockFacesValidator implements ConditionalForClass {
+
+		private boolean forClass = true;
+
+		public boolean isForClass(Class<?> targetClass) {
+			return this.forClass;
+		}
+
+		public void setForClass(boolean forClass) {
+			this.forClass = forClass;
+		}
+	}
+
 	@ForClass(Example.class)
 	private static class MockFacesValidatorForClass extends MockFacesValidator {
 	}
+
+	@ForClass(OtherExample.class)
+	private static class MockFacesValidatorForOtherClass extends MockFacesValidator {
+	}
 }